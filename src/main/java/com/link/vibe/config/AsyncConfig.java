@@ -0,0 +1,75 @@
+package com.link.vibe.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 Vibe 생성 전용 실행기. 포화 시 TaskRejectedException으로 즉시 거절한다.
+ * spring.threads.virtual.enabled 값에 따라 플랫폼 스레드 풀 또는 가상 스레드 실행기를 사용한다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean("vibeGenerationExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor vibeGenerationExecutor(
+            @Value("${vibe.async.core-pool-size:8}") int corePoolSize,
+            @Value("${vibe.async.max-pool-size:32}") int maxPoolSize,
+            @Value("${vibe.async.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("vibe-gen-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만든다. 스레드 수 대신 동시 실행 수(virtual-concurrency-limit)로 상한을 둔다.
+     */
+    @Bean("vibeGenerationExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor vibeGenerationExecutorVirtual(
+            @Value("${vibe.async.virtual-concurrency-limit:2000}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vibe-gen-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    /**
+     * 헤지 요청 경쟁을 위한 OpenAI 호출 실행기. 동시 실행 수는 AdaptiveConcurrencyLimiter가 제한하므로 별도 상한을 두지 않는다.
+     */
+    @Bean("openAiCallExecutor")
+    public AsyncTaskExecutor openAiCallExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("openai-call-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    /**
+     * Vibe 완료 후 추천 아이템 기록 실행기. 추천은 부가 기능이라 상한(concurrency-limit)을 넘기면 거절하고 건너뛴다.
+     */
+    @Bean("itemRecommendExecutor")
+    public AsyncTaskExecutor itemRecommendExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${recommendation.record.concurrency-limit:64}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("item-recommend-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.link.vibe.config;
+
+import com.link.vibe.domain.option.entity.OptionCacheRegions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 선택지 2차 캐시 리전별 적중률 게이지 (hibernate.cache.region.hit.ratio{region}).
+ * 요청/적중/미스 카운터는 hibernate-micrometer가 hibernate.second.level.cache.requests로 따로 내보낸다.
+ * hibernate.generate_statistics가 꺼져 있으면 값은 0으로 남는다.
+ */
+@Configuration
+public class HibernateCacheMetricsConfig {
+
+    @Bean
+    public MeterBinder optionCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> OptionCacheRegions.ALL.forEach(region ->
+                Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                        .tag("region", region)
+                        .description("2차 캐시 리전 적중률 (hit / (hit + miss))")
+                        .register(registry));
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return 0;
+        }
+        long hits = regionStatistics.getHitCount();
+        long total = hits + regionStatistics.getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
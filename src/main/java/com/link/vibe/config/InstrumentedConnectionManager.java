@@ -0,0 +1,70 @@
+package com.link.vibe.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 커넥션 임대(lease) 대기 시간과 커넥션 재사용 여부를 기록하는 풀 매니저.
+ * 임대받은 엔드포인트가 이미 연결되어 있으면 keep-alive 커넥션을 재사용한 것으로 본다.
+ * <pre>
+ * {name}.pool.lease                       — 임대 대기 시간 (Timer)
+ * {name}.connections{reused=true|false}   — 재사용/신규 커넥션 수
+ * {name}.connections.reuse.ratio          — 재사용 비율
+ * </pre>
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer leaseTimer;
+    private final Counter reusedCounter;
+    private final Counter newCounter;
+
+    public InstrumentedConnectionManager(MeterRegistry meterRegistry, String name) {
+        this.leaseTimer = Timer.builder(name + ".pool.lease")
+                .description("커넥션 풀 임대 대기 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.reusedCounter = Counter.builder(name + ".connections").tag("reused", "true")
+                .description("keep-alive로 재사용된 커넥션 수").register(meterRegistry);
+        this.newCounter = Counter.builder(name + ".connections").tag("reused", "false")
+                .description("새로 연결한 커넥션 수").register(meterRegistry);
+        Gauge.builder(name + ".connections.reuse.ratio", this, InstrumentedConnectionManager::reuseRatio)
+                .description("임대된 커넥션 중 재사용 비율").register(meterRegistry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                ConnectionEndpoint endpoint = delegate.get(timeout);
+                leaseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                (endpoint.isConnected() ? reusedCounter : newCounter).increment();
+                return endpoint;
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    private double reuseRatio() {
+        double total = reusedCounter.count() + newCounter.count();
+        return total == 0 ? 0 : reusedCounter.count() / total;
+    }
+}
@@ -1,20 +1,93 @@
 package com.link.vibe.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 @Configuration
 public class OpenAiConfig {
 
+    /**
+     * OpenAI 전용 keep-alive 커넥션 풀 (HTTP/1.1).
+     * 라우트별 상한과 유휴/만료 커넥션 정리를 적용한다.
+     * 메트릭: 풀 사용량 httpcomponents.httpclient.pool.*{httpclient=openai}, 임대 대기·재사용률 openai.http.*
+     */
     @Bean
-    public RestTemplate openAiRestTemplate(RestTemplateBuilder builder) {
+    @ConditionalOnProperty(name = "openai.http.http2-enabled", havingValue = "false", matchIfMissing = true)
+    public CloseableHttpClient openAiHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${openai.http.connect-timeout:PT10S}") Duration connectTimeout,
+            @Value("${openai.http.read-timeout:PT30S}") Duration readTimeout,
+            @Value("${openai.http.max-connections:200}") int maxConnections,
+            @Value("${openai.http.max-connections-per-route:100}") int maxConnectionsPerRoute,
+            @Value("${openai.http.lease-timeout:PT5S}") Duration leaseTimeout,
+            @Value("${openai.http.idle-eviction:PT30S}") Duration idleEviction,
+            @Value("${openai.http.time-to-live:PT5M}") Duration timeToLive) {
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(meterRegistry, "openai.http");
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.of(timeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "openai").bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(leaseTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate openAiRestTemplate(
+            RestTemplateBuilder builder,
+            ObjectProvider<CloseableHttpClient> openAiHttpClient,
+            @Value("${openai.http.connect-timeout:PT10S}") Duration connectTimeout,
+            @Value("${openai.http.read-timeout:PT30S}") Duration readTimeout) {
+        CloseableHttpClient pooledClient = openAiHttpClient.getIfAvailable();
+        ClientHttpRequestFactory requestFactory = pooledClient != null
+                ? new HttpComponentsClientHttpRequestFactory(pooledClient)
+                : http2RequestFactory(connectTimeout, readTimeout);
+
         return builder
-                .connectTimeout(Duration.ofSeconds(10))
-                .readTimeout(Duration.ofSeconds(30))
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+
+    /**
+     * openai.http.http2-enabled=true 일 때 사용. ALPN으로 HTTP/2를 협상하고 하나의 커넥션에 요청을 다중화한다.
+     */
+    private ClientHttpRequestFactory http2RequestFactory(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
                 .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
     }
 }
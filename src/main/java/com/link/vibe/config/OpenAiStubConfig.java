@@ -0,0 +1,33 @@
+package com.link.vibe.config;
+
+import com.link.vibe.global.stub.LatencyProfile;
+import com.link.vibe.global.stub.OpenAiStubServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * local 프로필에서 OpenAI 대역 서버를 함께 띄운다. openai.api-url이 이 서버를 가리키도록 application-local.yml에서 설정한다.
+ */
+@Configuration
+@Profile("local")
+public class OpenAiStubConfig {
+
+    @Bean(destroyMethod = "close")
+    public OpenAiStubServer openAiStubServer(
+            @Value("${openai.stub.port:18080}") int port,
+            @Value("${openai.stub.latency.type:lognormal}") String latencyType,
+            @Value("${openai.stub.latency.median:PT0.8S}") Duration median,
+            @Value("${openai.stub.latency.spread:0.5}") double spread,
+            @Value("${openai.stub.latency.max:PT20S}") Duration max,
+            @Value("${openai.stub.error-rate:0.0}") double errorRate,
+            @Value("${openai.stub.error-status:500}") int errorStatus,
+            @Value("${openai.stub.chunk-delay:PT0.02S}") Duration chunkDelay,
+            @Value("${openai.stub.chunk-size:8}") int chunkSize) {
+        return OpenAiStubServer.start(port, new OpenAiStubServer.Settings(
+                LatencyProfile.of(latencyType, median, spread, max), errorRate, errorStatus, chunkDelay, chunkSize));
+    }
+}
@@ -0,0 +1,35 @@
+package com.link.vibe.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "archive_vibes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchiveVibe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "archive_id")
+    private Long archiveId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId;
+
+    @Column(name = "folder_id")
+    private Long folderId;
+
+    @Column(name = "memo", length = 500)
+    private String memo;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
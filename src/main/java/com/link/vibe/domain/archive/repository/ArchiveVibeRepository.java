@@ -0,0 +1,24 @@
+package com.link.vibe.domain.archive.repository;
+
+import com.link.vibe.domain.archive.entity.ArchiveVibe;
+import com.link.vibe.domain.trend.repository.Engagement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArchiveVibeRepository extends JpaRepository<ArchiveVibe, Long> {
+
+    /**
+     * 트렌딩 tail 조회. (created_at, archive_id)가 커서보다 뒤인 아카이브를 그 순서로 limit건.
+     */
+    @Query(value = "SELECT av.archive_id AS eventId, av.result_id AS resultId, av.created_at AS occurredAt " +
+            "FROM archive_vibes av " +
+            "WHERE (av.created_at, av.archive_id) > (:afterTime, :afterId) " +
+            "ORDER BY av.created_at, av.archive_id LIMIT :limit",
+            nativeQuery = true)
+    List<Engagement> findEngagementsAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") long afterId,
+                                          @Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package com.link.vibe.domain.archive.repository;
+
+import com.link.vibe.domain.archive.entity.Favorite;
+import com.link.vibe.domain.trend.repository.Engagement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
+
+    /**
+     * 트렌딩 tail 조회. (created_at, favorite_id)가 커서보다 뒤인 즐겨찾기를 그 순서로 limit건.
+     */
+    @Query(value = "SELECT fv.favorite_id AS eventId, av.result_id AS resultId, fv.created_at AS occurredAt " +
+            "FROM favorites fv JOIN archive_vibes av ON av.archive_id = fv.archive_id " +
+            "WHERE (fv.created_at, fv.favorite_id) > (:afterTime, :afterId) " +
+            "ORDER BY fv.created_at, fv.favorite_id LIMIT :limit",
+            nativeQuery = true)
+    List<Engagement> findEngagementsAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") long afterId,
+                                          @Param("limit") int limit);
+}
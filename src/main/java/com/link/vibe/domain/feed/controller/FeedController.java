@@ -0,0 +1,92 @@
+package com.link.vibe.domain.feed.controller;
+
+import com.link.vibe.domain.feed.dto.FeedCreateRequest;
+import com.link.vibe.domain.feed.dto.FeedResponse;
+import com.link.vibe.domain.feed.dto.FeedTimelineResponse;
+import com.link.vibe.domain.feed.service.FeedService;
+import com.link.vibe.global.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Feed", description = "피드 API — feeds, follows 테이블 기반 홈 타임라인")
+@RestController
+@RequestMapping("/api/v1/feeds")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @Operation(
+            summary = "피드 게시",
+            description = """
+                    본인이 생성한 Vibe 결과를 피드로 게시합니다.
+
+                    공개 피드는 게시 직후 팔로워의 홈 타임라인에 들어갑니다.
+                    팔로워가 feed.celebrity.threshold명 이상인 계정의 피드는 팔로워가 타임라인을 조회할 때 합쳐집니다.
+                    비공개 피드는 본인 타임라인에만 보입니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Vibe 결과를 찾을 수 없음")
+    })
+    @PostMapping
+    public ApiResponse<FeedResponse> publish(
+            @Parameter(description = "사용자 ID (기본값: 1)", example = "1")
+            @RequestParam(defaultValue = "1") Long userId,
+            @Valid @RequestBody FeedCreateRequest request) {
+        return ApiResponse.ok(feedService.publish(userId, request));
+    }
+
+    @Operation(
+            summary = "피드 삭제",
+            description = "본인 피드를 삭제합니다 (deleted_at 기록). 삭제된 피드는 모든 타임라인에서 즉시 빠집니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "피드를 찾을 수 없음")
+    })
+    @DeleteMapping("/{feedId}")
+    public ApiResponse<Void> delete(
+            @Parameter(description = "사용자 ID (기본값: 1)", example = "1")
+            @RequestParam(defaultValue = "1") Long userId,
+            @Parameter(description = "피드 ID", example = "1")
+            @PathVariable Long feedId) {
+        feedService.delete(userId, feedId);
+        return ApiResponse.ok(null);
+    }
+
+    @Operation(
+            summary = "홈 타임라인 조회",
+            description = """
+                    본인과 팔로잉 계정의 피드를 최신순으로 조회합니다. 남의 비공개 피드와 삭제된 피드는 보이지 않습니다.
+
+                    사용자별 타임라인(최근 feed.timeline.capacity개)을 메모리에 두고 답하며,
+                    메모리에 없으면 DB에서 다시 만듭니다. 팔로우 변경은 최대 feed.timeline.ttl 뒤에 반영됩니다.
+
+                    **페이지네이션 (커서 기반):**
+                    - 첫 페이지는 cursor 없이 요청합니다.
+                    - 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달합니다. `hasNext=false`이면 마지막 페이지입니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기")
+    })
+    @GetMapping("/timeline")
+    public ApiResponse<FeedTimelineResponse> getTimeline(
+            @Parameter(description = "사용자 ID (기본값: 1)", example = "1")
+            @RequestParam(defaultValue = "1") Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.ok(feedService.getTimeline(userId, cursor, size));
+    }
+}
@@ -0,0 +1,17 @@
+package com.link.vibe.domain.feed.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "피드 게시 요청")
+public record FeedCreateRequest(
+        @Schema(description = "공유할 Vibe 결과 ID (본인이 생성한 결과만)", example = "1")
+        @NotNull Long resultId,
+
+        @Schema(description = "캡션", example = "비 오는 오후, 창가 자리")
+        @Size(max = 2000) String caption,
+
+        @Schema(description = "공개 여부. 비공개 피드는 본인 타임라인에만 보입니다.", example = "true")
+        @NotNull Boolean isPublic
+) {}
@@ -0,0 +1,22 @@
+package com.link.vibe.domain.feed.dto;
+
+import com.link.vibe.domain.feed.entity.Feed;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "피드 항목")
+public record FeedResponse(
+        @Schema(description = "피드 ID") Long feedId,
+        @Schema(description = "작성자 ID") Long userId,
+        @Schema(description = "Vibe 결과 ID") Long resultId,
+        @Schema(description = "캡션") String caption,
+        @Schema(description = "공개 여부") boolean isPublic,
+        @Schema(description = "게시 시각") LocalDateTime createdAt
+) {
+
+    public static FeedResponse from(Feed feed) {
+        return new FeedResponse(feed.getFeedId(), feed.getUserId(), feed.getResultId(), feed.getCaption(),
+                Boolean.TRUE.equals(feed.getIsPublic()), feed.getCreatedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.link.vibe.domain.feed.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "홈 타임라인 페이지")
+public record FeedTimelineResponse(
+        @Schema(description = "피드 항목 (최신순)") List<FeedResponse> items,
+        @Schema(description = "다음 페이지 커서. 다음 요청의 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)") String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부") boolean hasNext
+) {}
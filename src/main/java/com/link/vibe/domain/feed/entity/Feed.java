@@ -0,0 +1,72 @@
+package com.link.vibe.domain.feed.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feeds")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Feed {
+
+    // 타임라인은 feed_id 내림차순이 곧 최신순이다 (keyset 커서도 feed_id 하나)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "feed_id")
+    private Long feedId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId;
+
+    @Column(name = "caption", columnDefinition = "TEXT")
+    private String caption;
+
+    @Column(name = "is_public")
+    private Boolean isPublic;
+
+    @Column(name = "is_pinned")
+    private Boolean isPinned;
+
+    @Column(name = "view_count")
+    private Integer viewCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public Feed(Long userId, Long resultId, String caption, Boolean isPublic) {
+        this.userId = userId;
+        this.resultId = resultId;
+        this.caption = caption;
+        this.isPublic = Boolean.TRUE.equals(isPublic);
+        this.isPinned = false;
+        this.viewCount = 0;
+    }
+
+    /**
+     * 작성자 본인이거나, 공개이고 삭제되지 않은 피드만 viewerId에게 보인다.
+     */
+    public boolean isVisibleTo(Long viewerId) {
+        return deletedAt == null && (Boolean.TRUE.equals(isPublic) || userId.equals(viewerId));
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+}
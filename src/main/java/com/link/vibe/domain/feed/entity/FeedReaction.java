@@ -0,0 +1,32 @@
+package com.link.vibe.domain.feed.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feed_reactions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedReaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reaction_id")
+    private Long reactionId;
+
+    @Column(name = "feed_id", nullable = false)
+    private Long feedId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "reaction_type", nullable = false, length = 20)
+    private String reactionType;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package com.link.vibe.domain.feed.repository;
+
+import com.link.vibe.domain.feed.entity.FeedReaction;
+import com.link.vibe.domain.trend.repository.Engagement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FeedReactionRepository extends JpaRepository<FeedReaction, Long> {
+
+    /**
+     * 트렌딩 tail 조회. (created_at, reaction_id)가 커서보다 뒤인 반응을 그 순서로 limit건.
+     */
+    @Query(value = "SELECT fr.reaction_id AS eventId, f.result_id AS resultId, fr.created_at AS occurredAt " +
+            "FROM feed_reactions fr JOIN feeds f ON f.feed_id = fr.feed_id " +
+            "WHERE (fr.created_at, fr.reaction_id) > (:afterTime, :afterId) " +
+            "ORDER BY fr.created_at, fr.reaction_id LIMIT :limit",
+            nativeQuery = true)
+    List<Engagement> findEngagementsAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") long afterId,
+                                          @Param("limit") int limit);
+}
@@ -0,0 +1,38 @@
+package com.link.vibe.domain.feed.repository;
+
+import com.link.vibe.domain.feed.entity.Feed;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FeedRepository extends JpaRepository<Feed, Long> {
+
+    /**
+     * authorIds가 쓴 피드 중 viewerId에게 보이는 것(공개 또는 본인 작성, 미삭제)의 ID를 beforeId 미만에서 최신순으로.
+     * 타임라인 재구성, 팔로워가 많은 계정의 읽기 시 병합, 버퍼보다 오래된 페이지 조회에 함께 쓴다.
+     */
+    @Query("SELECT f.feedId FROM Feed f " +
+            "WHERE f.userId IN :authorIds AND f.feedId < :beforeId AND f.deletedAt IS NULL " +
+            "AND (f.isPublic = true OR f.userId = :viewerId) " +
+            "ORDER BY f.feedId DESC")
+    List<Long> findVisibleFeedIds(@Param("viewerId") Long viewerId,
+                                  @Param("authorIds") Collection<Long> authorIds,
+                                  @Param("beforeId") Long beforeId,
+                                  Limit limit);
+
+    List<Feed> findByFeedIdIn(Collection<Long> feedIds);
+
+    /**
+     * 작성자 본인의 미삭제 피드만 삭제 처리한다. 바뀐 행 수가 0이면 없거나 남의 피드이거나 이미 삭제된 것이다.
+     */
+    @Modifying
+    @Query("UPDATE Feed f SET f.deletedAt = :now, f.updatedAt = :now " +
+            "WHERE f.feedId = :feedId AND f.userId = :userId AND f.deletedAt IS NULL")
+    int softDelete(@Param("feedId") Long feedId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
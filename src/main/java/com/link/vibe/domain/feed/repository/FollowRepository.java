@@ -0,0 +1,23 @@
+package com.link.vibe.domain.feed.repository;
+
+import com.link.vibe.domain.feed.entity.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    @Query("SELECT f.followerId FROM Follow f WHERE f.followingId = :userId")
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    @Query("SELECT f.followingId FROM Follow f WHERE f.followerId = :userId")
+    List<Long> findFollowingIds(@Param("userId") Long userId);
+
+    /**
+     * 팔로워가 threshold명 이상인 계정. 이 계정들의 피드는 팔로워 타임라인에 쓰지 않고 읽을 때 병합한다.
+     */
+    @Query("SELECT f.followingId FROM Follow f GROUP BY f.followingId HAVING COUNT(f) >= :threshold")
+    List<Long> findAccountsWithFollowersAtLeast(@Param("threshold") long threshold);
+}
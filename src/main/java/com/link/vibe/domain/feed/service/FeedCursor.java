@@ -0,0 +1,28 @@
+package com.link.vibe.domain.feed.service;
+
+import com.link.vibe.global.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 타임라인 keyset 페이지네이션 커서. feed_id는 게시 순서대로 증가하므로 페이지 마지막 feedId 하나로 위치가 정해진다.
+ * 클라이언트에는 URL-safe Base64 문자열로 감싼 불투명한 토큰으로 전달한다.
+ */
+public record FeedCursor(long feedId) {
+
+    public static FeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new FeedCursor(Long.parseLong(raw));
+        } catch (RuntimeException e) {
+            throw new BusinessException("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(feedId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package com.link.vibe.domain.feed.service;
+
+import com.link.vibe.domain.feed.dto.FeedCreateRequest;
+import com.link.vibe.domain.feed.dto.FeedResponse;
+import com.link.vibe.domain.feed.dto.FeedTimelineResponse;
+import com.link.vibe.domain.feed.entity.Feed;
+import com.link.vibe.domain.feed.repository.FeedRepository;
+import com.link.vibe.domain.trend.service.FeedViewedEvent;
+import com.link.vibe.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
+    private final FeedWriter feedWriter;
+    private final FeedTimelines feedTimelines;
+    private final FeedRepository feedRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FeedResponse publish(Long userId, FeedCreateRequest request) {
+        Feed feed = feedWriter.publish(userId, request.resultId(), request.caption(), request.isPublic());
+        feedTimelines.onPublished(userId, feed.getFeedId(), Boolean.TRUE.equals(feed.getIsPublic()));
+        return FeedResponse.from(feed);
+    }
+
+    public void delete(Long userId, Long feedId) {
+        feedWriter.delete(userId, feedId);
+        feedTimelines.onDeleted(userId, feedId);
+    }
+
+    /**
+     * 타임라인에서 size+1개의 ID를 받아 다음 페이지 여부를 정하고, size개만 본문을 읽는다.
+     * 타임라인에 들어간 뒤 삭제·비공개로 바뀐 피드는 본문을 읽을 때 빠지므로 드물게 size보다 짧은 페이지가 나갈 수 있다.
+     * 응답에 담긴 남의 피드마다 {@link FeedViewedEvent}를 발행한다 (트렌딩 VIEW 참여).
+     */
+    public FeedTimelineResponse getTimeline(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+            throw new BusinessException("페이지 크기는 1~" + MAX_TIMELINE_PAGE_SIZE + " 사이여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        long beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : FeedCursor.decode(cursor).feedId();
+        List<Long> ids = feedTimelines.page(userId, beforeId, size + 1);
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        Map<Long, Feed> feeds = feedRepository.findByFeedIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Feed::getFeedId, Function.identity()));
+        List<Feed> visible = pageIds.stream()
+                .map(feeds::get)
+                .filter(Objects::nonNull)
+                .filter(feed -> feed.isVisibleTo(userId))
+                .toList();
+        visible.stream()
+                .filter(feed -> !feed.getUserId().equals(userId))
+                .forEach(feed -> eventPublisher.publishEvent(new FeedViewedEvent(feed.getResultId())));
+        List<FeedResponse> items = visible.stream().map(FeedResponse::from).toList();
+
+        return new FeedTimelineResponse(
+                items,
+                hasNext ? new FeedCursor(pageIds.get(pageIds.size() - 1)).encode() : null,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,218 @@
+package com.link.vibe.domain.feed.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.link.vibe.domain.feed.repository.FeedRepository;
+import com.link.vibe.domain.feed.repository.FollowRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 홈 타임라인(본인 + 팔로잉의 피드 ID)을 {@link TimelineBuffer}로 메모리에 들고 있는다.
+ * "팔로잉의 피드를 created_at 순으로" 매번 조회하면 팔로잉 수만큼 커지는 정렬을 요청마다 하게 되므로,
+ * 쓰기 때 팔로워 타임라인에 넣어 두고(fan-out on write) 읽기는 버퍼에서 답한다.
+ * <p>
+ * 팔로워가 celebrity-threshold명 이상인 계정은 쓰기 한 번에 수많은 버퍼를 건드리게 되므로 팬아웃하지 않고,
+ * 읽을 때 그 계정들의 최근 피드를 DB에서 읽어 병합한다(merge on read).
+ * <p>
+ * 버퍼는 이미 메모리에 있는 사용자에게만 팬아웃한다. 없는 사용자는 다음 조회 때 DB에서 다시 만든다.
+ * 재구성 쿼리는 캐시 락 밖에서 실행하고, 그동안 팬아웃된 피드는 따로 모았다가 버퍼를 넣은 뒤 채운다.
+ * 팔로우 변경은 타임라인을 새로 만들 때 반영되므로 최대 ttl만큼 늦을 수 있다.
+ */
+@Component
+public class FeedTimelines {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedTimelines.class);
+
+    private final FeedRepository feedRepository;
+    private final FollowRepository followRepository;
+    private final int capacity;
+    private final long celebrityThreshold;
+    private final Cache<Long, Timeline> timelines;
+    // 재구성 중인 사용자 → 그 사이 팬아웃됐지만 버퍼가 아직 없어 넣지 못한 피드 ID
+    private final Map<Long, Set<Long>> rebuilding = new ConcurrentHashMap<>();
+    private volatile Set<Long> celebrities = Set.of();
+
+    public FeedTimelines(FeedRepository feedRepository,
+                         FollowRepository followRepository,
+                         @Value("${feed.timeline.capacity:500}") int capacity,
+                         @Value("${feed.timeline.max-users:10000}") long maxUsers,
+                         @Value("${feed.timeline.ttl:PT30M}") Duration ttl,
+                         @Value("${feed.celebrity.threshold:10000}") long celebrityThreshold,
+                         MeterRegistry meterRegistry) {
+        this.feedRepository = feedRepository;
+        this.followRepository = followRepository;
+        this.capacity = capacity;
+        this.celebrityThreshold = celebrityThreshold;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, timelines, "feedTimeline");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshCelebrities();
+    }
+
+    /**
+     * 팔로워 많은 계정 목록을 다시 읽는다. 목록이 바뀌면 메모리의 타임라인을 모두 버린다
+     * (기준 아래로 내려온 계정의 피드는 팬아웃된 적이 없어 버퍼에 없기 때문이다).
+     */
+    @Scheduled(fixedDelayString = "${feed.celebrity.refresh-interval:PT10M}",
+            initialDelayString = "${feed.celebrity.refresh-interval:PT10M}")
+    public void refreshCelebrities() {
+        try {
+            Set<Long> latest = Set.copyOf(followRepository.findAccountsWithFollowersAtLeast(celebrityThreshold));
+            if (!latest.equals(celebrities)) {
+                celebrities = latest;
+                timelines.invalidateAll();
+                log.info("팔로워 많은 계정 목록 갱신 (accounts={}, threshold={}) — 타임라인 캐시 초기화",
+                        latest.size(), celebrityThreshold);
+            }
+        } catch (DataAccessException e) {
+            log.warn("팔로워 많은 계정 목록 갱신 실패 — 기존 목록 유지", e);
+        }
+    }
+
+    /**
+     * 커밋된 새 피드를 타임라인에 넣는다. 작성자 본인 타임라인에는 항상, 팔로워 타임라인에는 공개 피드이고
+     * 작성자가 팔로워 많은 계정이 아닐 때만 넣는다.
+     */
+    public void onPublished(Long authorId, Long feedId, boolean isPublic) {
+        addIfCached(authorId, feedId);
+        if (!isPublic || celebrities.contains(authorId)) {
+            return;
+        }
+        List<Long> followerIds = followRepository.findFollowerIds(authorId);
+        for (Long followerId : followerIds) {
+            addIfCached(followerId, feedId);
+        }
+    }
+
+    /**
+     * 삭제된 피드를 타임라인에서 뺀다. 조회 시에도 삭제 여부를 다시 거르므로 여기서 놓쳐도 노출되지는 않는다.
+     */
+    public void onDeleted(Long authorId, Long feedId) {
+        removeIfCached(authorId, feedId);
+        if (celebrities.contains(authorId)) {
+            return;
+        }
+        for (Long followerId : followRepository.findFollowerIds(authorId)) {
+            removeIfCached(followerId, feedId);
+        }
+    }
+
+    /**
+     * viewerId의 홈 타임라인에서 beforeId 미만 피드 ID를 최신순으로 최대 limit개.
+     * 버퍼, 버퍼보다 오래된 구간의 DB 조회, 팔로워 많은 팔로잉의 DB 조회를 합친다.
+     * 삭제·비공개 전환은 여기서 거르지 않으므로 호출자가 본문을 읽을 때 다시 확인한다.
+     */
+    public List<Long> page(Long viewerId, long beforeId, int limit) {
+        Timeline timeline = timeline(viewerId);
+        TimelineBuffer.Page buffered = timeline.buffer().page(beforeId, limit);
+
+        // ID 내림차순 병합 + 중복 제거
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        for (long id : buffered.ids()) {
+            merged.add(id);
+        }
+        if (buffered.ids().length < limit && !buffered.complete()) {
+            long olderThan = Math.min(beforeId, buffered.horizon());
+            merged.addAll(feedRepository.findVisibleFeedIds(
+                    viewerId, timeline.authorIds(), olderThan, Limit.of(limit - buffered.ids().length)));
+        }
+        if (!timeline.celebrityIds().isEmpty()) {
+            merged.addAll(feedRepository.findVisibleFeedIds(
+                    viewerId, timeline.celebrityIds(), beforeId, Limit.of(limit)));
+        }
+        return merged.stream().limit(limit).toList();
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 DB에서 재구성해 넣는다. Caffeine get(key, fn)은 재구성 쿼리가 끝날 때까지
+     * 같은 키(와 같은 해시 구간)의 팬아웃을 막으므로 쓰지 않는다. 같은 사용자의 동시 미스는 각자 재구성하고
+     * 먼저 넣은 쪽을 쓴다.
+     */
+    private Timeline timeline(Long userId) {
+        Timeline cached = timelines.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // 재구성 쿼리보다 먼저 등록해야 쿼리가 읽지 못한(아직 커밋 전인) 피드의 팬아웃을 받을 수 있다
+        Set<Long> missed = rebuilding.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet());
+        try {
+            Timeline built = rebuild(userId);
+            Timeline existing = timelines.asMap().putIfAbsent(userId, built);
+            Timeline timeline = existing != null ? existing : built;
+            // 버퍼가 들어간 뒤의 팬아웃은 버퍼로 바로 가므로 missed는 더 늘지 않는다
+            missed.forEach(timeline.buffer()::add);
+            return timeline;
+        } finally {
+            rebuilding.remove(userId, missed);
+        }
+    }
+
+    private void addIfCached(Long userId, Long feedId) {
+        // compute와 putIfAbsent는 키 단위로 원자적이므로, 버퍼가 들어가기 전의 팬아웃은 빠짐없이 missed에 남는다.
+        // 없는 키는 null을 돌려줘 만들지 않는다.
+        timelines.asMap().compute(userId, (id, timeline) -> {
+            if (timeline != null) {
+                timeline.buffer().add(feedId);
+            } else {
+                Set<Long> missed = rebuilding.get(id);
+                if (missed != null) {
+                    missed.add(feedId);
+                }
+            }
+            return timeline;
+        });
+    }
+
+    private void removeIfCached(Long userId, Long feedId) {
+        Timeline timeline = timelines.getIfPresent(userId);
+        if (timeline != null) {
+            timeline.buffer().remove(feedId);
+        }
+    }
+
+    private Timeline rebuild(Long userId) {
+        long start = System.nanoTime();
+        Set<Long> following = new HashSet<>(followRepository.findFollowingIds(userId));
+        following.remove(userId);
+
+        List<Long> authorIds = new ArrayList<>();
+        authorIds.add(userId);
+        List<Long> celebrityIds = new ArrayList<>();
+        for (Long followingId : following) {
+            (celebrities.contains(followingId) ? celebrityIds : authorIds).add(followingId);
+        }
+
+        List<Long> ids = feedRepository.findVisibleFeedIds(userId, authorIds, Long.MAX_VALUE, Limit.of(capacity));
+        log.debug("타임라인 재구성 (userId={}, authors={}, celebrities={}, feeds={}, {}ms)", userId,
+                authorIds.size(), celebrityIds.size(), ids.size(), (System.nanoTime() - start) / 1_000_000);
+        return new Timeline(new TimelineBuffer(capacity, ids, ids.size() >= capacity),
+                List.copyOf(authorIds), List.copyOf(celebrityIds));
+    }
+
+    /**
+     * @param authorIds    버퍼에 팬아웃되는 작성자 (본인 + 일반 팔로잉)
+     * @param celebrityIds 읽을 때 병합하는 팔로워 많은 팔로잉
+     */
+    private record Timeline(TimelineBuffer buffer, List<Long> authorIds, List<Long> celebrityIds) {}
+}
@@ -0,0 +1,43 @@
+package com.link.vibe.domain.feed.service;
+
+import com.link.vibe.domain.feed.entity.Feed;
+import com.link.vibe.domain.feed.repository.FeedRepository;
+import com.link.vibe.domain.vibe.repository.VibeResultRepository;
+import com.link.vibe.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 쓰기 트랜잭션. 타임라인 팬아웃은 커밋된 뒤에 해야 하므로 호출자({@link FeedService})가 이 메서드가 끝난 다음 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedWriter {
+
+    private final FeedRepository feedRepository;
+    private final VibeResultRepository vibeResultRepository;
+
+    @Transactional
+    public Feed publish(Long userId, Long resultId, String caption, boolean isPublic) {
+        if (!vibeResultRepository.existsByResultIdAndVibeSessionUserId(resultId, userId)) {
+            throw new BusinessException("해당 Vibe 결과를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+        }
+        return feedRepository.save(Feed.builder()
+                .userId(userId)
+                .resultId(resultId)
+                .caption(caption)
+                .isPublic(isPublic)
+                .build());
+    }
+
+    @Transactional
+    public void delete(Long userId, Long feedId) {
+        if (feedRepository.softDelete(feedId, userId, LocalDateTime.now()) == 0) {
+            throw new BusinessException("해당 피드를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+        }
+    }
+}
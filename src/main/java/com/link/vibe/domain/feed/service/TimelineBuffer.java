@@ -0,0 +1,142 @@
+package com.link.vibe.domain.feed.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 한 명의 타임라인 피드 ID를 최대 capacity개까지 들고 있는 링 버퍼. 스레드 안전하다.
+ * <p>
+ * 가득 차면 가장 먼저 들어온 ID를 덮어쓴다. 팬아웃은 커밋 순서대로 도착하지 않을 수 있으므로
+ * 버퍼 안의 순서는 믿지 않고 조회할 때 정렬한다 (수백 개라 정렬 비용은 무시할 만하다).
+ * <p>
+ * horizon 이상의 ID는 빠짐없이 들고 있다는 뜻이다. 재구성 때 DB 결과가 capacity로 잘렸거나
+ * 덮어쓰기로 밀려난 ID가 있으면 그 위로 올라가며, 그보다 오래된 페이지는 호출자가 DB에서 읽는다.
+ */
+public final class TimelineBuffer {
+
+    private static final long EMPTY = 0;
+
+    private final long[] slots;
+    private int next;
+    private int size;
+    private long horizon;
+
+    // 추가·조회 모두 수백 개 배열 연산이라 잠금 하나로 직렬화한다
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * @param newestFirst 재구성 시 DB에서 읽은 ID (최신순)
+     * @param truncated   DB에 이보다 오래된 피드가 더 있을 수 있으면 true
+     */
+    public TimelineBuffer(int capacity, List<Long> newestFirst, boolean truncated) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 양수여야 합니다.");
+        }
+        this.slots = new long[capacity];
+        int count = Math.min(capacity, newestFirst.size());
+        // 오래된 것부터 넣어 덮어쓰기 순서가 ID 순서와 맞도록 한다
+        for (int i = count - 1; i >= 0; i--) {
+            slots[next] = newestFirst.get(i);
+            next = (next + 1) % capacity;
+        }
+        this.size = count;
+        this.horizon = truncated || newestFirst.size() > capacity
+                ? (count == 0 ? Long.MAX_VALUE : newestFirst.get(count - 1))
+                : Long.MIN_VALUE;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이미 있거나 horizon보다 오래된 ID면 무시한다. 가득 차 있으면 가장 먼저 들어온 ID를 밀어낸다.
+     */
+    public void add(long feedId) {
+        lock.lock();
+        try {
+            if (feedId < horizon || indexOf(feedId) >= 0) {
+                return;
+            }
+            if (size == slots.length) {
+                long evicted = slots[next];
+                if (evicted != EMPTY) {
+                    horizon = Math.max(horizon, evicted + 1);
+                }
+            } else {
+                size++;
+            }
+            slots[next] = feedId;
+            next = (next + 1) % slots.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 삭제된 피드를 뺀다. 자리는 비워 두고 다음 덮어쓰기 때 채워진다.
+     */
+    public void remove(long feedId) {
+        lock.lock();
+        try {
+            int index = indexOf(feedId);
+            if (index >= 0) {
+                slots[index] = EMPTY;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * beforeId 미만 ID를 최신순으로 최대 limit개. horizon 아래는 담지 않는다.
+     */
+    public Page page(long beforeId, int limit) {
+        lock.lock();
+        try {
+            long[] candidates = new long[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                long id = slots[i];
+                if (id != EMPTY && id < beforeId && id >= horizon) {
+                    candidates[count++] = id;
+                }
+            }
+            Arrays.sort(candidates, 0, count);
+            int taken = Math.min(limit, count);
+            long[] ids = new long[taken];
+            for (int i = 0; i < taken; i++) {
+                ids[i] = candidates[count - 1 - i];
+            }
+            return new Page(ids, horizon);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int indexOf(long feedId) {
+        for (int i = 0; i < size; i++) {
+            if (slots[i] == feedId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param ids     최신순 피드 ID
+     * @param horizon 이 값 미만의 ID는 버퍼가 보장하지 않는다 (Long.MIN_VALUE면 전부 들고 있음)
+     */
+    public record Page(long[] ids, long horizon) {
+
+        public boolean complete() {
+            return horizon == Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.link.vibe.domain.item.controller;
+
+import com.link.vibe.domain.item.dto.ItemFacetResponse;
+import com.link.vibe.domain.item.service.ItemFacetService;
+import com.link.vibe.global.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Item", description = "아이템 브라우즈 API — coffee_details, lighting_details 속성 인덱스 기반")
+@RestController
+@RequestMapping("/api/v1/items")
+@RequiredArgsConstructor
+public class ItemController {
+
+    private final ItemFacetService itemFacetService;
+
+    @Operation(
+            summary = "속성 필터 및 속성별 건수 조회",
+            description = """
+                    카테고리 아이템을 속성으로 거르고, 속성마다 값별 건수를 함께 반환합니다.
+                    DB가 아니라 메모리의 속성 인덱스에서 계산하며, 인덱스는 아이템 변경을 주기적으로(item.attribute-index.refresh-interval) 반영합니다.
+
+                    **필터 (쿼리 파라미터):**
+                    - 같은 속성은 OR, 다른 속성끼리는 AND
+                    - 값 목록: `roastLevel=라이트&roastLevel=미디엄` 또는 `line=ORIGINAL,VERTUO`
+                    - 범위 (양끝 포함): `intensity=8..11`, `price=..900`, `kelvin=2700..3000`
+
+                    **속성:**
+                    - coffee: intensity(1~14), body, bitterness, acidity, roasting(1~5), roastLevel, decaf, line, price(범위만)
+                    - lighting: kelvin(범위만), brightness(0~100), lightingType, dynamic
+
+                    **facets:** 각 속성의 건수는 그 속성 자신의 조건을 뺀 나머지 조건으로 셉니다 (선택지를 바꿨을 때의 결과 수).
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "알 수 없는 필터 또는 잘못된 값"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "속성 필터를 지원하지 않는 카테고리")
+    })
+    @GetMapping("/{category}/facets")
+    public ApiResponse<ItemFacetResponse> getFacets(
+            @Parameter(description = "카테고리 키 (coffee, lighting)", example = "coffee")
+            @PathVariable String category,
+            @Parameter(description = "속성 필터와 limit(반환할 아이템 ID 수, 0~500, 기본 50)", example = "{\"intensity\": \"8..11\"}")
+            @RequestParam MultiValueMap<String, String> params) {
+        return ApiResponse.ok(itemFacetService.search(category, params));
+    }
+}
@@ -0,0 +1,19 @@
+package com.link.vibe.domain.item.dto;
+
+import com.link.vibe.domain.item.service.FacetIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "속성 필터 결과와 속성별 값 건수")
+public record ItemFacetResponse(
+        @Schema(description = "카테고리 키 (coffee, lighting)") String category,
+        @Schema(description = "조건에 맞는 활성 아이템 수") int total,
+        @Schema(description = "조건에 맞는 아이템 ID (아이템이 인덱스에 들어온 순서, 최대 limit개)") List<Long> itemIds,
+        @Schema(description = "속성 → 값 → 건수. 각 속성의 건수는 그 속성을 뺀 나머지 조건으로 셉니다") Map<String, Map<String, Integer>> facets
+) {
+    public static ItemFacetResponse of(String category, FacetIndex.Result result) {
+        return new ItemFacetResponse(category, result.total(), result.itemIds(), result.facetCounts());
+    }
+}
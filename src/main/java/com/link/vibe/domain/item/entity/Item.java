@@ -0,0 +1,51 @@
+package com.link.vibe.domain.item.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 대상 아이템 (영화/음악/커피/조명 등). 카테고리별 상세는 *_details 테이블에 있으며,
+ * 추천 인덱스는 {@link com.link.vibe.domain.item.repository.ItemRepository#findActiveItemFeatures}로 한 번에 읽는다.
+ */
+@Entity
+@Table(name = "items")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Item {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "item_key", nullable = false, unique = true, length = 100)
+    private String itemKey;
+
+    @Column(name = "brand", length = 100)
+    private String brand;
+
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    @Column(name = "external_link", length = 500)
+    private String externalLink;
+
+    @Column(name = "external_service", length = 50)
+    private String externalService;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,59 @@
+package com.link.vibe.domain.item.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Vibe 결과별 추천 아이템. match_score는 선택 조합과 아이템 임베딩의 코사인 유사도(0~100)이다.
+ */
+@Entity
+@Table(name = "vibe_items")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VibeItem {
+
+    // 결과 하나에 여러 행이 함께 저장되므로 시퀀스(V6)로 식별자를 미리 확보해 JDBC 배치로 INSERT 한다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vibe_items_seq")
+    @SequenceGenerator(name = "vibe_items_seq", sequenceName = "vibe_items_seq", allocationSize = 50)
+    @Column(name = "vibe_item_id")
+    private Long vibeItemId;
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "match_score", precision = 5, scale = 2)
+    private BigDecimal matchScore;
+
+    @Column(name = "recommend_reason", columnDefinition = "TEXT")
+    private String recommendReason;
+
+    @Column(name = "is_user_liked")
+    private Boolean isUserLiked;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Builder
+    public VibeItem(Long resultId, Long itemId, BigDecimal matchScore, String recommendReason) {
+        this.resultId = resultId;
+        this.itemId = itemId;
+        this.matchScore = matchScore;
+        this.recommendReason = recommendReason;
+        this.isUserLiked = false;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
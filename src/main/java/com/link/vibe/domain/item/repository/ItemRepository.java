@@ -0,0 +1,114 @@
+package com.link.vibe.domain.item.repository;
+
+import com.link.vibe.domain.item.entity.Item;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemRepository extends JpaRepository<Item, Long> {
+
+    /**
+     * 추천 인덱스 재생성 여부 판단용. 아이템/상세/번역을 바꿀 때는 items.updated_at도 갱신해야 반영된다.
+     */
+    @Query("SELECT COUNT(i) AS itemCount, MAX(i.updatedAt) AS lastUpdatedAt FROM Item i")
+    IndexVersion findIndexVersion();
+
+    /**
+     * 활성 아이템마다 임베딩에 쓸 텍스트(키, 번역 이름·설명, 카테고리별 상세 속성)를 이어 붙여 돌려준다.
+     * 카테고리 키, 아이템 ID 순이므로 같은 카테고리가 연속으로 나온다.
+     */
+    @Query(value = "SELECT i.item_id AS itemId, c.category_key AS categoryKey, " +
+            "concat_ws(' ', i.item_key, i.brand, t.item_value, t.description, " +
+            "CAST(md.genres AS TEXT), CAST(md.keywords AS TEXT), md.overview, " +
+            "CAST(mu.genres AS TEXT), mu.album_name, " +
+            "ld.color_temp_name, ld.lighting_type, ld.light_color, ld.space_context, ld.time_context, " +
+            "cd.sub_category, cd.roast_level, CAST(cd.aroma_profile AS TEXT), cd.flavor_notes) AS features " +
+            "FROM items i " +
+            "JOIN item_categories c ON c.category_id = i.category_id AND c.is_active = TRUE " +
+            "LEFT JOIN languages l ON l.language_code = :languageCode " +
+            "LEFT JOIN item_translations t ON t.item_id = i.item_id AND t.language_id = l.language_id " +
+            "LEFT JOIN movie_details md ON md.item_id = i.item_id " +
+            "LEFT JOIN music_details mu ON mu.item_id = i.item_id " +
+            "LEFT JOIN lighting_details ld ON ld.item_id = i.item_id " +
+            "LEFT JOIN coffee_details cd ON cd.item_id = i.item_id " +
+            "WHERE i.is_active = TRUE " +
+            "ORDER BY c.category_key, i.item_id",
+            nativeQuery = true)
+    List<ItemFeatures> findActiveItemFeatures(@Param("languageCode") String languageCode);
+
+    /**
+     * 상세 또는 아이템이 since 이후(같은 시각 포함) 바뀐 커피 캡슐의 필터 속성. 비활성 아이템도 돌려준다.
+     * updated_at이 둘 다 NULL인 행은 1970-01-01에 바뀐 것으로 보아 전체 적재(since = 1970-01-01)에 포함된다.
+     */
+    @Query(value = "SELECT i.item_id AS itemId, (i.is_active IS TRUE) AS active, " +
+            "GREATEST(i.updated_at, cd.updated_at) AS updatedAt, " +
+            "cd.intensity AS intensity, cd.body AS body, cd.bitterness AS bitterness, cd.acidity AS acidity, " +
+            "cd.roasting AS roasting, cd.roast_level AS roastLevel, cd.is_decaf AS decaf, cd.line AS line, " +
+            "cd.price_per_capsule_krw AS price " +
+            "FROM coffee_details cd " +
+            "JOIN items i ON i.item_id = cd.item_id " +
+            "WHERE COALESCE(GREATEST(i.updated_at, cd.updated_at), TIMESTAMP '1970-01-01 00:00:00') >= :since " +
+            "ORDER BY i.item_id",
+            nativeQuery = true)
+    List<CoffeeAttributes> findCoffeeAttributesChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 상세 또는 아이템이 since 이후(같은 시각 포함) 바뀐 조명의 필터 속성. 비활성 아이템도 돌려준다.
+     * updated_at이 둘 다 NULL인 행은 1970-01-01에 바뀐 것으로 보아 전체 적재(since = 1970-01-01)에 포함된다.
+     */
+    @Query(value = "SELECT i.item_id AS itemId, (i.is_active IS TRUE) AS active, " +
+            "GREATEST(i.updated_at, ld.updated_at) AS updatedAt, " +
+            "ld.color_temp_kelvin AS kelvin, ld.brightness_percent AS brightness, " +
+            "ld.lighting_type AS lightingType, ld.is_dynamic AS dynamic " +
+            "FROM lighting_details ld " +
+            "JOIN items i ON i.item_id = ld.item_id " +
+            "WHERE COALESCE(GREATEST(i.updated_at, ld.updated_at), TIMESTAMP '1970-01-01 00:00:00') >= :since " +
+            "ORDER BY i.item_id",
+            nativeQuery = true)
+    List<LightingAttributes> findLightingAttributesChangedSince(@Param("since") LocalDateTime since);
+
+    @Query(value = "SELECT COUNT(*) FROM coffee_details", nativeQuery = true)
+    long countCoffeeDetails();
+
+    @Query(value = "SELECT COUNT(*) FROM lighting_details", nativeQuery = true)
+    long countLightingDetails();
+
+    interface IndexVersion {
+        long getItemCount();
+        LocalDateTime getLastUpdatedAt();
+    }
+
+    interface ItemFeatures {
+        Long getItemId();
+        String getCategoryKey();
+        String getFeatures();
+    }
+
+    interface CoffeeAttributes {
+        Long getItemId();
+        Boolean getActive();
+        LocalDateTime getUpdatedAt();
+        Integer getIntensity();
+        Integer getBody();
+        Integer getBitterness();
+        Integer getAcidity();
+        Integer getRoasting();
+        String getRoastLevel();
+        Boolean getDecaf();
+        String getLine();
+        Integer getPrice();
+    }
+
+    interface LightingAttributes {
+        Long getItemId();
+        Boolean getActive();
+        LocalDateTime getUpdatedAt();
+        Integer getKelvin();
+        Integer getBrightness();
+        String getLightingType();
+        Boolean getDynamic();
+    }
+}
@@ -0,0 +1,7 @@
+package com.link.vibe.domain.item.repository;
+
+import com.link.vibe.domain.item.entity.VibeItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface VibeItemRepository extends JpaRepository<VibeItem, Long> {
+}
@@ -0,0 +1,289 @@
+package com.link.vibe.domain.item.service;
+
+import java.util.*;
+
+/**
+ * 한 카테고리 아이템 속성의 컬럼형 인덱스. 행 번호는 아이템이 처음 들어온 순서로 정해지며 바뀌지 않는다.
+ * <ul>
+ *   <li>ENUM, SMALL_INT — 값마다 행 BitSet. 범위 조건은 범위 안 값들의 BitSet OR</li>
+ *   <li>SORTED — 값이 넓게 퍼진 정수(색온도, 가격). (값, 행)을 값 순으로 정렬한 배열을 이분 탐색</li>
+ * </ul>
+ * 조건은 속성 안에서 OR, 속성끼리 AND이며 BitSet 연산만으로 계산한다.
+ * 인스턴스는 읽기 전용이고 {@link #apply(List)}는 바뀐 행만 고친 새 인스턴스를 돌려준다 (copy-on-write).
+ */
+public final class FacetIndex {
+
+    public enum Kind { ENUM, SMALL_INT, SORTED }
+
+    public record Facet(String name, Kind kind) {}
+
+    /**
+     * 아이템 한 건의 속성 값. values의 값은 Integer, String, Boolean 또는 null.
+     */
+    public record Row(long itemId, boolean active, Map<String, Object> values) {}
+
+    public sealed interface Condition permits AnyOf, Between {}
+
+    /** 값 중 하나와 같음 (ENUM, SMALL_INT) */
+    public record AnyOf(Set<String> values) implements Condition {}
+
+    /** min 이상 max 이하. null이면 그쪽은 제한 없음 (SMALL_INT, SORTED) */
+    public record Between(Integer min, Integer max) implements Condition {
+        boolean contains(int value) {
+            return (min == null || value >= min) && (max == null || value <= max);
+        }
+    }
+
+    /**
+     * @param facetCounts 속성 → 값 → 건수. 각 속성의 건수는 그 속성 자신의 조건을 뺀 나머지 조건으로 센다
+     */
+    public record Result(int total, List<Long> itemIds, Map<String, Map<String, Integer>> facetCounts) {}
+
+    private static final int NULL = Integer.MIN_VALUE;
+
+    private final List<Facet> facets;
+    private final Map<Long, Integer> rowOf;
+    private final long[] itemIds;
+    private final BitSet live;
+    private final Map<String, Map<String, BitSet>> bitmaps;
+    private final Map<String, String[]> discreteValues;
+    private final Map<String, int[]> sortedValues;
+    private final Map<String, SortedColumn> sortedColumns;
+
+    private FacetIndex(List<Facet> facets, Map<Long, Integer> rowOf, long[] itemIds, BitSet live,
+                       Map<String, Map<String, BitSet>> bitmaps, Map<String, String[]> discreteValues,
+                       Map<String, int[]> sortedValues) {
+        this.facets = facets;
+        this.rowOf = rowOf;
+        this.itemIds = itemIds;
+        this.live = live;
+        this.bitmaps = bitmaps;
+        this.discreteValues = discreteValues;
+        this.sortedValues = sortedValues;
+        this.sortedColumns = new HashMap<>();
+        sortedValues.forEach((name, values) -> sortedColumns.put(name, SortedColumn.of(values, live)));
+    }
+
+    public static FacetIndex empty(List<Facet> facets) {
+        Map<String, Map<String, BitSet>> bitmaps = new HashMap<>();
+        Map<String, String[]> discreteValues = new HashMap<>();
+        Map<String, int[]> sortedValues = new HashMap<>();
+        for (Facet facet : facets) {
+            if (facet.kind() == Kind.SORTED) {
+                sortedValues.put(facet.name(), new int[0]);
+            } else {
+                bitmaps.put(facet.name(), new HashMap<>());
+                discreteValues.put(facet.name(), new String[0]);
+            }
+        }
+        return new FacetIndex(List.copyOf(facets), Map.of(), new long[0], new BitSet(), bitmaps, discreteValues, sortedValues);
+    }
+
+    public List<Facet> facets() {
+        return facets;
+    }
+
+    public Optional<Facet> facet(String name) {
+        return facets.stream().filter(f -> f.name().equals(name)).findFirst();
+    }
+
+    /**
+     * 비활성 행을 포함한 전체 행 수.
+     */
+    public int size() {
+        return itemIds.length;
+    }
+
+    public int liveCount() {
+        return live.cardinality();
+    }
+
+    /**
+     * 바뀐 아이템을 반영한 새 인덱스. 처음 보는 아이템은 행을 덧붙이고, 있던 아이템은 이전 값의 비트를 지운 뒤 다시 세운다.
+     * 내용이 같은 행만 들어오면 this를 그대로 돌려준다.
+     */
+    public FacetIndex apply(List<Row> rows) {
+        List<Row> changed = rows.stream().filter(row -> !unchanged(row)).toList();
+        if (changed.isEmpty()) {
+            return this;
+        }
+
+        Map<Long, Integer> rowOf = new HashMap<>(this.rowOf);
+        for (Row row : changed) {
+            rowOf.putIfAbsent(row.itemId(), rowOf.size());
+        }
+        int size = rowOf.size();
+
+        long[] itemIds = Arrays.copyOf(this.itemIds, size);
+        BitSet live = (BitSet) this.live.clone();
+        Map<String, Map<String, BitSet>> bitmaps = new HashMap<>();
+        this.bitmaps.forEach((name, values) -> {
+            Map<String, BitSet> copy = new HashMap<>();
+            values.forEach((value, bits) -> copy.put(value, (BitSet) bits.clone()));
+            bitmaps.put(name, copy);
+        });
+        Map<String, String[]> discreteValues = new HashMap<>();
+        this.discreteValues.forEach((name, values) -> discreteValues.put(name, Arrays.copyOf(values, size)));
+        Map<String, int[]> sortedValues = new HashMap<>();
+        this.sortedValues.forEach((name, values) -> {
+            int[] copy = Arrays.copyOf(values, size);
+            Arrays.fill(copy, values.length, size, NULL);
+            sortedValues.put(name, copy);
+        });
+
+        for (Row row : changed) {
+            int r = rowOf.get(row.itemId());
+            itemIds[r] = row.itemId();
+            live.set(r, row.active());
+            for (Facet facet : facets) {
+                if (facet.kind() == Kind.SORTED) {
+                    sortedValues.get(facet.name())[r] = intValue(row.values().get(facet.name()));
+                    continue;
+                }
+                Map<String, BitSet> values = bitmaps.get(facet.name());
+                String[] column = discreteValues.get(facet.name());
+                String previous = column[r];
+                if (previous != null) {
+                    BitSet bits = values.get(previous);
+                    bits.clear(r);
+                    if (bits.isEmpty()) values.remove(previous);
+                }
+                String value = stringValue(row.values().get(facet.name()));
+                column[r] = value;
+                if (value != null) {
+                    values.computeIfAbsent(value, k -> new BitSet()).set(r);
+                }
+            }
+        }
+        return new FacetIndex(facets, rowOf, itemIds, live, bitmaps, discreteValues, sortedValues);
+    }
+
+    /**
+     * 조건을 모두 만족하는 활성 아이템 (행 순서로 최대 limit개)과 ENUM/SMALL_INT 속성별 값 건수.
+     */
+    public Result search(Map<String, Condition> conditions, int limit) {
+        Map<String, BitSet> filters = new LinkedHashMap<>();
+        conditions.forEach((name, condition) -> {
+            Facet facet = facet(name).orElseThrow(() -> new IllegalArgumentException("알 수 없는 속성: " + name));
+            filters.put(name, filter(facet, condition));
+        });
+
+        BitSet matched = (BitSet) live.clone();
+        filters.values().forEach(matched::and);
+        List<Long> ids = matched.stream().limit(limit).mapToObj(r -> itemIds[r]).toList();
+
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        for (Facet facet : facets) {
+            if (facet.kind() == Kind.SORTED) continue;
+            BitSet base = (BitSet) live.clone();
+            filters.forEach((name, bits) -> {
+                if (!name.equals(facet.name())) base.and(bits);
+            });
+            Map<String, Integer> facetCounts = facet.kind() == Kind.SMALL_INT
+                    ? new TreeMap<>(Comparator.comparingInt(Integer::parseInt))
+                    : new TreeMap<>();
+            bitmaps.get(facet.name()).forEach((value, bits) -> {
+                BitSet both = (BitSet) bits.clone();
+                both.and(base);
+                int count = both.cardinality();
+                if (count > 0) facetCounts.put(value, count);
+            });
+            counts.put(facet.name(), facetCounts);
+        }
+        return new Result(matched.cardinality(), ids, counts);
+    }
+
+    private BitSet filter(Facet facet, Condition condition) {
+        BitSet result = new BitSet();
+        switch (condition) {
+            case AnyOf anyOf -> {
+                if (facet.kind() == Kind.SORTED) {
+                    throw new IllegalArgumentException(facet.name() + "은(는) 범위로만 조회할 수 있습니다.");
+                }
+                Map<String, BitSet> values = bitmaps.get(facet.name());
+                anyOf.values().forEach(value -> {
+                    BitSet bits = values.get(value);
+                    if (bits != null) result.or(bits);
+                });
+            }
+            case Between between -> {
+                switch (facet.kind()) {
+                    case ENUM -> throw new IllegalArgumentException(facet.name() + "은(는) 범위로 조회할 수 없습니다.");
+                    case SMALL_INT -> bitmaps.get(facet.name()).forEach((value, bits) -> {
+                        if (between.contains(Integer.parseInt(value))) result.or(bits);
+                    });
+                    case SORTED -> sortedColumns.get(facet.name()).select(between, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean unchanged(Row row) {
+        Integer r = rowOf.get(row.itemId());
+        if (r == null || live.get(r) != row.active()) {
+            return false;
+        }
+        for (Facet facet : facets) {
+            Object value = row.values().get(facet.name());
+            boolean same = facet.kind() == Kind.SORTED
+                    ? sortedValues.get(facet.name())[r] == intValue(value)
+                    : Objects.equals(discreteValues.get(facet.name())[r], stringValue(value));
+            if (!same) return false;
+        }
+        return true;
+    }
+
+    private static String stringValue(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static int intValue(Object value) {
+        return value == null ? NULL : ((Number) value).intValue();
+    }
+
+    /**
+     * 활성 행 중 값이 있는 행을 (값, 행) 순으로 정렬한 두 배열.
+     */
+    private record SortedColumn(int[] values, int[] rows) {
+
+        static SortedColumn of(int[] columnValues, BitSet live) {
+            long[] packed = new long[live.cardinality()];
+            int n = 0;
+            for (int r = live.nextSetBit(0); r >= 0 && r < columnValues.length; r = live.nextSetBit(r + 1)) {
+                if (columnValues[r] != NULL) {
+                    packed[n++] = ((long) columnValues[r] << 32) | r;
+                }
+            }
+            Arrays.sort(packed, 0, n);
+            int[] values = new int[n];
+            int[] rows = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = (int) (packed[i] >> 32);
+                rows[i] = (int) packed[i];
+            }
+            return new SortedColumn(values, rows);
+        }
+
+        void select(Between between, BitSet target) {
+            int from = between.min() == null ? 0 : lowerBound(between.min());
+            int to = between.max() == null ? values.length
+                    : between.max() == Integer.MAX_VALUE ? values.length : lowerBound(between.max() + 1);
+            for (int i = from; i < to; i++) {
+                target.set(rows[i]);
+            }
+        }
+
+        // values[i] >= key 인 첫 위치
+        private int lowerBound(int key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < key) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+}
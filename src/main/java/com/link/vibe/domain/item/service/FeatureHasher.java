@@ -0,0 +1,75 @@
+package com.link.vibe.domain.item.service;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 텍스트를 고정 차원 float 벡터로 옮기는 feature hashing 임베딩.
+ * 단어와 단어 안의 글자 bigram(조사가 붙은 한국어 단어도 겹치도록)을 부호 있는 해시로 각 차원에 누적하고 L2 정규화한다.
+ * 아이템과 선택 조합이 같은 함수를 거치므로 두 벡터의 내적이 곧 코사인 유사도이다.
+ */
+public final class FeatureHasher {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float BIGRAM_WEIGHT = 0.5f;
+
+    private FeatureHasher() {
+    }
+
+    public static float[] embed(String text, int dimension) {
+        float[] vector = new float[dimension];
+        if (text != null) {
+            for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+                if (token.isEmpty()) continue;
+                add(vector, token, 1f);
+                if (token.length() > 2) {
+                    for (int i = 0; i + 2 <= token.length(); i++) {
+                        add(vector, token.substring(i, i + 2), BIGRAM_WEIGHT);
+                    }
+                }
+            }
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    /**
+     * 길이 1로 맞춘다. 영벡터는 그대로 둔다 (모든 아이템과의 유사도 0).
+     */
+    public static void normalize(float[] vector) {
+        double sum = 0;
+        for (float v : vector) {
+            sum += v * v;
+        }
+        if (sum == 0) return;
+        float scale = (float) (1 / Math.sqrt(sum));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+    public static float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static void add(float[] vector, String feature, float weight) {
+        int hash = mix(feature.hashCode());
+        int bucket = (hash & Integer.MAX_VALUE) % vector.length;
+        // 부호를 해시로 정해 충돌한 특성끼리 서로 상쇄되도록 한다 (기댓값 0)
+        vector[bucket] += (hash & 0x10000) == 0 ? weight : -weight;
+    }
+
+    // murmur3 fmix32 — String.hashCode의 하위 비트 편향을 푼다
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,173 @@
+package com.link.vibe.domain.item.service;
+
+import com.link.vibe.domain.item.repository.ItemRepository;
+import com.link.vibe.domain.item.service.FacetIndex.Facet;
+import com.link.vibe.domain.item.service.FacetIndex.Kind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 커피·조명 아이템의 필터 속성을 카테고리별 {@link FacetIndex}로 메모리에 들고 있는다.
+ * 브라우즈 필터와 속성별 건수를 JSONB가 섞인 상세 테이블 스캔 없이 BitSet 연산으로 답하기 위함이다.
+ * <p>
+ * 갱신은 증분이다. 카테고리마다 마지막으로 본 updated_at(아이템·상세 중 늦은 쪽) 이후 바뀐 행만 읽어
+ * 해당 행의 비트만 고친 새 인덱스로 참조를 교체한다. updated_at은 커밋 시각이 아니므로 overlap만큼 겹쳐 읽고,
+ * 내용이 같은 행은 {@link FacetIndex#apply(List)}가 건너뛴다.
+ * 삭제된 행은 증분으로 알 수 없으므로 인덱스 행 수가 상세 테이블 행 수와 다르면 그 카테고리만 전부 다시 만든다.
+ */
+@Component
+public class ItemAttributeIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemAttributeIndex.class);
+    // updated_at이 없는 행을 ItemRepository가 이 시각으로 취급하므로 전체 적재 기준과 같아야 한다
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static final String COFFEE = "coffee";
+    public static final String LIGHTING = "lighting";
+
+    static final List<Facet> COFFEE_FACETS = List.of(
+            new Facet("intensity", Kind.SMALL_INT),
+            new Facet("body", Kind.SMALL_INT),
+            new Facet("bitterness", Kind.SMALL_INT),
+            new Facet("acidity", Kind.SMALL_INT),
+            new Facet("roasting", Kind.SMALL_INT),
+            new Facet("roastLevel", Kind.ENUM),
+            new Facet("decaf", Kind.ENUM),
+            new Facet("line", Kind.ENUM),
+            new Facet("price", Kind.SORTED));
+
+    static final List<Facet> LIGHTING_FACETS = List.of(
+            new Facet("kelvin", Kind.SORTED),
+            new Facet("brightness", Kind.SMALL_INT),
+            new Facet("lightingType", Kind.ENUM),
+            new Facet("dynamic", Kind.ENUM));
+
+    private final ItemRepository itemRepository;
+    private final Duration overlap;
+
+    // 재적재 중 JDBC I/O가 일어나므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Map<String, FacetIndex> indexes = Map.of(
+            COFFEE, FacetIndex.empty(COFFEE_FACETS),
+            LIGHTING, FacetIndex.empty(LIGHTING_FACETS));
+    private final Map<String, LocalDateTime> watermarks = new HashMap<>();
+
+    public ItemAttributeIndex(ItemRepository itemRepository,
+                              @Value("${item.attribute-index.overlap:PT5M}") Duration overlap) {
+        this.itemRepository = itemRepository;
+        this.overlap = overlap;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${item.attribute-index.refresh-interval:PT1M}",
+            initialDelayString = "${item.attribute-index.refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("아이템 속성 인덱스 갱신 실패 — 기존 인덱스 유지", e);
+        }
+    }
+
+    /**
+     * 카테고리 키의 현재 인덱스. 속성 인덱스가 없는 카테고리면 empty.
+     */
+    public Optional<FacetIndex> index(String category) {
+        return Optional.ofNullable(indexes.get(category));
+    }
+
+    public Map<String, FacetIndex> reload() {
+        reloadLock.lock();
+        try {
+            if (itemRepository.findIndexVersion().getItemCount() == 0) {
+                return indexes;
+            }
+            Map<String, FacetIndex> current = indexes;
+            Map<String, FacetIndex> updated = new HashMap<>(current);
+            updated.put(COFFEE, sync(COFFEE, current.get(COFFEE),
+                    itemRepository::findCoffeeAttributesChangedSince, itemRepository::countCoffeeDetails,
+                    ItemAttributeIndex::coffeeRow, ItemRepository.CoffeeAttributes::getUpdatedAt));
+            updated.put(LIGHTING, sync(LIGHTING, current.get(LIGHTING),
+                    itemRepository::findLightingAttributesChangedSince, itemRepository::countLightingDetails,
+                    ItemAttributeIndex::lightingRow, ItemRepository.LightingAttributes::getUpdatedAt));
+            if (!updated.equals(current)) {
+                indexes = Map.copyOf(updated);
+            }
+            return indexes;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private <T> FacetIndex sync(String category, FacetIndex current,
+                                Function<LocalDateTime, List<T>> changedSince, LongSupplier detailCount,
+                                Function<T, FacetIndex.Row> toRow, Function<T, LocalDateTime> updatedAt) {
+        long start = System.nanoTime();
+        LocalDateTime watermark = watermarks.get(category);
+        boolean full = watermark == null;
+        List<T> changed = changedSince.apply(full ? EPOCH : watermark.minus(overlap));
+        FacetIndex updated = (full ? FacetIndex.empty(current.facets()) : current)
+                .apply(changed.stream().map(toRow).toList());
+
+        if (!full && updated.size() != detailCount.getAsLong()) {
+            full = true;
+            changed = changedSince.apply(EPOCH);
+            updated = FacetIndex.empty(current.facets()).apply(changed.stream().map(toRow).toList());
+        }
+
+        if (changed.isEmpty() && current.size() == 0) {
+            return current;
+        }
+
+        // 읽은 행이 없으면 워터마크를 두지 않아 다음에도 처음부터 읽는다 (빈 테이블이라 비용 없음)
+        changed.stream().map(updatedAt).filter(Objects::nonNull).max(Comparator.naturalOrder())
+                .filter(latest -> watermark == null || latest.isAfter(watermark))
+                .ifPresent(latest -> watermarks.put(category, latest));
+
+        if (updated != current) {
+            log.info("아이템 속성 인덱스 {} ({}, rows={}, active={}, changed={}, {}ms)", full ? "재구성" : "증분 갱신",
+                    category, updated.size(), updated.liveCount(), changed.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return updated;
+    }
+
+    private static FacetIndex.Row coffeeRow(ItemRepository.CoffeeAttributes a) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("intensity", a.getIntensity());
+        values.put("body", a.getBody());
+        values.put("bitterness", a.getBitterness());
+        values.put("acidity", a.getAcidity());
+        values.put("roasting", a.getRoasting());
+        values.put("roastLevel", a.getRoastLevel());
+        values.put("decaf", a.getDecaf());
+        values.put("line", a.getLine());
+        values.put("price", a.getPrice());
+        return new FacetIndex.Row(a.getItemId(), Boolean.TRUE.equals(a.getActive()), values);
+    }
+
+    private static FacetIndex.Row lightingRow(ItemRepository.LightingAttributes a) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("kelvin", a.getKelvin());
+        values.put("brightness", a.getBrightness());
+        values.put("lightingType", a.getLightingType());
+        values.put("dynamic", a.getDynamic());
+        return new FacetIndex.Row(a.getItemId(), Boolean.TRUE.equals(a.getActive()), values);
+    }
+}
@@ -0,0 +1,110 @@
+package com.link.vibe.domain.item.service;
+
+import com.link.vibe.domain.item.dto.ItemFacetResponse;
+import com.link.vibe.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 쿼리 파라미터를 {@link FacetIndex} 조건으로 바꿔 메모리 인덱스에서 필터·건수를 구한다 (DB 조회 없음).
+ * <pre>
+ * roastLevel=라이트&roastLevel=미디엄  값 중 하나 (쉼표로 이어 써도 됨)
+ * intensity=8..11                      범위 (양끝 포함, 한쪽 생략 가능: 8.. / ..11)
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemFacetService {
+
+    private static final String LIMIT_PARAM = "limit";
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+    private static final String RANGE = "..";
+
+    private final ItemAttributeIndex itemAttributeIndex;
+
+    public ItemFacetResponse search(String category, MultiValueMap<String, String> params) {
+        FacetIndex index = itemAttributeIndex.index(category)
+                .orElseThrow(() -> new BusinessException("속성 필터를 지원하지 않는 카테고리입니다: " + category, HttpStatus.NOT_FOUND));
+        int limit = limit(params.getFirst(LIMIT_PARAM));
+
+        Map<String, FacetIndex.Condition> conditions = new LinkedHashMap<>();
+        params.forEach((name, values) -> {
+            if (name.equals(LIMIT_PARAM)) return;
+            FacetIndex.Facet facet = index.facet(name)
+                    .orElseThrow(() -> new BusinessException("알 수 없는 필터입니다: " + name, HttpStatus.BAD_REQUEST));
+            conditions.put(name, condition(facet, values));
+        });
+        return ItemFacetResponse.of(category, index.search(conditions, limit));
+    }
+
+    private static FacetIndex.Condition condition(FacetIndex.Facet facet, List<String> params) {
+        List<String> values = params.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+        if (values.isEmpty()) {
+            throw new BusinessException(facet.name() + " 필터 값이 비어 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        boolean range = values.size() == 1 && values.get(0).contains(RANGE);
+        switch (facet.kind()) {
+            case ENUM -> {
+                if (range) {
+                    throw new BusinessException(facet.name() + " 필터는 범위로 조회할 수 없습니다.", HttpStatus.BAD_REQUEST);
+                }
+                return new FacetIndex.AnyOf(Set.copyOf(values));
+            }
+            case SMALL_INT -> {
+                if (range) return between(facet, values.get(0));
+                // 08 → 8처럼 인덱스에 저장된 표기로 맞춘다
+                return new FacetIndex.AnyOf(values.stream()
+                        .map(value -> String.valueOf(parseInt(facet, value)))
+                        .collect(Collectors.toSet()));
+            }
+            default -> {
+                if (range) return between(facet, values.get(0));
+                if (values.size() == 1) {
+                    int value = parseInt(facet, values.get(0));
+                    return new FacetIndex.Between(value, value);
+                }
+                throw new BusinessException(facet.name() + " 필터는 값 하나 또는 범위(min..max)로 조회합니다.", HttpStatus.BAD_REQUEST);
+            }
+        }
+    }
+
+    private static FacetIndex.Between between(FacetIndex.Facet facet, String value) {
+        int separator = value.indexOf(RANGE);
+        String min = value.substring(0, separator).trim();
+        String max = value.substring(separator + RANGE.length()).trim();
+        return new FacetIndex.Between(min.isEmpty() ? null : parseInt(facet, min), max.isEmpty() ? null : parseInt(facet, max));
+    }
+
+    private static int parseInt(FacetIndex.Facet facet, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(facet.name() + " 필터 값은 정수여야 합니다: " + value, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static int limit(String value) {
+        if (value == null) {
+            return DEFAULT_LIMIT;
+        }
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit >= 0 && limit <= MAX_LIMIT) {
+                return limit;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new BusinessException("limit은 0~" + MAX_LIMIT + " 사이여야 합니다.", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,248 @@
+package com.link.vibe.domain.item.service;
+
+import com.link.vibe.domain.item.entity.VibeItem;
+import com.link.vibe.domain.item.repository.ItemRepository;
+import com.link.vibe.domain.item.repository.VibeItemRepository;
+import com.link.vibe.domain.option.entity.*;
+import com.link.vibe.domain.option.service.OptionCatalog;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Vibe 결과에 어울리는 아이템을 골라 vibe_items에 기록한다.
+ * 선택 조합(기분·시간·날씨·공간·동반자)과 활성 아이템을 같은 {@link FeatureHasher} 임베딩으로 옮기고,
+ * 메모리의 {@link ItemVectorIndex}에서 카테고리별 top-k를 찾으므로 요청 경로에서 아이템을 DB에서 읽지 않는다.
+ * <p>
+ * 인덱스는 items가 바뀐 경우(개수·updated_at)에만 다시 만들어 참조를 한 번에 교체한다.
+ * 추천은 부가 기능이라 검색이 시간 예산(search.timeout)을 넘기거나 실패하면 기록하지 않고 넘어간다.
+ * 기록은 {@link VibeCompletedEvent}를 받아 itemRecommendExecutor에서 하므로 Vibe 생성 응답을 늦추지 않는다.
+ */
+@Component
+public class ItemRecommender {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemRecommender.class);
+    private static final int REASON_SIGNALS = 2;
+
+    private final ItemRepository itemRepository;
+    private final VibeItemRepository vibeItemRepository;
+    private final OptionCatalog optionCatalog;
+    private final int dimension;
+    private final int perCategory;
+    private final int chunkSize;
+    private final Duration searchTimeout;
+    // CPU만 쓰는 스캔이므로 코어 수만큼의 플랫폼 스레드로 제한한다
+    private final ExecutorService searchExecutor;
+    private final AsyncTaskExecutor recordExecutor;
+
+    // 재적재 중 JDBC I/O가 일어나므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile ItemVectorIndex index;
+    private List<Object> indexVersion = List.of();
+
+    public ItemRecommender(ItemRepository itemRepository,
+                           VibeItemRepository vibeItemRepository,
+                           OptionCatalog optionCatalog,
+                           @Value("${recommendation.index.dimension:128}") int dimension,
+                           @Value("${recommendation.per-category:3}") int perCategory,
+                           @Value("${recommendation.search.chunk-size:16384}") int chunkSize,
+                           @Value("${recommendation.search.parallelism:0}") int parallelism,
+                           @Value("${recommendation.search.timeout:PT0.05S}") Duration searchTimeout,
+                           @Qualifier("itemRecommendExecutor") AsyncTaskExecutor recordExecutor) {
+        this.itemRepository = itemRepository;
+        this.vibeItemRepository = vibeItemRepository;
+        this.optionCatalog = optionCatalog;
+        this.dimension = dimension;
+        this.perCategory = perCategory;
+        this.chunkSize = chunkSize;
+        this.searchTimeout = searchTimeout;
+        this.searchExecutor = Executors.newFixedThreadPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name("item-search-", 0).daemon().factory());
+        this.recordExecutor = recordExecutor;
+        this.index = ItemVectorIndex.empty(dimension);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.index.refresh-interval:PT10M}",
+            initialDelayString = "${recommendation.index.refresh-interval:PT10M}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("아이템 추천 인덱스 재적재 실패 — 기존 인덱스 유지 (items={})", index.size(), e);
+        }
+    }
+
+    /**
+     * 아이템이 바뀐 경우에만 임베딩을 다시 계산해 인덱스를 교체한다.
+     * 아이템 텍스트는 선택지 기본 언어의 번역을 쓴다.
+     */
+    public ItemVectorIndex reload() {
+        reloadLock.lock();
+        try {
+            String language = optionCatalog.snapshot().defaultLanguage();
+            ItemRepository.IndexVersion version = itemRepository.findIndexVersion();
+            List<Object> loadedVersion = Arrays.asList(version.getItemCount(), version.getLastUpdatedAt(), language);
+            if (loadedVersion.equals(indexVersion)) {
+                return index;
+            }
+
+            long start = System.nanoTime();
+            ItemVectorIndex.Builder builder = ItemVectorIndex.builder(dimension);
+            if (version.getItemCount() > 0) {
+                for (ItemRepository.ItemFeatures item : itemRepository.findActiveItemFeatures(language)) {
+                    builder.add(item.getItemId(), item.getCategoryKey(), FeatureHasher.embed(item.getFeatures(), dimension));
+                }
+            }
+            ItemVectorIndex loaded = builder.build();
+
+            index = loaded;
+            indexVersion = loadedVersion;
+            log.info("아이템 추천 인덱스 적재 완료 (items={}, categories={}, dimension={}, {}ms)",
+                    loaded.size(), loaded.categorySizes(), dimension, (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onVibeCompleted(VibeCompletedEvent event) {
+        try {
+            recordExecutor.execute(() -> recommend(event.resultId(), event.moodKeywordIds(), event.timeOption(),
+                    event.weatherOption(), event.placeOption(), event.companionOption(), event.language()));
+        } catch (TaskRejectedException e) {
+            log.warn("아이템 추천 기록 대기 초과 — 기록하지 않음 (resultId={})", event.resultId());
+        }
+    }
+
+    /**
+     * 저장된 Vibe 결과에 카테고리별 추천 아이템을 기록하고 돌려준다. 시간 초과나 실패 시 빈 목록.
+     *
+     * @param language 추천 이유(recommend_reason)에 쓸 선택지 표시 문구의 언어
+     */
+    public List<VibeItem> recommend(Long resultId, List<Long> moodKeywordIds, TimeOption timeOption,
+                                    WeatherOption weatherOption, PlaceOption placeOption,
+                                    CompanionOption companionOption, String language) {
+        ItemVectorIndex current = index;
+        if (resultId == null || current.size() == 0) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<Signal> signals = signals(optionCatalog.snapshot(), moodKeywordIds, timeOption, weatherOption,
+                    placeOption, companionOption, language);
+            float[] query = new float[dimension];
+            for (Signal signal : signals) {
+                for (int i = 0; i < dimension; i++) {
+                    query[i] += signal.vector()[i];
+                }
+            }
+            FeatureHasher.normalize(query);
+
+            List<VibeItem> items = current.search(query, perCategory, searchExecutor, chunkSize, searchTimeout).stream()
+                    .map(match -> VibeItem.builder()
+                            .resultId(resultId)
+                            .itemId(match.itemId())
+                            .matchScore(matchScore(match.score()))
+                            .recommendReason(reason(signals, current, match.row()))
+                            .build())
+                    .toList();
+            return vibeItemRepository.saveAll(items);
+        } catch (TimeoutException e) {
+            log.warn("아이템 추천 시간 초과 — 기록하지 않음 (resultId={}, budget={}ms)", resultId, searchTimeout.toMillis());
+            return List.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("아이템 추천 실패 — 기록하지 않음 (resultId={})", resultId, e);
+            return List.of();
+        } finally {
+            log.debug("아이템 추천 {}µs (resultId={}, items={})", (System.nanoTime() - start) / 1_000, resultId, current.size());
+        }
+    }
+
+    /**
+     * 선택한 옵션 하나하나를 임베딩한다. 아이템과 같은 기본 언어 문구에 키를 더해 임베딩하고,
+     * 추천 이유에는 요청 언어의 표시 문구를 쓴다.
+     */
+    private List<Signal> signals(OptionCatalog.Snapshot catalog, List<Long> moodKeywordIds, TimeOption timeOption,
+                                 WeatherOption weatherOption, PlaceOption placeOption,
+                                 CompanionOption companionOption, String language) {
+        OptionCatalog.Labels text = catalog.labelsOf(catalog.defaultLanguage());
+        OptionCatalog.Labels display = catalog.labelsOf(language);
+
+        List<Signal> signals = new ArrayList<>();
+        for (Long keywordId : moodKeywordIds) {
+            MoodKeyword mood = catalog.moods().get(keywordId);
+            if (mood == null) continue;
+            signals.add(signal(display.mood(mood),
+                    mood.getKeywordValue(), mood.getCategory(), text.mood(mood), text.moodDescription(mood)));
+        }
+        signals.add(signal(timeOption.getTimeKey(), timeOption.getTimeKey(), timeOption.getPeriod()));
+        signals.add(signal(display.weather(weatherOption), weatherOption.getWeatherKey(), text.weather(weatherOption)));
+        signals.add(signal(display.place(placeOption), placeOption.getPlaceKey(), text.place(placeOption)));
+        signals.add(signal(display.companion(companionOption),
+                companionOption.getCompanionKey(), text.companion(companionOption)));
+        return signals;
+    }
+
+    private Signal signal(String label, String... texts) {
+        StringJoiner joined = new StringJoiner(" ");
+        for (String t : texts) {
+            if (t != null) joined.add(t);
+        }
+        return new Signal(label, FeatureHasher.embed(joined.toString(), dimension));
+    }
+
+    /**
+     * 아이템과 가장 가까운 선택 옵션(최대 2개)의 표시 문구. 어느 옵션과도 겹치지 않으면 null.
+     */
+    private static String reason(List<Signal> signals, ItemVectorIndex index, int row) {
+        return signals.stream()
+                .map(signal -> Map.entry(signal.label(), index.score(signal.vector(), row)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Float>comparingByValue().reversed())
+                .limit(REASON_SIGNALS)
+                .map(Map.Entry::getKey)
+                .reduce((a, b) -> a + " · " + b)
+                .orElse(null);
+    }
+
+    private static BigDecimal matchScore(float cosine) {
+        double percent = Math.min(100, Math.max(0, cosine * 100.0));
+        return BigDecimal.valueOf(percent).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private record Signal(String label, float[] vector) {}
+}
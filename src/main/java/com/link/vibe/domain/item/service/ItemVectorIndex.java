@@ -0,0 +1,210 @@
+package com.link.vibe.domain.item.service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 아이템 임베딩의 읽기 전용 메모리 인덱스.
+ * 벡터는 행 우선으로 float[] 하나에 이어 붙여(아이템당 객체 없음) 스캔이 배열을 순서대로 읽고,
+ * 같은 카테고리의 아이템은 연속 구간에 모아 카테고리별 top-k를 구간 스캔으로 구한다.
+ * 전체 행 수가 chunkSize를 넘으면 구간을 chunk로 나눠 여러 코어에서 동시에 스캔한 뒤 chunk별 top-k를 합친다.
+ */
+public final class ItemVectorIndex {
+
+    private final int dimension;
+    private final long[] itemIds;
+    private final float[] vectors;
+    private final List<Category> categories;
+
+    private ItemVectorIndex(int dimension, long[] itemIds, float[] vectors, List<Category> categories) {
+        this.dimension = dimension;
+        this.itemIds = itemIds;
+        this.vectors = vectors;
+        this.categories = categories;
+    }
+
+    public static ItemVectorIndex empty(int dimension) {
+        return new ItemVectorIndex(dimension, new long[0], new float[0], List.of());
+    }
+
+    public static Builder builder(int dimension) {
+        return new Builder(dimension);
+    }
+
+    public int size() {
+        return itemIds.length;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 카테고리 키 → 아이템 수 (인덱스 순서).
+     */
+    public Map<String, Integer> categorySizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        categories.forEach(c -> sizes.put(c.key(), c.to() - c.from()));
+        return sizes;
+    }
+
+    /**
+     * 카테고리마다 query와 내적이 큰 아이템을 최대 perCategory개씩, 카테고리 순서·점수 내림차순으로 돌려준다.
+     *
+     * @param executor chunk 스캔을 실행할 풀. null이면 호출 스레드에서 순서대로 스캔한다
+     * @param timeout  병렬 스캔 전체의 제한 시간. 넘기면 남은 chunk를 취소하고 TimeoutException
+     */
+    public List<Match> search(float[] query, int perCategory, ExecutorService executor, int chunkSize, Duration timeout)
+            throws InterruptedException, TimeoutException {
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("query 차원이 인덱스와 다릅니다: " + query.length + " != " + dimension);
+        }
+        if (perCategory < 1 || size() == 0) {
+            return List.of();
+        }
+
+        List<Callable<Partial>> tasks = new ArrayList<>();
+        for (int c = 0; c < categories.size(); c++) {
+            Category category = categories.get(c);
+            for (int from = category.from(); from < category.to(); ) {
+                int categoryIndex = c;
+                int start = from;
+                int end = (int) Math.min((long) from + chunkSize, category.to());
+                tasks.add(() -> new Partial(categoryIndex, scan(query, start, end, perCategory)));
+                from = end;
+            }
+        }
+
+        TopK[] merged = new TopK[categories.size()];
+        for (int c = 0; c < merged.length; c++) {
+            merged[c] = new TopK(perCategory);
+        }
+        if (executor == null || size() <= chunkSize) {
+            for (Callable<Partial> task : tasks) {
+                Partial partial = call(task);
+                merged[partial.category()].addAll(partial.top());
+            }
+        } else {
+            for (Future<Partial> future : executor.invokeAll(tasks, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                if (future.isCancelled()) {
+                    throw new TimeoutException("아이템 검색이 " + timeout.toMillis() + "ms 안에 끝나지 않았습니다.");
+                }
+                Partial partial = get(future);
+                merged[partial.category()].addAll(partial.top());
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int c = 0; c < merged.length; c++) {
+            for (int row : merged[c].sortedRows()) {
+                matches.add(new Match(itemIds[row], categories.get(c).key(), row, score(query, row)));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * query와 row번째 아이템 벡터의 내적.
+     */
+    public float score(float[] query, int row) {
+        float sum = 0f;
+        int offset = row * dimension;
+        for (int j = 0; j < dimension; j++) {
+            sum += query[j] * vectors[offset + j];
+        }
+        return sum;
+    }
+
+    /**
+     * [from, to) 행의 내적을 구해 상위 k개를 남긴다.
+     * 누산기 4개로 나눠 곱셈-덧셈의 의존 사슬을 끊는다 (float 덧셈 순서 때문에 JIT가 스스로 벡터화하지 않는다).
+     */
+    private TopK scan(float[] query, int from, int to, int k) {
+        TopK top = new TopK(k);
+        int d = dimension;
+        int unrolled = d & ~3;
+        for (int row = from, offset = from * d; row < to; row++, offset += d) {
+            float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+            int j = 0;
+            for (; j < unrolled; j += 4) {
+                s0 += query[j] * vectors[offset + j];
+                s1 += query[j + 1] * vectors[offset + j + 1];
+                s2 += query[j + 2] * vectors[offset + j + 2];
+                s3 += query[j + 3] * vectors[offset + j + 3];
+            }
+            for (; j < d; j++) {
+                s0 += query[j] * vectors[offset + j];
+            }
+            top.offer(row, (s0 + s1) + (s2 + s3));
+        }
+        return top;
+    }
+
+    private static Partial call(Callable<Partial> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Partial get(Future<Partial> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @param row 인덱스 내부 행 번호. 같은 인덱스의 {@link #score(float[], int)}에만 쓴다
+     */
+    public record Match(long itemId, String category, int row, float score) {}
+
+    private record Category(String key, int from, int to) {}
+
+    private record Partial(int category, TopK top) {}
+
+    /**
+     * 카테고리가 처음 나온 순서대로 구간을 만든다. 벡터는 복사해 두므로 add 이후 바꿔도 된다.
+     */
+    public static final class Builder {
+
+        private final int dimension;
+        private final Map<String, List<Long>> ids = new LinkedHashMap<>();
+        private final Map<String, List<float[]>> rows = new LinkedHashMap<>();
+
+        private Builder(int dimension) {
+            this.dimension = dimension;
+        }
+
+        public Builder add(long itemId, String category, float[] vector) {
+            if (vector.length != dimension) {
+                throw new IllegalArgumentException("벡터 차원이 인덱스와 다릅니다: " + vector.length + " != " + dimension);
+            }
+            ids.computeIfAbsent(category, k -> new ArrayList<>()).add(itemId);
+            rows.computeIfAbsent(category, k -> new ArrayList<>()).add(vector.clone());
+            return this;
+        }
+
+        public ItemVectorIndex build() {
+            int size = ids.values().stream().mapToInt(List::size).sum();
+            long[] itemIds = new long[size];
+            float[] vectors = new float[size * dimension];
+            List<Category> categories = new ArrayList<>();
+
+            int row = 0;
+            for (Map.Entry<String, List<Long>> entry : ids.entrySet()) {
+                int from = row;
+                List<float[]> categoryRows = rows.get(entry.getKey());
+                for (int i = 0; i < entry.getValue().size(); i++, row++) {
+                    itemIds[row] = entry.getValue().get(i);
+                    System.arraycopy(categoryRows.get(i), 0, vectors, row * dimension, dimension);
+                }
+                categories.add(new Category(entry.getKey(), from, row));
+            }
+            return new ItemVectorIndex(dimension, itemIds, vectors, List.copyOf(categories));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.link.vibe.domain.item.service;
+
+import java.util.Arrays;
+
+/**
+ * 점수 상위 k개 행을 유지하는 primitive 최소 힙. 점수가 같으면 행 번호가 작은 쪽을 남기므로
+ * 스캔을 어떻게 나눠 합쳐도 결과가 같다.
+ */
+final class TopK {
+
+    private final int[] rows;
+    private final float[] scores;
+    private int size;
+
+    TopK(int k) {
+        this.rows = new int[k];
+        this.scores = new float[k];
+    }
+
+    void offer(int row, float score) {
+        if (size < rows.length) {
+            rows[size] = row;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (size > 0 && better(row, score, rows[0], scores[0])) {
+            rows[0] = row;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    void addAll(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.rows[i], other.scores[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순으로 정렬된 행 번호. 힙은 그대로 둔다.
+     */
+    int[] sortedRows() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> a.equals(b) ? 0 : better(rows[a], scores[a], rows[b], scores[b]) ? -1 : 1);
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = rows[order[i]];
+        }
+        return sorted;
+    }
+
+    private static boolean better(int row, float score, int otherRow, float otherScore) {
+        return score > otherScore || (score == otherScore && row < otherRow);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(rows[parent], scores[parent], rows[i], scores[i])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int worst = left;
+            int right = left + 1;
+            if (right < size && better(rows[left], scores[left], rows[right], scores[right])) {
+                worst = right;
+            }
+            if (!better(rows[i], scores[i], rows[worst], scores[worst])) break;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
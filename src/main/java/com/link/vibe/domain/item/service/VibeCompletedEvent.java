@@ -0,0 +1,19 @@
+package com.link.vibe.domain.item.service;
+
+import com.link.vibe.domain.option.entity.*;
+
+import java.util.List;
+
+/**
+ * Vibe 결과가 저장되고 세션이 완료되면 VibeService가 발행한다.
+ * 추천 아이템 기록은 응답에 담기지 않으므로 생성 요청 경로 밖에서 처리한다.
+ */
+public record VibeCompletedEvent(
+        Long resultId,
+        List<Long> moodKeywordIds,
+        TimeOption timeOption,
+        WeatherOption weatherOption,
+        PlaceOption placeOption,
+        CompanionOption companionOption,
+        String language
+) {}
@@ -2,21 +2,39 @@ package com.link.vibe.domain.option.controller;
 
 import com.link.vibe.domain.option.dto.OptionResponse;
 import com.link.vibe.domain.option.service.OptionService;
-import com.link.vibe.global.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
 @Tag(name = "Option", description = "Vibe 선택지 조회 API — v3.2 스키마 기반 (mood_keywords, time_options, weather_options, place_options, companion_options)")
 @RestController
 @RequestMapping("/api/v1/options")
-@RequiredArgsConstructor
 public class OptionController {
 
     private final OptionService optionService;
+    private final CacheControl cacheControl;
+
+    public OptionController(OptionService optionService,
+                            @Value("${option.http.max-age:PT5M}") Duration maxAge) {
+        this.optionService = optionService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
 
     @Operation(
             summary = "전체 선택지 조회",
@@ -24,17 +42,69 @@ public class OptionController {
                     Vibe 생성에 필요한 모든 선택지를 조회합니다.
 
                     **응답 구조 (v3.2):**
-                    - **moods**: 기분 키워드 목록 (keywordId, keywordValue, category) — mood_keywords 테이블
+                    - **language**: 응답에 사용된 언어 코드
+                    - **moods**: 기분 키워드 목록 (keywordId, keywordValue, category, label, description) — mood_keywords 테이블
                     - **times**: 시간대 옵션 (timeId, timeKey, timeValue, period) — time_options 테이블 (is_active=true)
-                    - **weathers**: 날씨 옵션 (weatherId, weatherKey) — weather_options 테이블 (is_active=true)
-                    - **places**: 공간 옵션 (placeId, placeKey) — place_options 테이블 (is_active=true)
-                    - **companions**: 동반자 옵션 (companionId, companionKey) — companion_options 테이블 (is_active=true)
+                    - **weathers**: 날씨 옵션 (weatherId, weatherKey, label) — weather_options 테이블 (is_active=true)
+                    - **places**: 공간 옵션 (placeId, placeKey, label) — place_options 테이블 (is_active=true)
+                    - **companions**: 동반자 옵션 (companionId, companionKey, label) — companion_options 테이블 (is_active=true)
 
-                    *다국어 표시 텍스트는 별도 번역 테이블(_translations)에서 관리됩니다.*
+                    **다국어:** `Accept-Language`를 활성 언어(languages 테이블) 중 하나로 맞춰
+                    label/description을 번역 테이블(_translations)의 값으로 채웁니다. en-US처럼 지역이 붙은 태그는 en으로 맞추고,
+                    맞는 언어가 없으면 기본 언어(option.i18n.default-language)를 사용합니다. 번역이 없는 항목의 label은 키입니다.
+
+                    **캐싱:** 선택지나 언어가 바뀔 때만 달라지는 강한 ETag와 Cache-Control을 내려줍니다.
+                    `If-None-Match`가 현재 ETag와 같으면 본문 없이 304를 반환합니다.
+                    `Accept-Encoding: gzip`이면 미리 압축해 둔 본문을 보냅니다.
                     """
     )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공 (ApiResponse<OptionResponse>)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = OptionResponse.class))),
+            @ApiResponse(responseCode = "304", description = "선택지 변경 없음")
+    })
     @GetMapping
-    public ApiResponse<OptionResponse> getAllOptions() {
-        return ApiResponse.ok(optionService.getAllOptions());
+    public ResponseEntity<byte[]> getAllOptions(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage) {
+        OptionService.Payload payload = optionService.payload(acceptLanguage);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE)
+                .header(HttpHeaders.CONTENT_LANGUAGE, payload.language());
+
+        // ETag가 If-None-Match와 같으면 HttpEntityMethodProcessor가 본문 없이 304로 응답한다
+        if (acceptsGzip(acceptEncoding)) {
+            // 표현(content-coding)이 다르므로 강한 ETag도 구분한다
+            return response.eTag(payload.etag() + "-gzip")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(payload.gzip());
+        }
+        return response.eTag(payload.etag()).body(payload.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.toLowerCase(Locale.ROOT).split(","))
+                .map(coding -> coding.split(";"))
+                .filter(parts -> parts[0].trim().equals("gzip"))
+                .anyMatch(parts -> Arrays.stream(parts).skip(1)
+                        .map(String::trim)
+                        .filter(param -> param.startsWith("q="))
+                        .findFirst()
+                        .map(q -> parseQuality(q.substring(2)) > 0)
+                        .orElse(true));
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 }
@@ -2,16 +2,20 @@ package com.link.vibe.domain.option.dto;
 
 import java.util.List;
 
+/**
+ * label은 language로 번역된 표시 문구이며, 번역이 없으면 키를 그대로 담는다.
+ */
 public record OptionResponse(
+        String language,
         List<MoodDto> moods,
         List<TimeDto> times,
         List<WeatherDto> weathers,
         List<PlaceDto> places,
         List<CompanionDto> companions
 ) {
-    public record MoodDto(Long keywordId, String keywordValue, String category) {}
+    public record MoodDto(Long keywordId, String keywordValue, String category, String label, String description) {}
     public record TimeDto(Long timeId, String timeKey, String timeValue, String period) {}
-    public record WeatherDto(Long weatherId, String weatherKey) {}
-    public record PlaceDto(Long placeId, String placeKey) {}
-    public record CompanionDto(Long companionId, String companionKey) {}
+    public record WeatherDto(Long weatherId, String weatherKey, String label) {}
+    public record PlaceDto(Long placeId, String placeKey, String label) {}
+    public record CompanionDto(Long companionId, String companionKey, String label) {}
 }
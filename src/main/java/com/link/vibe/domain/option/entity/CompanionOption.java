@@ -4,8 +4,12 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = OptionCacheRegions.COMPANION_OPTIONS)
 @Table(name = "companion_options")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
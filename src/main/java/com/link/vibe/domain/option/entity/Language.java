@@ -0,0 +1,29 @@
+package com.link.vibe.domain.option.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "languages")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Language {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "language_id")
+    private Long languageId;
+
+    @Column(name = "language_code", nullable = false, unique = true, length = 5)
+    private String languageCode;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,22 @@
+package com.link.vibe.domain.option.entity;
+
+import java.util.List;
+
+/**
+ * 선택지 엔티티의 Hibernate 2차 캐시 리전 이름. 크기 제한은 hibernate-cache.conf에서 리전별로 정한다.
+ * 선택지 데이터가 바뀌면 OptionCatalog가 이 리전들을 모두 비운다.
+ */
+public final class OptionCacheRegions {
+
+    public static final String MOOD_KEYWORDS = "option.mood_keywords";
+    public static final String TIME_OPTIONS = "option.time_options";
+    public static final String WEATHER_OPTIONS = "option.weather_options";
+    public static final String PLACE_OPTIONS = "option.place_options";
+    public static final String COMPANION_OPTIONS = "option.companion_options";
+
+    public static final List<String> ALL = List.of(
+            MOOD_KEYWORDS, TIME_OPTIONS, WEATHER_OPTIONS, PLACE_OPTIONS, COMPANION_OPTIONS);
+
+    private OptionCacheRegions() {
+    }
+}
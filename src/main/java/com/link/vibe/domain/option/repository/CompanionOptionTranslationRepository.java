@@ -0,0 +1,7 @@
+package com.link.vibe.domain.option.repository;
+
+import com.link.vibe.domain.option.entity.CompanionOptionTranslation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CompanionOptionTranslationRepository extends JpaRepository<CompanionOptionTranslation, Long> {
+}
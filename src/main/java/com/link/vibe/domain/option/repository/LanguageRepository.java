@@ -0,0 +1,10 @@
+package com.link.vibe.domain.option.repository;
+
+import com.link.vibe.domain.option.entity.Language;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LanguageRepository extends JpaRepository<Language, Long> {
+    List<Language> findByIsActiveTrueOrderByLanguageId();
+}
@@ -0,0 +1,7 @@
+package com.link.vibe.domain.option.repository;
+
+import com.link.vibe.domain.option.entity.WeatherOptionTranslation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WeatherOptionTranslationRepository extends JpaRepository<WeatherOptionTranslation, Long> {
+}
@@ -0,0 +1,298 @@
+package com.link.vibe.domain.option.service;
+
+import com.link.vibe.domain.option.entity.*;
+import com.link.vibe.domain.option.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 선택지 테이블(mood_keywords, time/weather/place/companion_options)과 활성 언어별 번역(*_translations)의 메모리 스냅샷.
+ * 수십 건 수준의 거의 변하지 않는 데이터이므로 요청마다 조회하지 않고 ID 인덱스로 보관한다.
+ * 재적재는 새 스냅샷을 만든 뒤 참조를 한 번에 교체하므로, 읽는 쪽은 항상 일관된 스냅샷을 본다.
+ * <p>
+ * 선택지 엔티티는 Hibernate 2차 캐시({@link OptionCacheRegions})에도 올라간다. 재적재할 때마다 그 리전들을 먼저 비워
+ * DB를 직접 읽으므로, SQL로 바꾼 선택지도 다음 재적재(refresh-interval) 이후에는 캐시와 스냅샷 모두에 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OptionCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(OptionCatalog.class);
+
+    private final MoodKeywordRepository moodKeywordRepository;
+    private final TimeOptionRepository timeOptionRepository;
+    private final WeatherOptionRepository weatherOptionRepository;
+    private final PlaceOptionRepository placeOptionRepository;
+    private final CompanionOptionRepository companionOptionRepository;
+    private final LanguageRepository languageRepository;
+    private final MoodKeywordTranslationRepository moodKeywordTranslationRepository;
+    private final WeatherOptionTranslationRepository weatherOptionTranslationRepository;
+    private final PlaceOptionTranslationRepository placeOptionTranslationRepository;
+    private final CompanionOptionTranslationRepository companionOptionTranslationRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Accept-Language가 없거나 지원 언어와 맞지 않을 때 쓰는 언어
+    @Value("${option.i18n.default-language:ko}")
+    private String defaultLanguage;
+
+    // 재적재 중 JDBC I/O가 일어나므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private List<List<Object>> fingerprint = List.of();
+
+    /**
+     * 선택지 스냅샷. 모든 맵은 ID 오름차순으로 순회되며 수정할 수 없다.
+     * 비활성 옵션도 포함한다 (과거 세션 조회 시 필요). 활성 여부는 호출 측에서 판단한다.
+     * labels는 활성 언어 코드별 표시 문구이며 기본 언어는 번역이 없어도 항상 들어 있다.
+     */
+    public record Snapshot(
+            long version,
+            Map<Long, MoodKeyword> moods,
+            Map<Long, TimeOption> times,
+            Map<Long, WeatherOption> weathers,
+            Map<Long, PlaceOption> places,
+            Map<Long, CompanionOption> companions,
+            String defaultLanguage,
+            Map<String, Labels> labels
+    ) {
+        /**
+         * 저장된 순서대로 기분 키워드 값을 돌려준다. 카탈로그에서 사라진 키워드는 건너뛴다.
+         */
+        public List<String> moodValues(List<Long> moodKeywordIds) {
+            if (moodKeywordIds == null) return Collections.emptyList();
+            return moodKeywordIds.stream()
+                    .map(moods::get)
+                    .filter(Objects::nonNull)
+                    .map(MoodKeyword::getKeywordValue)
+                    .toList();
+        }
+
+        /**
+         * Accept-Language 헤더를 RFC 4647 lookup으로 지원 언어 중 하나에 대응시킨다 (en-US → en).
+         * 헤더가 없거나 형식이 잘못됐거나 맞는 언어가 없으면 기본 언어를 돌려준다.
+         */
+        public String resolveLanguage(String acceptLanguage) {
+            if (acceptLanguage == null || acceptLanguage.isBlank()) {
+                return defaultLanguage;
+            }
+            try {
+                String matched = Locale.lookupTag(Locale.LanguageRange.parse(acceptLanguage), labels.keySet());
+                return matched != null ? matched : defaultLanguage;
+            } catch (IllegalArgumentException e) {
+                return defaultLanguage;
+            }
+        }
+
+        public Labels labelsOf(String language) {
+            return labels.getOrDefault(language, Labels.EMPTY);
+        }
+    }
+
+    /**
+     * 한 언어의 선택지 표시 문구 (옵션 ID → 번역). 번역이 없는 선택지는 키를 그대로 표시한다.
+     * 시간대는 번역 테이블이 없어 대상이 아니다.
+     */
+    public record Labels(
+            Map<Long, String> moods,
+            Map<Long, String> moodDescriptions,
+            Map<Long, String> weathers,
+            Map<Long, String> places,
+            Map<Long, String> companions
+    ) {
+        static final Labels EMPTY = new Labels(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+        public String mood(MoodKeyword mood) {
+            return moods.getOrDefault(mood.getKeywordId(), mood.getKeywordValue());
+        }
+
+        public String moodDescription(MoodKeyword mood) {
+            return moodDescriptions.get(mood.getKeywordId());
+        }
+
+        public String weather(WeatherOption weather) {
+            return weathers.getOrDefault(weather.getWeatherId(), weather.getWeatherKey());
+        }
+
+        public String place(PlaceOption place) {
+            return places.getOrDefault(place.getPlaceId(), place.getPlaceKey());
+        }
+
+        public String companion(CompanionOption companion) {
+            return companions.getOrDefault(companion.getCompanionId(), companion.getCompanionKey());
+        }
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${option.catalog.refresh-interval:PT5M}",
+            initialDelayString = "${option.catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * DB에서 선택지를 다시 읽어, 내용이 바뀐 경우에만 버전을 올려 스냅샷을 교체한다.
+     * 선택지 데이터를 변경한 뒤 호출한다.
+     */
+    public Snapshot reload() {
+        reloadLock.lock();
+        try {
+            return doReload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot doReload() {
+        evictSecondLevelCache();
+        List<MoodKeyword> moods = moodKeywordRepository.findAllByOrderByKeywordId();
+        List<TimeOption> times = timeOptionRepository.findAll(Sort.by("timeId"));
+        List<WeatherOption> weathers = weatherOptionRepository.findAll(Sort.by("weatherId"));
+        List<PlaceOption> places = placeOptionRepository.findAll(Sort.by("placeId"));
+        List<CompanionOption> companions = companionOptionRepository.findAll(Sort.by("companionId"));
+        List<Language> languages = languageRepository.findByIsActiveTrueOrderByLanguageId();
+        List<MoodKeywordTranslation> moodTranslations = moodKeywordTranslationRepository.findAll(Sort.by("translationId"));
+        List<WeatherOptionTranslation> weatherTranslations = weatherOptionTranslationRepository.findAll(Sort.by("translationId"));
+        List<PlaceOptionTranslation> placeTranslations = placeOptionTranslationRepository.findAll(Sort.by("translationId"));
+        List<CompanionOptionTranslation> companionTranslations = companionOptionTranslationRepository.findAll(Sort.by("translationId"));
+
+        List<List<Object>> loadedFingerprint = new ArrayList<>();
+        moods.forEach(m -> loadedFingerprint.add(Arrays.asList(m.getKeywordId(), m.getKeywordValue(), m.getCategory())));
+        times.forEach(t -> loadedFingerprint.add(Arrays.asList(t.getTimeId(), t.getTimeKey(), t.getTimeValue(), t.getPeriod(), t.getIsActive())));
+        weathers.forEach(w -> loadedFingerprint.add(Arrays.asList(w.getWeatherId(), w.getWeatherKey(), w.getIsActive())));
+        places.forEach(p -> loadedFingerprint.add(Arrays.asList(p.getPlaceId(), p.getPlaceKey(), p.getIsActive())));
+        companions.forEach(c -> loadedFingerprint.add(Arrays.asList(c.getCompanionId(), c.getCompanionKey(), c.getIsActive())));
+        languages.forEach(l -> loadedFingerprint.add(Arrays.asList(l.getLanguageId(), l.getLanguageCode())));
+        moodTranslations.forEach(t -> loadedFingerprint.add(Arrays.asList(t.getTranslationId(), t.getKeywordId(), t.getLanguageId(), t.getKeywordValue(), t.getDescription())));
+        weatherTranslations.forEach(t -> loadedFingerprint.add(Arrays.asList(t.getTranslationId(), t.getWeatherId(), t.getLanguageId(), t.getWeatherValue())));
+        placeTranslations.forEach(t -> loadedFingerprint.add(Arrays.asList(t.getTranslationId(), t.getPlaceId(), t.getLanguageId(), t.getPlaceValue())));
+        companionTranslations.forEach(t -> loadedFingerprint.add(Arrays.asList(t.getTranslationId(), t.getCompanionId(), t.getLanguageId(), t.getCompanionValue())));
+
+        Snapshot previous = snapshot;
+        if (previous != null && loadedFingerprint.equals(fingerprint)) {
+            return previous;
+        }
+
+        Snapshot loaded = new Snapshot(
+                previous != null ? previous.version() + 1 : 1,
+                index(moods, MoodKeyword::getKeywordId),
+                index(times, TimeOption::getTimeId),
+                index(weathers, WeatherOption::getWeatherId),
+                index(places, PlaceOption::getPlaceId),
+                index(companions, CompanionOption::getCompanionId),
+                defaultLanguageCode(),
+                labels(languages, moodTranslations, weatherTranslations, placeTranslations, companionTranslations)
+        );
+
+        fingerprint = loadedFingerprint;
+        snapshot = loaded;
+        log.info("선택지 카탈로그 적재 완료 (version={}, moods={}, times={}, weathers={}, places={}, companions={}, languages={})",
+                loaded.version(), moods.size(), times.size(), weathers.size(), places.size(), companions.size(),
+                loaded.labels().keySet());
+        return loaded;
+    }
+
+    /**
+     * 설정값을 language_code와 같은 규칙(소문자)으로 맞춘다. default-language: KO도 ko 라벨과 대응된다.
+     */
+    private String defaultLanguageCode() {
+        return defaultLanguage.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 활성 언어별로 번역을 옵션 ID 인덱스로 묶는다. 비활성 언어의 번역은 버린다.
+     */
+    private Map<String, Labels> labels(List<Language> languages,
+                                       List<MoodKeywordTranslation> moodTranslations,
+                                       List<WeatherOptionTranslation> weatherTranslations,
+                                       List<PlaceOptionTranslation> placeTranslations,
+                                       List<CompanionOptionTranslation> companionTranslations) {
+        Map<Long, String> codes = new HashMap<>();
+        languages.forEach(l -> codes.put(l.getLanguageId(), l.getLanguageCode().toLowerCase(Locale.ROOT)));
+
+        Map<String, Map<Long, String>> moods = new HashMap<>();
+        Map<String, Map<Long, String>> moodDescriptions = new HashMap<>();
+        Map<String, Map<Long, String>> weathers = new HashMap<>();
+        Map<String, Map<Long, String>> places = new HashMap<>();
+        Map<String, Map<Long, String>> companions = new HashMap<>();
+        for (MoodKeywordTranslation t : moodTranslations) {
+            String code = codes.get(t.getLanguageId());
+            if (code == null) continue;
+            moods.computeIfAbsent(code, k -> new HashMap<>()).put(t.getKeywordId(), t.getKeywordValue());
+            if (t.getDescription() != null) {
+                moodDescriptions.computeIfAbsent(code, k -> new HashMap<>()).put(t.getKeywordId(), t.getDescription());
+            }
+        }
+        group(weatherTranslations, codes, weathers, WeatherOptionTranslation::getLanguageId,
+                WeatherOptionTranslation::getWeatherId, WeatherOptionTranslation::getWeatherValue);
+        group(placeTranslations, codes, places, PlaceOptionTranslation::getLanguageId,
+                PlaceOptionTranslation::getPlaceId, PlaceOptionTranslation::getPlaceValue);
+        group(companionTranslations, codes, companions, CompanionOptionTranslation::getLanguageId,
+                CompanionOptionTranslation::getCompanionId, CompanionOptionTranslation::getCompanionValue);
+
+        Set<String> supported = new LinkedHashSet<>(codes.values());
+        supported.add(defaultLanguageCode());
+        Map<String, Labels> labels = new LinkedHashMap<>();
+        for (String code : supported) {
+            labels.put(code, new Labels(
+                    Map.copyOf(moods.getOrDefault(code, Map.of())),
+                    Map.copyOf(moodDescriptions.getOrDefault(code, Map.of())),
+                    Map.copyOf(weathers.getOrDefault(code, Map.of())),
+                    Map.copyOf(places.getOrDefault(code, Map.of())),
+                    Map.copyOf(companions.getOrDefault(code, Map.of()))
+            ));
+        }
+        return Collections.unmodifiableMap(labels);
+    }
+
+    private static <T> void group(List<T> translations, Map<Long, String> codes, Map<String, Map<Long, String>> target,
+                                  Function<T, Long> languageId, Function<T, Long> optionId, Function<T, String> value) {
+        for (T t : translations) {
+            String code = codes.get(languageId.apply(t));
+            if (code != null) {
+                target.computeIfAbsent(code, k -> new HashMap<>()).put(optionId.apply(t), value.apply(t));
+            }
+        }
+    }
+
+    /**
+     * 선택지 엔티티 리전을 비운다. 이어지는 조회가 DB 값으로 다시 채운다.
+     */
+    private void evictSecondLevelCache() {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(MoodKeyword.class);
+        cache.evictEntityData(TimeOption.class);
+        cache.evictEntityData(WeatherOption.class);
+        cache.evictEntityData(PlaceOption.class);
+        cache.evictEntityData(CompanionOption.class);
+    }
+
+    private static <T> Map<Long, T> index(List<T> rows, Function<T, Long> idExtractor) {
+        Map<Long, T> map = new LinkedHashMap<>();
+        for (T row : rows) {
+            map.put(idExtractor.apply(row), row);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -1,44 +1,117 @@
 package com.link.vibe.domain.option.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.link.vibe.domain.option.dto.OptionResponse;
 import com.link.vibe.domain.option.dto.OptionResponse.*;
-import com.link.vibe.domain.option.repository.*;
+import com.link.vibe.global.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class OptionService {
 
-    private final MoodKeywordRepository moodKeywordRepository;
-    private final TimeOptionRepository timeOptionRepository;
-    private final WeatherOptionRepository weatherOptionRepository;
-    private final PlaceOptionRepository placeOptionRepository;
-    private final CompanionOptionRepository companionOptionRepository;
+    private final OptionCatalog optionCatalog;
+    private final ObjectMapper objectMapper;
+
+    private volatile Payloads payloads;
+
+    /**
+     * GET /api/v1/options 응답 본문을 언어별로 직렬화해 둔 것. 카탈로그 버전마다 한 번만 만든다.
+     * etag는 본문 SHA-256 앞 16바이트라 인스턴스나 재시작과 관계없이 내용이 같으면 같다.
+     * 본문에 language가 들어가므로 언어가 다르면 etag도 다르다.
+     */
+    public record Payload(long catalogVersion, String language, byte[] json, byte[] gzip, String etag) {}
+
+    private record Payloads(long catalogVersion, Map<String, Payload> byLanguage) {}
 
-    public OptionResponse getAllOptions() {
-        var moods = moodKeywordRepository.findAllByOrderByKeywordId().stream()
-                .map(m -> new MoodDto(m.getKeywordId(), m.getKeywordValue(), m.getCategory()))
+    /**
+     * Accept-Language에 맞는 현재 카탈로그 버전의 직렬화된 응답.
+     * 버전이 바뀌었을 때만 지원 언어 전부를 다시 직렬화·압축하며, 요청 처리 중에는 언어 결정과 맵 조회만 한다.
+     * 동시에 재생성되더라도 결과가 같으므로 마지막 것이 남아도 무방하다.
+     */
+    public Payload payload(String acceptLanguage) {
+        OptionCatalog.Snapshot catalog = optionCatalog.snapshot();
+        Payloads current = payloads;
+        if (current == null || current.catalogVersion() != catalog.version()) {
+            current = build(catalog);
+            payloads = current;
+        }
+        return current.byLanguage().get(catalog.resolveLanguage(acceptLanguage));
+    }
+
+    private Payloads build(OptionCatalog.Snapshot catalog) {
+        Map<String, Payload> byLanguage = new LinkedHashMap<>();
+        for (String language : catalog.labels().keySet()) {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(ApiResponse.ok(toResponse(catalog, language)));
+                byLanguage.put(language, new Payload(catalog.version(), language, json, gzip(json), digest(json)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("선택지 응답을 직렬화할 수 없습니다.", e);
+            }
+        }
+        return new Payloads(catalog.version(), Map.copyOf(byLanguage));
+    }
+
+    private OptionResponse toResponse(OptionCatalog.Snapshot catalog, String language) {
+        OptionCatalog.Labels labels = catalog.labelsOf(language);
+
+        var moods = catalog.moods().values().stream()
+                .map(m -> new MoodDto(m.getKeywordId(), m.getKeywordValue(), m.getCategory(),
+                        labels.mood(m), labels.moodDescription(m)))
                 .toList();
 
-        var times = timeOptionRepository.findByIsActiveTrueOrderByTimeId().stream()
+        var times = catalog.times().values().stream()
+                .filter(t -> Boolean.TRUE.equals(t.getIsActive()))
                 .map(t -> new TimeDto(t.getTimeId(), t.getTimeKey(), t.getTimeValue().toString(), t.getPeriod()))
                 .toList();
 
-        var weathers = weatherOptionRepository.findByIsActiveTrueOrderByWeatherId().stream()
-                .map(w -> new WeatherDto(w.getWeatherId(), w.getWeatherKey()))
+        var weathers = catalog.weathers().values().stream()
+                .filter(w -> Boolean.TRUE.equals(w.getIsActive()))
+                .map(w -> new WeatherDto(w.getWeatherId(), w.getWeatherKey(), labels.weather(w)))
                 .toList();
 
-        var places = placeOptionRepository.findByIsActiveTrueOrderByPlaceId().stream()
-                .map(p -> new PlaceDto(p.getPlaceId(), p.getPlaceKey()))
+        var places = catalog.places().values().stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsActive()))
+                .map(p -> new PlaceDto(p.getPlaceId(), p.getPlaceKey(), labels.place(p)))
                 .toList();
 
-        var companions = companionOptionRepository.findByIsActiveTrueOrderByCompanionId().stream()
-                .map(c -> new CompanionDto(c.getCompanionId(), c.getCompanionKey()))
+        var companions = catalog.companions().values().stream()
+                .filter(c -> Boolean.TRUE.equals(c.getIsActive()))
+                .map(c -> new CompanionDto(c.getCompanionId(), c.getCompanionKey(), labels.companion(c)))
                 .toList();
 
-        return new OptionResponse(moods, times, weathers, places, companions);
+        return new OptionResponse(language, moods, times, weathers, places, companions);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
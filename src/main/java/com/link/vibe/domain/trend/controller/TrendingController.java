@@ -0,0 +1,53 @@
+package com.link.vibe.domain.trend.controller;
+
+import com.link.vibe.domain.trend.dto.TrendingVibeResponse;
+import com.link.vibe.domain.trend.service.TrendingEngine;
+import com.link.vibe.global.common.ApiResponse;
+import com.link.vibe.global.exception.BusinessException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Trending", description = "트렌딩 Vibe API — 참여 이벤트 기반 실시간 순위")
+@RestController
+@RequestMapping("/api/v1/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TrendingEngine trendingEngine;
+
+    @Operation(
+            summary = "지금 트렌딩 Vibe 조회",
+            description = """
+                    피드 조회·반응, 아카이브 저장, 즐겨찾기를 가중치(1·3·5·4)로 더한 점수가 높은 Vibe 결과를 반환합니다.
+                    점수는 반감기(trending.half-life, 기본 6시간)로 지수 감쇠하므로 최근 참여일수록 크게 반영됩니다.
+
+                    DB 조회 없이 메모리의 순위 구조에서 바로 답합니다.
+                    같은 순위는 trending.flush-interval마다 trending_vibes 테이블(오늘 날짜)에도 기록됩니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 limit")
+    })
+    @GetMapping
+    public ApiResponse<List<TrendingVibeResponse>> getTrending(
+            @Parameter(description = "조회 개수 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("limit은 1~" + MAX_LIMIT + " 사이여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        return ApiResponse.ok(trendingEngine.trendingNow(limit));
+    }
+}
@@ -0,0 +1,10 @@
+package com.link.vibe.domain.trend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "실시간 트렌딩 Vibe")
+public record TrendingVibeResponse(
+        @Schema(description = "순위 (1부터)") int rank,
+        @Schema(description = "Vibe 결과 ID") Long resultId,
+        @Schema(description = "시간 감쇠 참여 점수") double score
+) {}
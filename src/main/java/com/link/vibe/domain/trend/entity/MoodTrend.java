@@ -0,0 +1,42 @@
+package com.link.vibe.domain.trend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "mood_trends")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MoodTrend {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "trend_id")
+    private Long trendId;
+
+    @Column(name = "keyword_id", nullable = false)
+    private Long keywordId;
+
+    @Column(name = "trend_date", nullable = false)
+    private LocalDate trendDate;
+
+    @Column(name = "usage_count")
+    private Integer usageCount;
+
+    @Column(name = "growth_rate", precision = 5, scale = 2)
+    private BigDecimal growthRate;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,42 @@
+package com.link.vibe.domain.trend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "trending_vibes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TrendingVibe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "trend_id")
+    private Long trendId;
+
+    @Column(name = "result_id", nullable = false)
+    private Long resultId;
+
+    @Column(name = "score", nullable = false, precision = 10, scale = 2)
+    private BigDecimal score;
+
+    @Column(name = "rank_position")
+    private Integer rankPosition;
+
+    @Column(name = "trend_date", nullable = false)
+    private LocalDate trendDate;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
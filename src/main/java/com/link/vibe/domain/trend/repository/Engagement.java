@@ -0,0 +1,13 @@
+package com.link.vibe.domain.trend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여 이벤트 tail 조회 결과 (feed_reactions, archive_vibes, favorites 공통).
+ * eventId는 각 테이블의 PK, occurredAt은 created_at이다.
+ */
+public interface Engagement {
+    Long getEventId();
+    Long getResultId();
+    LocalDateTime getOccurredAt();
+}
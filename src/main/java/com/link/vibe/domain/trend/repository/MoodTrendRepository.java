@@ -0,0 +1,50 @@
+package com.link.vibe.domain.trend.repository;
+
+import com.link.vibe.domain.trend.entity.MoodTrend;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface MoodTrendRepository extends JpaRepository<MoodTrend, Long> {
+
+    List<MoodTrend> findByTrendDate(LocalDate trendDate);
+
+    /**
+     * date 이전의 가장 최근 집계일. 당일 행은 집계 중이라 제외한다.
+     */
+    @Query("SELECT MAX(mt.trendDate) FROM MoodTrend mt WHERE mt.trendDate < :date")
+    Optional<LocalDate> findLatestTrendDateBefore(@Param("date") LocalDate date);
+
+    /**
+     * trendDate에서 keywordIds[i] 행의 usage_count에 counts[i]를 더한다. 없는 행은 만든다.
+     * 키워드 수와 관계없이 배열 두 개를 unnest한 INSERT 한 문장(왕복 1회)으로 처리한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mood_trends (keyword_id, trend_date, usage_count, created_at) " +
+            "SELECT u.keyword_id, :trendDate, u.usage_count, CURRENT_TIMESTAMP " +
+            "FROM unnest(CAST(:keywordIds AS BIGINT[]), CAST(:counts AS INT[])) AS u(keyword_id, usage_count) " +
+            "ON CONFLICT (keyword_id, trend_date) DO UPDATE " +
+            "SET usage_count = COALESCE(mood_trends.usage_count, 0) + EXCLUDED.usage_count",
+            nativeQuery = true)
+    int addUsage(@Param("trendDate") LocalDate trendDate, @Param("keywordIds") Long[] keywordIds,
+                 @Param("counts") Integer[] counts);
+
+    /**
+     * trendDate의 모든 키워드 행의 growth_rate를 전날 대비 증감률(%)로 다시 계산한다. 전날 사용이 없으면 그대로(NULL) 둔다.
+     * DECIMAL(5,2) 범위를 넘지 않게 ±999.99로 자른다.
+     */
+    @Modifying
+    @Query(value = "UPDATE mood_trends t " +
+            "SET growth_rate = LEAST(999.99, GREATEST(-999.99, " +
+            "ROUND((t.usage_count - p.usage_count) * 100.0 / p.usage_count, 2))) " +
+            "FROM mood_trends p " +
+            "WHERE t.trend_date = :trendDate " +
+            "AND p.keyword_id = t.keyword_id AND p.trend_date = t.trend_date - 1 AND p.usage_count > 0",
+            nativeQuery = true)
+    int updateGrowthRates(@Param("trendDate") LocalDate trendDate);
+}
@@ -0,0 +1,34 @@
+package com.link.vibe.domain.trend.repository;
+
+import com.link.vibe.domain.trend.entity.TrendingVibe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface TrendingVibeRepository extends JpaRepository<TrendingVibe, Long> {
+
+    /**
+     * (result_id, trend_date) 행의 점수·순위를 넣거나 갱신한다. 그 사이 삭제된 결과는 건너뛴다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO trending_vibes (result_id, score, rank_position, trend_date, created_at) " +
+            "SELECT :resultId, :score, :rankPosition, :trendDate, CURRENT_TIMESTAMP " +
+            "WHERE EXISTS (SELECT 1 FROM vibe_results vr WHERE vr.result_id = :resultId) " +
+            "ON CONFLICT (result_id, trend_date) DO UPDATE " +
+            "SET score = EXCLUDED.score, rank_position = EXCLUDED.rank_position",
+            nativeQuery = true)
+    int upsert(@Param("resultId") Long resultId,
+               @Param("score") BigDecimal score,
+               @Param("rankPosition") int rankPosition,
+               @Param("trendDate") LocalDate trendDate);
+
+    @Modifying
+    @Query("DELETE FROM TrendingVibe tv WHERE tv.trendDate = :trendDate AND tv.resultId NOT IN :resultIds")
+    int deleteOutside(@Param("trendDate") LocalDate trendDate, @Param("resultIds") Collection<Long> resultIds);
+}
@@ -0,0 +1,94 @@
+package com.link.vibe.domain.trend.service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 키별 지수 감쇠 점수를 최대 capacity개까지 들고 있는 top-k 구조. 스레드 안전하지 않다.
+ * <p>
+ * forward decay로 저장한다. 시각 t의 가중치 w를 w·e^(λ(t−landmark))로 바꿔 더해 두고,
+ * 읽을 때 e^(−λ(now−landmark))를 곱한다. 저장된 값의 순서는 시간이 흘러도 바뀌지 않으므로
+ * 주기적으로 모든 점수를 감쇠시키지 않고도 TreeSet 순서를 그대로 top-k로 쓸 수 있다.
+ * 지수가 커지면 landmark를 옮겨(rebase) double 범위를 지킨다.
+ * <p>
+ * 꽉 찬 상태에서 새 키가 들어오면 가장 약한 키를 밀어내고, 새 키가 그보다도 약하면 버린다.
+ */
+public final class DecayedTopK {
+
+    // e^30 ≈ 1e13 — 더해지는 가중치(1 안팎)의 정밀도를 잃기 전에 rebase
+    private static final double REBASE_EXPONENT = 30;
+
+    private final double lambdaPerMilli;
+    private final int capacity;
+    private long landmark;
+    private final Map<Long, Double> weights = new HashMap<>();
+    private final TreeSet<Entry> order = new TreeSet<>(
+            Comparator.comparingDouble(Entry::weight).thenComparingLong(Entry::key));
+
+    public DecayedTopK(Duration halfLife, int capacity, long landmarkMillis) {
+        if (halfLife.isZero() || halfLife.isNegative() || capacity < 1) {
+            throw new IllegalArgumentException("halfLife와 capacity는 양수여야 합니다.");
+        }
+        this.lambdaPerMilli = Math.log(2) / halfLife.toMillis();
+        this.capacity = capacity;
+        this.landmark = landmarkMillis;
+    }
+
+    public int size() {
+        return weights.size();
+    }
+
+    /**
+     * atMillis 시각에 일어난 가중치 weight의 이벤트를 key의 점수에 더한다.
+     */
+    public void add(long key, double weight, long atMillis) {
+        if (lambdaPerMilli * (atMillis - landmark) > REBASE_EXPONENT) {
+            rebase(atMillis);
+        }
+        double forward = weight * Math.exp(lambdaPerMilli * (atMillis - landmark));
+        Double current = weights.get(key);
+        if (current != null) {
+            order.remove(new Entry(key, current));
+            forward += current;
+        } else if (weights.size() >= capacity) {
+            Entry weakest = order.first();
+            if (weakest.weight() >= forward) {
+                return;
+            }
+            order.pollFirst();
+            weights.remove(weakest.key());
+        }
+        weights.put(key, forward);
+        order.add(new Entry(key, forward));
+    }
+
+    /**
+     * nowMillis 기준 감쇠 점수 상위 k개 (점수 내림차순).
+     */
+    public List<Scored> top(int k, long nowMillis) {
+        double scale = Math.exp(-lambdaPerMilli * (nowMillis - landmark));
+        List<Scored> top = new ArrayList<>(Math.min(k, order.size()));
+        Iterator<Entry> it = order.descendingIterator();
+        while (it.hasNext() && top.size() < k) {
+            Entry entry = it.next();
+            top.add(new Scored(entry.key(), entry.weight() * scale));
+        }
+        return top;
+    }
+
+    private void rebase(long newLandmark) {
+        double factor = Math.exp(-lambdaPerMilli * (newLandmark - landmark));
+        List<Entry> rescaled = order.stream().map(e -> new Entry(e.key(), e.weight() * factor)).toList();
+        order.clear();
+        weights.clear();
+        for (Entry entry : rescaled) {
+            order.add(entry);
+            weights.put(entry.key(), entry.weight());
+        }
+        landmark = newLandmark;
+    }
+
+    public record Scored(long key, double score) {}
+
+    private record Entry(long key, double weight) {}
+}
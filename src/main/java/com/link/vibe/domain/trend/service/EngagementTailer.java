@@ -0,0 +1,136 @@
+package com.link.vibe.domain.trend.service;
+
+import com.link.vibe.domain.archive.repository.ArchiveVibeRepository;
+import com.link.vibe.domain.archive.repository.FavoriteRepository;
+import com.link.vibe.domain.feed.repository.FeedReactionRepository;
+import com.link.vibe.domain.trend.repository.Engagement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * feed_reactions, archive_vibes, favorites에 새로 들어온 행을 짧은 주기마다 읽어 {@link TrendingEngine}에 넘긴다.
+ * <p>
+ * PK(IDENTITY)와 created_at은 모두 커밋 전에 정해지므로, 늦게 커밋된 트랜잭션의 행은 이미 지나간 커서 뒤에 나타난다.
+ * 그래서 커서를 두지 않고 매 주기 "지금까지 본 가장 늦은 created_at − lag"부터 다시 읽으며,
+ * 그 창 안에서 이미 반영한 이벤트는 PK로 걸러낸다. lag보다 오래 열려 있던 쓰기 트랜잭션의 행만 놓칠 수 있다.
+ * <p>
+ * 상태는 메모리에만 두고, 기동 시에는 감쇠 창(warm-up) 안의 행부터 다시 읽어 점수를 복원한다.
+ */
+@Component
+@ConditionalOnProperty(name = "trending.tail.enabled", havingValue = "true")
+public class EngagementTailer {
+
+    private static final Logger log = LoggerFactory.getLogger(EngagementTailer.class);
+
+    private final FeedReactionRepository feedReactionRepository;
+    private final ArchiveVibeRepository archiveVibeRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final TrendingEngine trendingEngine;
+    private final int batchSize;
+    private final Duration lag;
+    private final LocalDateTime since;
+    private final Map<EngagementType, Tail> tails = new EnumMap<>(EngagementType.class);
+
+    public EngagementTailer(FeedReactionRepository feedReactionRepository,
+                            ArchiveVibeRepository archiveVibeRepository,
+                            FavoriteRepository favoriteRepository,
+                            TrendingEngine trendingEngine,
+                            @Value("${trending.tail.batch-size:1000}") int batchSize,
+                            @Value("${trending.tail.lag:PT30S}") Duration lag,
+                            @Value("${trending.tail.warm-up:P1D}") Duration warmUp) {
+        this.feedReactionRepository = feedReactionRepository;
+        this.archiveVibeRepository = archiveVibeRepository;
+        this.favoriteRepository = favoriteRepository;
+        this.trendingEngine = trendingEngine;
+        this.batchSize = batchSize;
+        this.lag = lag;
+        this.since = LocalDateTime.now().minus(warmUp);
+    }
+
+    @Scheduled(fixedDelayString = "${trending.tail.interval:PT5S}")
+    public void poll() {
+        try {
+            int events = tail(EngagementType.REACTION, feedReactionRepository::findEngagementsAfter)
+                    + tail(EngagementType.ARCHIVE, archiveVibeRepository::findEngagementsAfter)
+                    + tail(EngagementType.FAVORITE, favoriteRepository::findEngagementsAfter);
+            if (events > 0) {
+                log.debug("참여 이벤트 {}건 반영 (tails={})", events, tails);
+            }
+        } catch (DataAccessException e) {
+            log.warn("참여 이벤트 조회 실패 — 다음 주기에 다시 읽음 (tails={})", tails, e);
+        }
+    }
+
+    /**
+     * watermark − lag 이후 행을 (created_at, PK) 순서로 배치 단위로 끝까지 읽고, 처음 보는 이벤트만 반영한다.
+     * 행마다 상태를 갱신하므로 중간에 실패해도 반영한 이벤트는 다시 세지 않는다.
+     */
+    int tail(EngagementType type, TailQuery query) {
+        Tail tail = tails.computeIfAbsent(type, t -> new Tail(since));
+        LocalDateTime afterTime = tail.watermark.minus(lag);
+        if (afterTime.isBefore(since)) {
+            afterTime = since;
+        }
+        long afterId = 0;
+        int recorded = 0;
+        List<Engagement> batch;
+        do {
+            batch = query.find(afterTime, afterId, batchSize);
+            for (Engagement engagement : batch) {
+                LocalDateTime occurredAt = engagement.getOccurredAt();
+                if (tail.seen.putIfAbsent(engagement.getEventId(), occurredAt) == null) {
+                    trendingEngine.record(type, engagement.getResultId(), occurredAt);
+                    recorded++;
+                }
+                if (occurredAt.isAfter(tail.watermark)) {
+                    tail.watermark = occurredAt;
+                }
+            }
+            if (!batch.isEmpty()) {
+                Engagement last = batch.get(batch.size() - 1);
+                afterTime = last.getOccurredAt();
+                afterId = last.getEventId();
+            }
+        } while (batch.size() == batchSize);
+
+        // 다음 조회 창(watermark − lag)보다 오래된 이벤트는 다시 읽히지 않으므로 기억할 필요가 없다
+        LocalDateTime horizon = tail.watermark.minus(lag);
+        tail.seen.values().removeIf(occurredAt -> occurredAt.isBefore(horizon));
+        return recorded;
+    }
+
+    @FunctionalInterface
+    interface TailQuery {
+        List<Engagement> find(LocalDateTime afterTime, long afterId, int limit);
+    }
+
+    /**
+     * 테이블별 tail 상태. watermark는 지금까지 본 가장 늦은 created_at, seen은 조회 창 안에서 반영한 이벤트 PK.
+     */
+    private static final class Tail {
+
+        private LocalDateTime watermark;
+        private final Map<Long, LocalDateTime> seen = new HashMap<>();
+
+        private Tail(LocalDateTime watermark) {
+            this.watermark = watermark;
+        }
+
+        @Override
+        public String toString() {
+            return "{watermark=" + watermark + ", window=" + seen.size() + "}";
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.link.vibe.domain.trend.service;
+
+/**
+ * 트렌딩 점수에 반영하는 참여 종류와 가중치. 저장·즐겨찾기처럼 의도가 분명한 행동일수록 크게 준다.
+ */
+public enum EngagementType {
+
+    /** 피드 조회 (feeds.view_count) */
+    VIEW(1),
+    /** 피드 반응 (feed_reactions) */
+    REACTION(3),
+    /** 아카이브 저장 (archive_vibes) */
+    ARCHIVE(5),
+    /** 즐겨찾기 (favorites) */
+    FAVORITE(4);
+
+    private final double weight;
+
+    EngagementType(double weight) {
+        this.weight = weight;
+    }
+
+    public double weight() {
+        return weight;
+    }
+}
@@ -0,0 +1,7 @@
+package com.link.vibe.domain.trend.service;
+
+/**
+ * 남의 피드가 홈 타임라인 응답에 담길 때 FeedService가 발행한다.
+ * 조회는 행으로 남지 않아 tail로 읽을 수 없으므로 프로세스 내 이벤트로 받는다.
+ */
+public record FeedViewedEvent(Long resultId) {}
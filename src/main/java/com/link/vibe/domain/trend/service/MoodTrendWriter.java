@@ -0,0 +1,44 @@
+package com.link.vibe.domain.trend.service;
+
+import com.link.vibe.domain.trend.repository.MoodTrendRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 메모리에 모인 키워드 사용 수를 mood_trends에 한 트랜잭션으로 더하고, 성장률을 다시 계산한다.
+ * 사용 수는 집계일마다 upsert 한 문장으로 더한다.
+ * 성장률은 이번 flush에 들어온 키워드만이 아니라 그날 행이 있는 모든 키워드에 대해 다시 구한다.
+ * 사용 수가 바뀐 날의 다음 날 성장률도 분모가 바뀌므로 함께 다시 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MoodTrendWriter {
+
+    private final MoodTrendRepository moodTrendRepository;
+
+    /**
+     * @param usage 집계일 → 키워드 ID → 지난 flush 이후 늘어난 사용 수
+     */
+    @Transactional
+    public void addUsage(Map<LocalDate, Map<Long, Integer>> usage) {
+        usage.forEach((trendDate, counts) -> {
+            Long[] keywordIds = new Long[counts.size()];
+            Integer[] increments = new Integer[counts.size()];
+            int i = 0;
+            for (Map.Entry<Long, Integer> count : counts.entrySet()) {
+                keywordIds[i] = count.getKey();
+                increments[i++] = count.getValue();
+            }
+            moodTrendRepository.addUsage(trendDate, keywordIds, increments);
+        });
+        usage.keySet().stream()
+                .flatMap(trendDate -> Stream.of(trendDate, trendDate.plusDays(1)))
+                .distinct()
+                .forEach(moodTrendRepository::updateGrowthRates);
+    }
+}
@@ -0,0 +1,109 @@
+package com.link.vibe.domain.trend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기분 키워드의 일별 사용 수를 메모리에서 세고 주기적으로 mood_trends에 더한다.
+ * vibe_prompts를 다시 읽어 집계하지 않기 위함이다.
+ * <p>
+ * 요청 경로에서는 (키워드, 날짜)별 LongAdder를 올리기만 한다. LongAdder는 경합 시 셀을 나눠 쓰므로
+ * 동시 생성이 많아도 같은 캐시 라인을 두고 CAS를 반복하지 않는다.
+ * 카운터는 초기화하지 않고 마지막으로 기록한 값과의 차이만 기록하므로 flush 중에 올라간 수도 잃지 않는다.
+ * 기록 실패 시 차이는 다음 flush로 넘어가며, 비정상 종료 시 잃는 양은 최대 flush 간격만큼이다.
+ */
+@Component
+public class MoodUsageCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(MoodUsageCounter.class);
+
+    private final MoodTrendWriter moodTrendWriter;
+    private final ZoneId zone;
+    private final ConcurrentHashMap<Key, Counter> counters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public MoodUsageCounter(MoodTrendWriter moodTrendWriter,
+                            @Value("${trending.zone:Asia/Seoul}") String zone) {
+        this.moodTrendWriter = moodTrendWriter;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 오늘(trending.zone 기준) 날짜로 키워드마다 사용 수를 1 올린다.
+     */
+    public void record(List<Long> moodKeywordIds) {
+        LocalDate today = LocalDate.now(zone);
+        for (Long keywordId : moodKeywordIds) {
+            Key key = new Key(keywordId, today);
+            Counter counter = counters.get(key);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(key, k -> new Counter());
+            }
+            counter.hits.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trending.mood.flush-interval:PT1M}",
+            initialDelayString = "${trending.mood.flush-interval:PT1M}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            LocalDate today = LocalDate.now(zone);
+            Map<LocalDate, Map<Long, Integer>> usage = new TreeMap<>();
+            List<Runnable> commits = new ArrayList<>();
+            counters.forEach((key, counter) -> {
+                long total = counter.hits.sum();
+                long delta = total - counter.flushed;
+                if (delta > 0) {
+                    usage.computeIfAbsent(key.date(), d -> new TreeMap<>()).put(key.keywordId(), Math.toIntExact(delta));
+                    commits.add(() -> counter.flushed = total);
+                } else if (key.date().isBefore(today.minusDays(1))) {
+                    // 모두 기록된 이틀 전 카운터 — 자정 직전에 시작한 요청도 끝났으므로 더 올라가지 않는다
+                    counters.remove(key, counter);
+                }
+            });
+            if (usage.isEmpty()) {
+                return;
+            }
+
+            try {
+                moodTrendWriter.addUsage(usage);
+                commits.forEach(Runnable::run);
+                log.debug("기분 키워드 사용 수 기록 (dates={}, keywords={})",
+                        usage.keySet(), usage.values().stream().mapToInt(Map::size).sum());
+            } catch (DataAccessException e) {
+                log.warn("기분 키워드 사용 수 기록 실패 — 다음 주기에 함께 기록 (dates={})", usage.keySet(), e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record Key(Long keywordId, LocalDate date) {}
+
+    private static final class Counter {
+        final LongAdder hits = new LongAdder();
+        // flushLock 안에서만 읽고 쓴다
+        long flushed;
+    }
+}
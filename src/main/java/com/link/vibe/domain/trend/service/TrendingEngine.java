@@ -0,0 +1,123 @@
+package com.link.vibe.domain.trend.service;
+
+import com.link.vibe.domain.trend.dto.TrendingVibeResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Vibe 결과별 트렌딩 점수를 참여 이벤트가 들어오는 대로 갱신한다.
+ * 점수는 반감기(half-life)로 지수 감쇠하며 {@link DecayedTopK}에 최대 capacity개만 유지한다.
+ * "지금 트렌딩" 조회는 이 구조에서 바로 답하고, 순위 스냅샷은 주기적으로 trending_vibes(오늘 날짜)에 덮어쓴다.
+ * 밤마다 반응 테이블 전체를 GROUP BY 하던 집계를 대신한다.
+ */
+@Component
+public class TrendingEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingEngine.class);
+
+    private final TrendingSnapshotWriter snapshotWriter;
+    private final int snapshotSize;
+    private final ZoneId zone;
+
+    // 이벤트 반영·조회 모두 수 µs 안에 끝나는 메모리 연산이라 잠금 하나로 직렬화한다
+    private final ReentrantLock lock = new ReentrantLock();
+    private final DecayedTopK scores;
+
+    public TrendingEngine(TrendingSnapshotWriter snapshotWriter,
+                          @Value("${trending.half-life:PT6H}") Duration halfLife,
+                          @Value("${trending.capacity:10000}") int capacity,
+                          @Value("${trending.snapshot-size:100}") int snapshotSize,
+                          @Value("${trending.zone:Asia/Seoul}") String zone) {
+        this.snapshotWriter = snapshotWriter;
+        this.snapshotSize = snapshotSize;
+        this.zone = ZoneId.of(zone);
+        this.scores = new DecayedTopK(halfLife, capacity, System.currentTimeMillis());
+    }
+
+    /**
+     * 참여 이벤트 하나를 반영한다. occurredAt이 null이거나 미래면 지금 일어난 것으로 본다.
+     */
+    public void record(EngagementType type, Long resultId, LocalDateTime occurredAt) {
+        if (resultId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long at = occurredAt == null ? now
+                : Math.min(now, occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        lock.lock();
+        try {
+            scores.add(resultId, type.weight(), at);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onFeedViewed(FeedViewedEvent event) {
+        record(EngagementType.VIEW, event.resultId(), null);
+    }
+
+    /**
+     * 현재 감쇠 점수 상위 limit개.
+     */
+    public List<TrendingVibeResponse> trendingNow(int limit) {
+        List<DecayedTopK.Scored> top = top(limit);
+        List<TrendingVibeResponse> response = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            response.add(new TrendingVibeResponse(i + 1, top.get(i).key(), top.get(i).score()));
+        }
+        return response;
+    }
+
+    /**
+     * 상위 snapshot-size개를 오늘(trending.zone 기준) 순위로 trending_vibes에 기록한다.
+     */
+    @Scheduled(fixedDelayString = "${trending.flush-interval:PT5M}",
+            initialDelayString = "${trending.flush-interval:PT5M}")
+    public void flush() {
+        List<DecayedTopK.Scored> snapshot = top(snapshotSize);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        LocalDate trendDate = LocalDate.now(zone);
+        try {
+            long start = System.nanoTime();
+            snapshotWriter.replace(trendDate, snapshot);
+            log.info("트렌딩 스냅샷 기록 (trendDate={}, ranked={}, tracked={}, {}ms)",
+                    trendDate, snapshot.size(), trackedCount(), (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 스냅샷 기록 실패 — 다음 주기에 다시 기록 (trendDate={})", trendDate, e);
+        }
+    }
+
+    private List<DecayedTopK.Scored> top(int limit) {
+        lock.lock();
+        try {
+            return scores.top(limit, System.currentTimeMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int trackedCount() {
+        lock.lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
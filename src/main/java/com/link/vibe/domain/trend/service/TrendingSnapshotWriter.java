@@ -0,0 +1,38 @@
+package com.link.vibe.domain.trend.service;
+
+import com.link.vibe.domain.trend.repository.TrendingVibeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 트렌딩 순위 스냅샷을 trending_vibes에 한 트랜잭션으로 덮어쓴다.
+ * 같은 날짜의 이전 스냅샷에서 순위 밖으로 밀려난 행은 지우고, 나머지는 (result_id, trend_date) 기준으로 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingSnapshotWriter {
+
+    // score DECIMAL(10,2) 상한
+    private static final BigDecimal MAX_SCORE = new BigDecimal("99999999.99");
+
+    private final TrendingVibeRepository trendingVibeRepository;
+
+    @Transactional
+    public void replace(LocalDate trendDate, List<DecayedTopK.Scored> ranked) {
+        trendingVibeRepository.deleteOutside(trendDate, ranked.stream().map(DecayedTopK.Scored::key).toList());
+        for (int i = 0; i < ranked.size(); i++) {
+            DecayedTopK.Scored scored = ranked.get(i);
+            trendingVibeRepository.upsert(scored.key(), score(scored.score()), i + 1, trendDate);
+        }
+    }
+
+    private static BigDecimal score(double score) {
+        return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP).min(MAX_SCORE);
+    }
+}
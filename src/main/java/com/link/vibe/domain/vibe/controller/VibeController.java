@@ -10,18 +10,34 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.time.Duration;
 
 @Tag(name = "Vibe", description = "Vibe 생성 및 조회 API — vibe_sessions, vibe_prompts, vibe_results 테이블 기반")
 @RestController
 @RequestMapping("/api/v1/vibes")
-@RequiredArgsConstructor
 public class VibeController {
 
+    // 응답 형식이 바뀌면 올려서 기존 ETag를 무효화한다
+    private static final String DETAIL_ETAG_VERSION = "v1";
+
     private final VibeService vibeService;
+    private final CacheControl detailCacheControl;
+
+    public VibeController(VibeService vibeService,
+                          @Value("${vibe.http.detail-max-age:P1D}") Duration detailMaxAge) {
+        this.vibeService = vibeService;
+        this.detailCacheControl = CacheControl.maxAge(detailMaxAge).cachePrivate();
+    }
 
     @Operation(
             summary = "Vibe 생성",
@@ -29,11 +45,13 @@ public class VibeController {
                     3단계 선택 결과(기분 키워드, 시간, 날씨, 공간, 동반자)를 기반으로 AI 분위기를 생성합니다.
 
                     **처리 흐름:**
-                    1. vibe_sessions 레코드 생성 (status=IN_PROGRESS)
-                    2. vibe_prompts 레코드 생성 (선택 옵션 + 최종 프롬프트)
-                    3. OpenAI API 호출하여 분위기 문구 및 분석 생성
-                    4. vibe_results 레코드 생성 (AI 결과)
-                    5. 세션 상태를 COMPLETED로 갱신
+                    1. vibe_sessions 레코드 생성 (status=IN_PROGRESS) — 짧은 트랜잭션
+                    2. OpenAI API 호출하여 분위기 문구 및 분석 생성 — 트랜잭션 밖 (DB 커넥션 미점유)
+                    3. vibe_prompts / vibe_results 레코드 생성 + 세션 상태를 COMPLETED로 갱신 — 짧은 트랜잭션
+
+                    생성 또는 저장에 실패한 세션은 CANCELLED로 전환됩니다.
+
+                    문구는 `Accept-Language`에 맞는 언어로 생성됩니다 (선택지 조회와 같은 규칙, 기본 언어 ko).
                     """
     )
     @ApiResponses({
@@ -41,33 +59,124 @@ public class VibeController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 옵션 ID")
     })
     @PostMapping
-    public ApiResponse<VibeResultResponse> createVibe(@Valid @RequestBody VibeCreateRequest request) {
-        return ApiResponse.ok(vibeService.createVibe(request));
+    public ApiResponse<VibeResultResponse> createVibe(
+            @Valid @RequestBody VibeCreateRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage) {
+        return ApiResponse.ok(vibeService.createVibe(request, acceptLanguage));
+    }
+
+    @Operation(
+            summary = "Vibe 비동기 생성",
+            description = """
+                    세션을 생성한 뒤 AI 생성을 기다리지 않고 즉시 202와 sessionId를 반환합니다.
+
+                    **진행 확인 방법:**
+                    - `GET /api/v1/vibes/{sessionId}/status` 폴링 (IN_PROGRESS → COMPLETED / CANCELLED)
+                    - `GET /api/v1/vibes/{sessionId}/stream` SSE 구독 (delta → completed / failed 이벤트)
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "생성 시작"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 옵션 ID"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "생성 대기열 초과")
+    })
+    @PostMapping("/async")
+    public ResponseEntity<ApiResponse<VibeSessionStatusResponse>> createVibeAsync(
+            @Valid @RequestBody VibeCreateRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.ok(vibeService.startVibe(request, acceptLanguage)));
+    }
+
+    @Operation(
+            summary = "Vibe 세션 상태 조회",
+            description = "비동기 생성 중인 세션의 상태(IN_PROGRESS, COMPLETED, CANCELLED)를 조회합니다."
+    )
+    @GetMapping("/{sessionId}/status")
+    public ApiResponse<VibeSessionStatusResponse> getStatus(
+            @Parameter(description = "세션 ID", example = "1")
+            @PathVariable Long sessionId) {
+        return ApiResponse.ok(vibeService.getStatus(sessionId));
+    }
+
+    @Operation(
+            summary = "Vibe 생성 스트림 구독 (SSE)",
+            description = """
+                    비동기 생성 중인 세션의 OpenAI 응답 조각을 Server-Sent Events로 전달합니다.
+
+                    **이벤트:**
+                    - `delta`: 생성 중인 JSON 텍스트 조각 (구독 이전 조각도 처음부터 재전송)
+                    - `completed`: 최종 결과 (VibeResultResponse)
+                    - `failed`: 생성 실패 메시지
+                    - `status`: 이 서버에서 진행 중이 아닌 세션의 현재 상태
+                    """
+    )
+    @GetMapping(value = "/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVibe(
+            @Parameter(description = "세션 ID", example = "1")
+            @PathVariable Long sessionId) {
+        return vibeService.subscribe(sessionId);
     }
 
     @Operation(
             summary = "Vibe 히스토리 조회",
-            description = "사용자의 Vibe 생성 히스토리를 최신순으로 조회합니다. 완료된 세션만 반환됩니다."
+            description = """
+                    사용자의 Vibe 생성 히스토리를 최신순으로 조회합니다. 완료된 세션만 반환됩니다.
+
+                    **페이지네이션 (커서 기반):**
+                    - 첫 페이지는 cursor 없이 요청합니다.
+                    - 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달합니다. `hasNext=false`이면 마지막 페이지입니다.
+                    """
     )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기")
+    })
     @GetMapping
-    public ApiResponse<List<VibeHistoryResponse>> getHistory(
+    public ApiResponse<VibeHistoryPageResponse> getHistory(
             @Parameter(description = "사용자 ID (기본값: 1)", example = "1")
-            @RequestParam(defaultValue = "1") Long userId) {
-        return ApiResponse.ok(vibeService.getHistory(userId));
+            @RequestParam(defaultValue = "1") Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.ok(vibeService.getHistory(userId, cursor, size));
     }
 
     @Operation(
             summary = "Vibe 상세 조회",
-            description = "특정 세션의 Vibe 상세 정보(프롬프트 + 결과)를 조회합니다."
+            description = """
+                    특정 세션의 Vibe 상세 정보(프롬프트 + 결과)를 조회합니다.
+
+                    완료된 Vibe는 바뀌지 않으므로 세션별 ETag를 내려줍니다.
+                    `If-None-Match`가 같고 완료된 세션이면 상세 조회 없이 본문 없는 304를 반환합니다.
+                    """
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음")
     })
     @GetMapping("/{sessionId}")
-    public ApiResponse<VibeResultResponse> getVibeDetail(
+    public ResponseEntity<ApiResponse<VibeResultResponse>> getVibeDetail(
             @Parameter(description = "세션 ID", example = "1")
-            @PathVariable Long sessionId) {
-        return ApiResponse.ok(vibeService.getVibeDetail(sessionId));
+            @PathVariable Long sessionId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 200은 완료된 세션에만 나가고 완료된 결과는 불변이므로 ETag는 세션 ID만으로 정해진다.
+        // 태그만 보고는 세션이 있는지 알 수 없으므로 완료 여부를 확인한 뒤에만 304로 답한다 (와일드카드는 받지 않음)
+        ETag etag = new ETag(DETAIL_ETAG_VERSION + "-" + sessionId, false);
+        if (ifNoneMatch != null
+                && ETag.parse(ifNoneMatch).stream().anyMatch(candidate -> candidate.compare(etag, false))
+                && vibeService.isCompleted(sessionId)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag.tag())
+                    .cacheControl(detailCacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag.tag())
+                .cacheControl(detailCacheControl)
+                .body(ApiResponse.ok(vibeService.getVibeDetail(sessionId)));
     }
 }
@@ -0,0 +1,12 @@
+package com.link.vibe.domain.vibe.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Vibe 히스토리 페이지")
+public record VibeHistoryPageResponse(
+        @Schema(description = "히스토리 항목 (최신순)") List<VibeHistoryResponse> items,
+        @Schema(description = "다음 페이지 커서. 다음 요청의 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)") String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부") boolean hasNext
+) {}
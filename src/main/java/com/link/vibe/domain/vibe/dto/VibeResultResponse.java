@@ -11,9 +11,19 @@ public record VibeResultResponse(
         @Schema(description = "AI 생성 분위기 문구") String phrase,
         @Schema(description = "AI 분석 결과") String analysis,
         @Schema(description = "선택한 옵션 정보") SelectedOptions selectedOptions,
-        @Schema(description = "AI 처리 시간 (ms)") Integer processingTimeMs,
+        @Schema(description = "AI 처리 시간 (ms, 캐시된 결과로 응답한 경우 0)") Integer processingTimeMs,
         @Schema(description = "생성 시각") LocalDateTime createdAt
 ) {
+    /**
+     * 평탄한 컬럼 목록으로 만든다 (VibeHistoryRepository 생성자 projection용).
+     */
+    public VibeResultResponse(Long sessionId, String phrase, String analysis, List<String> moods,
+                              String time, String weather, String place, String companion,
+                              Integer processingTimeMs, LocalDateTime createdAt) {
+        this(sessionId, phrase, analysis, new SelectedOptions(moods, time, weather, place, companion),
+                processingTimeMs, createdAt);
+    }
+
     @Schema(description = "선택한 옵션 상세")
     public record SelectedOptions(
             @Schema(description = "선택한 기분 키워드 값 목록") List<String> moods,
@@ -0,0 +1,23 @@
+package com.link.vibe.domain.vibe.dto;
+
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Vibe 세션 진행 상태")
+public record VibeSessionStatusResponse(
+        @Schema(description = "세션 ID") Long sessionId,
+        @Schema(description = "세션 상태 (IN_PROGRESS, COMPLETED, CANCELLED)") String status,
+        @Schema(description = "세션 시작 시각") LocalDateTime createdAt,
+        @Schema(description = "세션 종료 시각") LocalDateTime completedAt
+) {
+    public static VibeSessionStatusResponse from(VibeSession session) {
+        return new VibeSessionStatusResponse(
+                session.getSessionId(),
+                session.getStatus(),
+                session.getCreatedAt(),
+                session.getCompletedAt()
+        );
+    }
+}
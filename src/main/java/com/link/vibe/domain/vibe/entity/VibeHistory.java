@@ -0,0 +1,98 @@
+package com.link.vibe.domain.vibe.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 히스토리/상세 조회용 비정규화 읽기 모델. 세션 완료 트랜잭션에서 함께 기록되며 이후 변경되지 않는다.
+ * 기분 키워드는 생성 시점의 값으로, 옵션은 키로 저장해 조회 시 조인이나 카탈로그 해석이 필요 없다.
+ */
+@Entity
+@Table(name = "vibe_history")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VibeHistory implements Persistable<Long> {
+
+    @Id
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "phrase", columnDefinition = "TEXT")
+    private String phrase;
+
+    @Column(name = "ai_analysis", columnDefinition = "TEXT")
+    private String aiAnalysis;
+
+    // PostgreSQL 방언은 JSON을 jsonb로 매핑한다. columnDefinition을 고정하지 않아 H2 테스트 스키마도 만들어진다
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "mood_values")
+    private List<String> moodValues;
+
+    @Column(name = "time_key", length = 50)
+    private String timeKey;
+
+    @Column(name = "weather_key", length = 50)
+    private String weatherKey;
+
+    @Column(name = "place_key", length = 50)
+    private String placeKey;
+
+    @Column(name = "companion_key", length = 50)
+    private String companionKey;
+
+    @Column(name = "processing_time_ms")
+    private Integer processingTimeMs;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 식별자를 세션에서 받아오므로 save() 시 merge(SELECT) 대신 바로 INSERT 하도록 새 엔티티 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 완료된 세션의 프롬프트/결과와 해석된 기분 키워드 값으로 히스토리 행을 만든다.
+     */
+    public static VibeHistory of(VibeSession session, VibePrompt prompt, VibeResult result, List<String> moodValues) {
+        VibeHistory history = new VibeHistory();
+        history.sessionId = session.getSessionId();
+        history.userId = session.getUserId();
+        history.phrase = result.getPhrase();
+        history.aiAnalysis = result.getAiAnalysis();
+        history.moodValues = List.copyOf(moodValues);
+        history.timeKey = prompt.getTimeOption() != null ? prompt.getTimeOption().getTimeKey() : null;
+        history.weatherKey = prompt.getWeatherOption() != null ? prompt.getWeatherOption().getWeatherKey() : null;
+        history.placeKey = prompt.getPlaceOption() != null ? prompt.getPlaceOption().getPlaceKey() : null;
+        history.companionKey = prompt.getCompanionOption() != null ? prompt.getCompanionOption().getCompanionKey() : null;
+        history.processingTimeMs = result.getProcessingTimeMs();
+        history.createdAt = session.getCreatedAt();
+        return history;
+    }
+
+    @Override
+    public Long getId() {
+        return sessionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -10,6 +10,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "vibe_prompts")
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 public class VibePrompt {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vibe_prompts_seq")
+    @SequenceGenerator(name = "vibe_prompts_seq", sequenceName = "vibe_prompts_seq", allocationSize = 50)
     @Column(name = "prompt_id")
     private Long promptId;
 
@@ -26,9 +28,10 @@ public class VibePrompt {
     @JoinColumn(name = "session_id", nullable = false, unique = true)
     private VibeSession vibeSession;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "mood_keyword_ids", columnDefinition = "jsonb")
-    private String moodKeywordIds;
+    // BIGINT[] (V5) — JDBC 배열로 바로 매핑되며 GIN 인덱스로 포함 조회(@>)가 가능하다. 선택 순서를 유지한다
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "mood_keyword_ids")
+    private List<Long> moodKeywordIds;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "time_id")
@@ -53,7 +56,7 @@ public class VibePrompt {
     private LocalDateTime createdAt;
 
     @Builder
-    public VibePrompt(VibeSession vibeSession, String moodKeywordIds,
+    public VibePrompt(VibeSession vibeSession, List<Long> moodKeywordIds,
                       TimeOption timeOption, WeatherOption weatherOption,
                       PlaceOption placeOption, CompanionOption companionOption,
                       String finalPrompt) {
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class VibeResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vibe_results_seq")
+    @SequenceGenerator(name = "vibe_results_seq", sequenceName = "vibe_results_seq", allocationSize = 50)
     @Column(name = "result_id")
     private Long resultId;
 
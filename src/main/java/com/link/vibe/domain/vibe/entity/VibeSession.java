@@ -14,8 +14,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VibeSession {
 
+    // 50개 단위 시퀀스(V4) — INSERT 전에 식별자가 정해지므로 세션/프롬프트/결과 INSERT가 JDBC 배치로 나간다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vibe_sessions_seq")
+    @SequenceGenerator(name = "vibe_sessions_seq", sequenceName = "vibe_sessions_seq", allocationSize = 50)
     @Column(name = "session_id")
     private Long sessionId;
 
@@ -52,4 +54,13 @@ public class VibeSession {
         this.status = "COMPLETED";
         this.completedAt = LocalDateTime.now();
     }
+
+    public void cancel() {
+        this.status = "CANCELLED";
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isInProgress() {
+        return "IN_PROGRESS".equals(status);
+    }
 }
@@ -0,0 +1,58 @@
+package com.link.vibe.domain.vibe.repository;
+
+import com.link.vibe.domain.vibe.dto.VibeHistoryResponse;
+import com.link.vibe.domain.vibe.dto.VibeResultResponse;
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 조회 메서드는 응답 DTO 생성자 projection으로 필요한 컬럼만 읽는다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 스냅샷 복사·dirty checking 비용이 없고,
+ * 히스토리 목록은 ai_analysis(TEXT)를 전송하지 않는다.
+ */
+public interface VibeHistoryRepository extends JpaRepository<VibeHistory, Long> {
+
+    String HISTORY_ITEM = "new com.link.vibe.domain.vibe.dto.VibeHistoryResponse(" +
+            "h.sessionId, h.phrase, h.moodValues, h.timeKey, h.weatherKey, h.placeKey, h.companionKey, h.createdAt)";
+
+    /**
+     * 히스토리 첫 페이지. idx_vibe_history_user_created 역방향 범위 스캔 한 번으로 끝난다.
+     */
+    @Query("SELECT " + HISTORY_ITEM + " FROM VibeHistory h " +
+            "WHERE h.userId = :userId " +
+            "ORDER BY h.createdAt DESC, h.sessionId DESC")
+    List<VibeHistoryResponse> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 커서 (createdAt, sessionId) 바로 다음부터 limit건. 행 값 비교라 커서 위치가 Index Cond로 들어간다.
+     */
+    @Query("SELECT " + HISTORY_ITEM + " FROM VibeHistory h " +
+            "WHERE h.userId = :userId " +
+            "AND (h.createdAt, h.sessionId) < (:createdAt, :sessionId) " +
+            "ORDER BY h.createdAt DESC, h.sessionId DESC")
+    List<VibeHistoryResponse> findPageAfter(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("sessionId") Long sessionId,
+                                            Limit limit);
+
+    /**
+     * 상세 응답. vibe_history_pkey 단건 조회.
+     */
+    @Query("SELECT new com.link.vibe.domain.vibe.dto.VibeResultResponse(" +
+            "h.sessionId, h.phrase, h.aiAnalysis, h.moodValues, h.timeKey, h.weatherKey, h.placeKey, h.companionKey, " +
+            "h.processingTimeMs, h.createdAt) " +
+            "FROM VibeHistory h WHERE h.sessionId = :sessionId")
+    Optional<VibeResultResponse> findDetail(@Param("sessionId") Long sessionId);
+
+    @Query("SELECT h.sessionId FROM VibeHistory h WHERE h.sessionId IN :sessionIds")
+    Set<Long> findExistingIds(@Param("sessionIds") Collection<Long> sessionIds);
+}
@@ -2,6 +2,37 @@ package com.link.vibe.domain.vibe.repository;
 
 import com.link.vibe.domain.vibe.entity.VibePrompt;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface VibePromptRepository extends JpaRepository<VibePrompt, Long> {
+
+    /**
+     * 기간 내 선택 조합별 사용 횟수. 기분 키워드 ID는 쉼표로 이어 붙인 문자열(예: "1,3")로 돌려주며,
+     * 순서 정규화는 호출 측에서 처리한다.
+     */
+    @Query(value = "SELECT array_to_string(vp.mood_keyword_ids, ',') AS moodKeywordIds, " +
+            "vp.time_id AS timeId, vp.weather_id AS weatherId, vp.place_id AS placeId, " +
+            "vp.companion_id AS companionId, COUNT(*) AS usageCount " +
+            "FROM vibe_prompts vp " +
+            "WHERE vp.created_at >= :since " +
+            "AND vp.time_id IS NOT NULL AND vp.weather_id IS NOT NULL " +
+            "AND vp.place_id IS NOT NULL AND vp.companion_id IS NOT NULL " +
+            "GROUP BY vp.mood_keyword_ids, vp.time_id, vp.weather_id, vp.place_id, vp.companion_id " +
+            "ORDER BY usageCount DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<CombinationUsage> findPopularCombinations(@Param("since") LocalDateTime since, @Param("limit") int limit);
+
+    interface CombinationUsage {
+        String getMoodKeywordIds();
+        Long getTimeId();
+        Long getWeatherId();
+        Long getPlaceId();
+        Long getCompanionId();
+        Long getUsageCount();
+    }
 }
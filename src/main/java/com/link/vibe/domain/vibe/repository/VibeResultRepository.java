@@ -4,4 +4,6 @@ import com.link.vibe.domain.vibe.entity.VibeResult;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface VibeResultRepository extends JpaRepository<VibeResult, Long> {
+
+    boolean existsByResultIdAndVibeSessionUserId(Long resultId, Long userId);
 }
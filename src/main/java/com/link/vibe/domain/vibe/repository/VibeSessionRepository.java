@@ -1,33 +1,56 @@
 package com.link.vibe.domain.vibe.repository;
 
 import com.link.vibe.domain.vibe.entity.VibeSession;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 프롬프트의 옵션(time/weather/place/companion)은 fetch join하지 않는다.
+ * 옵션 엔티티는 2차 캐시에 있으므로 지연 로딩 시 SQL 없이 캐시에서 채워진다.
+ */
 public interface VibeSessionRepository extends JpaRepository<VibeSession, Long> {
 
+    /**
+     * vibe_history 백필용. 결과가 있는 세션을 session_id 순으로 afterId 다음부터 limit건.
+     */
     @Query("SELECT vs FROM VibeSession vs " +
-            "LEFT JOIN FETCH vs.vibePrompt vp " +
-            "LEFT JOIN FETCH vp.timeOption " +
-            "LEFT JOIN FETCH vp.weatherOption " +
-            "LEFT JOIN FETCH vp.placeOption " +
-            "LEFT JOIN FETCH vp.companionOption " +
-            "LEFT JOIN FETCH vs.vibeResult " +
-            "WHERE vs.userId = :userId " +
-            "ORDER BY vs.createdAt DESC")
-    List<VibeSession> findByUserIdWithDetails(@Param("userId") Long userId);
+            "JOIN FETCH vs.vibePrompt " +
+            "JOIN FETCH vs.vibeResult " +
+            "WHERE vs.sessionId > :afterId " +
+            "ORDER BY vs.sessionId")
+    List<VibeSession> findCompletedWithDetailsAfter(@Param("afterId") Long afterId, Limit limit);
 
     @Query("SELECT vs FROM VibeSession vs " +
-            "LEFT JOIN FETCH vs.vibePrompt vp " +
-            "LEFT JOIN FETCH vp.timeOption " +
-            "LEFT JOIN FETCH vp.weatherOption " +
-            "LEFT JOIN FETCH vp.placeOption " +
-            "LEFT JOIN FETCH vp.companionOption " +
+            "LEFT JOIN FETCH vs.vibePrompt " +
             "LEFT JOIN FETCH vs.vibeResult " +
             "WHERE vs.sessionId = :sessionId")
     Optional<VibeSession> findByIdWithDetails(@Param("sessionId") Long sessionId);
+
+    boolean existsBySessionIdAndStatus(Long sessionId, String status);
+
+    /**
+     * 진행 중인 세션만 COMPLETED로 바꾼다. 조회 없이 한 번의 UPDATE로 상태 확인과 변경을 함께 하며,
+     * 바뀐 행 수가 0이면 세션이 없거나 이미 종료된 것이다.
+     */
+    @Modifying
+    @Query("UPDATE VibeSession vs SET vs.status = 'COMPLETED', vs.completedAt = :now " +
+            "WHERE vs.sessionId = :sessionId AND vs.status = 'IN_PROGRESS'")
+    int completeIfInProgress(@Param("sessionId") Long sessionId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE VibeSession vs SET vs.status = 'CANCELLED', vs.completedAt = :now " +
+            "WHERE vs.sessionId = :sessionId AND vs.status = 'IN_PROGRESS'")
+    int cancelIfInProgress(@Param("sessionId") Long sessionId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE VibeSession vs SET vs.status = 'CANCELLED', vs.completedAt = :now " +
+            "WHERE vs.status = 'IN_PROGRESS' AND vs.createdAt < :threshold")
+    int cancelStaleSessions(@Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
 }
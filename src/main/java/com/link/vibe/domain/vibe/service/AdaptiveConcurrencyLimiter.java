@@ -0,0 +1,171 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.global.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OpenAI 동시 호출 수를 관측 지연에 맞춰 조절하는 AIMD 리미터.
+ * <pre>
+ * 성공 + 지연이 latency-threshold 이하 + 한도의 절반 이상 사용 중 → 한도 +1 (가산 증가)
+ * 실패 또는 지연이 latency-threshold 초과                          → 한도 × backoff-ratio (승법 감소)
+ * </pre>
+ * 한도를 넘는 요청은 upstream을 기다리지 않고 즉시 503으로 거절한다.
+ * 최근 성공 지연을 링 버퍼에 보관해 헤지 요청 기준 지연({@link #hedgeDelay()})도 제공한다.
+ * 메트릭: openai.limiter.limit, openai.limiter.in-flight, openai.limiter.rejected
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final double hedgePercentile;
+    private final int hedgeMinSamples;
+    private final Duration hedgeMinDelay;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] samples;
+    private final Counter rejectedCounter;
+    private volatile double limit;
+    private volatile Duration hedgeDelay;
+    private int sampleCount;
+    private int sampleCursor;
+
+    public AdaptiveConcurrencyLimiter(@Value("${openai.limiter.initial-limit:20}") int initialLimit,
+                                      @Value("${openai.limiter.min-limit:4}") int minLimit,
+                                      @Value("${openai.limiter.max-limit:100}") int maxLimit,
+                                      @Value("${openai.limiter.latency-threshold:PT8S}") Duration latencyThreshold,
+                                      @Value("${openai.limiter.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${openai.hedge.percentile:0.95}") double hedgePercentile,
+                                      @Value("${openai.hedge.min-samples:50}") int hedgeMinSamples,
+                                      @Value("${openai.hedge.min-delay:PT2S}") Duration hedgeMinDelay,
+                                      @Value("${openai.hedge.window-size:1000}") int windowSize,
+                                      MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeMinSamples = hedgeMinSamples;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.samples = new long[windowSize];
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+
+        Gauge.builder("openai.limiter.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("현재 허용 동시 호출 수").register(meterRegistry);
+        Gauge.builder("openai.limiter.in-flight", inFlight, AtomicInteger::get)
+                .description("진행 중인 OpenAI 호출 수").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("openai.limiter.rejected")
+                .description("동시 호출 한도 초과로 거절된 요청 수").register(meterRegistry);
+    }
+
+    /**
+     * 한도 안이면 permit을 발급하고, 초과면 503 BusinessException을 던진다.
+     */
+    public Permit acquire() {
+        return tryAcquire().orElseThrow(() -> {
+            rejectedCounter.increment();
+            return new BusinessException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        });
+    }
+
+    /**
+     * 헤지 요청처럼 없어도 되는 호출용. 한도 초과 시 거절 카운트 없이 빈 값을 반환한다.
+     */
+    public Optional<Permit> tryAcquire() {
+        int current = (int) limit;
+        int before = inFlight.getAndUpdate(n -> n < current ? n + 1 : n);
+        return before < current ? Optional.of(new Permit(before + 1)) : Optional.empty();
+    }
+
+    /**
+     * 지연 분포가 충분히 쌓였을 때 percentile 지연(최소 min-delay). 샘플이 부족하면 빈 값.
+     */
+    public Optional<Duration> hedgeDelay() {
+        return Optional.ofNullable(hedgeDelay);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void onComplete(long latencyNanos, int inFlightAtStart, boolean success) {
+        lock.lock();
+        try {
+            if (!success || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            if (success) {
+                record(latencyNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(long latencyNanos) {
+        samples[sampleCursor] = latencyNanos;
+        sampleCursor = (sampleCursor + 1) % samples.length;
+        sampleCount = Math.min(sampleCount + 1, samples.length);
+        if (sampleCount >= hedgeMinSamples && sampleCursor % RECOMPUTE_EVERY == 0) {
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(hedgePercentile * sorted.length) - 1);
+            Duration percentile = Duration.ofNanos(sorted[Math.max(0, index)]);
+            hedgeDelay = percentile.compareTo(hedgeMinDelay) > 0 ? percentile : hedgeMinDelay;
+        }
+    }
+
+    /**
+     * 호출 1건의 사용권. 호출이 끝나면 결과와 함께 정확히 한 번 반납한다.
+     */
+    public class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void success() {
+            release(true);
+        }
+
+        public void failure() {
+            release(false);
+        }
+
+        private void release(boolean success) {
+            if (released) {
+                return;
+            }
+            released = true;
+            inFlight.decrementAndGet();
+            onComplete(System.nanoTime() - startNanos, inFlightAtStart, success);
+        }
+    }
+}
@@ -2,21 +2,47 @@ package com.link.vibe.domain.vibe.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.vibe.global.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+/**
+ * OpenAI Chat Completions 호출.
+ * 모든 호출은 {@link AdaptiveConcurrencyLimiter}를 거치며, 한도 초과 시 폴백 대신 503 BusinessException을 던진다.
+ * 비스트리밍 호출이 최근 지연 분포의 percentile(openai.hedge.percentile)을 넘기면 같은 요청을 한 번 더 보내고
+ * 먼저 성공한 응답을 사용한다 (hedged request). 스트리밍은 delta가 이미 클라이언트로 나가므로 헤지하지 않는다.
+ */
 @Service
 public class OpenAiService {
 
     private static final Logger log = LoggerFactory.getLogger(OpenAiService.class);
-    private static final String API_URL = "https://api.openai.com/v1/chat/completions";
 
     private static final String SYSTEM_PROMPT = """
             당신은 감성적인 분위기 큐레이터입니다.
@@ -33,6 +59,14 @@ public class OpenAiService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AsyncTaskExecutor callExecutor;
+    private final boolean hedgeEnabled;
+    private final Counter hedgeCounter;
+    private final Counter hedgeWinCounter;
+
+    @Value("${openai.api-url:https://api.openai.com/v1/chat/completions}")
+    private String apiUrl;
 
     @Value("${openai.api-key}")
     private String apiKey;
@@ -46,46 +80,163 @@ public class OpenAiService {
     @Value("${openai.temperature:0.8}")
     private double temperature;
 
-    public OpenAiService(RestTemplate openAiRestTemplate, ObjectMapper objectMapper) {
+    public OpenAiService(RestTemplate openAiRestTemplate,
+                         ObjectMapper objectMapper,
+                         AdaptiveConcurrencyLimiter limiter,
+                         @Qualifier("openAiCallExecutor") AsyncTaskExecutor callExecutor,
+                         @Value("${openai.hedge.enabled:true}") boolean hedgeEnabled,
+                         MeterRegistry meterRegistry) {
         this.restTemplate = openAiRestTemplate;
         this.objectMapper = objectMapper;
+        this.limiter = limiter;
+        this.callExecutor = callExecutor;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeCounter = Counter.builder("openai.hedge.requests")
+                .description("지연으로 추가 발송한 헤지 요청 수").register(meterRegistry);
+        this.hedgeWinCounter = Counter.builder("openai.hedge.wins")
+                .description("헤지 요청이 원 요청보다 먼저 성공한 횟수").register(meterRegistry);
+    }
+
+    /**
+     * @param fallback OpenAI 호출/파싱 실패로 기본 문구를 대신 반환한 경우 true (캐시 대상 아님)
+     */
+    public record VibeResult(String phrase, String analysis, boolean fallback) {
+        public VibeResult(String phrase, String analysis) {
+            this(phrase, analysis, false);
+        }
     }
 
-    public record VibeResult(String phrase, String analysis) {}
+    public VibeResult generateVibe(List<String> moods, String time, String weather, String place, String companion,
+                                   String language) {
+        String userPrompt = buildUserPrompt(moods, time, weather, place, companion, language);
 
-    public VibeResult generateVibe(List<String> moods, String time, String weather, String place, String companion) {
-        String userPrompt = buildUserPrompt(moods, time, weather, place, companion);
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(buildRequestBody(userPrompt, false), buildHeaders());
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
-            Map<String, Object> requestBody = Map.of(
-                    "model", model,
-                    "messages", List.of(
-                            Map.of("role", "system", "content", SYSTEM_PROMPT),
-                            Map.of("role", "user", "content", userPrompt)
-                    ),
-                    "temperature", temperature,
-                    "max_tokens", maxTokens,
-                    "response_format", Map.of("type", "json_object")
-            );
+            String responseBody = hedged(permit, () -> restTemplate.postForEntity(apiUrl, entity, String.class).getBody());
+            return parseResponse(responseBody);
+        } catch (Exception e) {
+            log.error("OpenAI API 호출 실패", e);
+            return fallback(moods, time);
+        }
+    }
+
+    /**
+     * stream=true로 호출해 content 조각(delta)이 도착할 때마다 onDelta로 전달하고,
+     * 스트림이 끝나면 누적된 JSON을 파싱해 최종 결과를 반환한다.
+     */
+    public VibeResult streamVibe(List<String> moods, String time, String weather, String place, String companion,
+                                 String language, Consumer<String> onDelta) {
+        String userPrompt = buildUserPrompt(moods, time, weather, place, companion, language);
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(API_URL, entity, String.class);
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(buildRequestBody(userPrompt, true), buildHeaders());
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
+
+        try {
+            String content = restTemplate.execute(apiUrl, HttpMethod.POST, restTemplate.httpEntityCallback(entity),
+                    response -> readStream(response.getBody(), onDelta));
+            permit.success();
 
-            return parseResponse(response.getBody());
+            return parseContent(content);
         } catch (Exception e) {
-            log.error("OpenAI API 호출 실패", e);
-            return new VibeResult(
-                    String.join(", ", moods) + " " + time + "의 분위기",
-                    "AI 응답을 생성하지 못했습니다. 기본 분위기를 제공합니다."
-            );
+            permit.failure();
+            log.error("OpenAI 스트리밍 호출 실패", e);
+            return fallback(moods, time);
         }
     }
 
-    public String buildUserPrompt(List<String> moods, String time, String weather, String place, String companion) {
+    /**
+     * 원 요청을 실행기에서 시작하고, hedgeDelay 안에 끝나지 않으면 한도 여유가 있을 때만 헤지 요청을 추가한다.
+     * 둘 중 먼저 성공한 응답을 반환하며, 둘 다 실패하면 마지막 예외를 던진다.
+     * 늦게 끝난 쪽은 취소하지 않고(HTTP 호출은 중단 불가) 끝날 때 permit을 반납한다.
+     */
+    private String hedged(AdaptiveConcurrencyLimiter.Permit permit, Supplier<String> call) throws Exception {
+        Optional<Duration> hedgeDelay = hedgeEnabled ? limiter.hedgeDelay() : Optional.empty();
+        if (hedgeDelay.isEmpty()) {
+            return guarded(permit, call);
+        }
+
+        CompletableFuture<String> primary = CompletableFuture.supplyAsync(() -> guarded(permit, call), callExecutor);
+        try {
+            return primary.get(hedgeDelay.get().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Optional<AdaptiveConcurrencyLimiter.Permit> hedgePermit = limiter.tryAcquire();
+            if (hedgePermit.isEmpty()) {
+                return await(primary);
+            }
+            hedgeCounter.increment();
+            CompletableFuture<String> hedge = CompletableFuture.supplyAsync(() -> guarded(hedgePermit.get(), call), callExecutor);
+            return await(firstSuccess(primary, hedge));
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private CompletableFuture<String> firstSuccess(CompletableFuture<String> primary, CompletableFuture<String> hedge) {
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((body, error) -> {
+            if (error == null) {
+                winner.complete(body);
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((body, error) -> {
+            if (error == null) {
+                if (winner.complete(body)) {
+                    hedgeWinCounter.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        return winner;
+    }
+
+    private static String await(CompletableFuture<String> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static Exception unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception exception ? exception : new IllegalStateException(cause);
+    }
+
+    private static String guarded(AdaptiveConcurrencyLimiter.Permit permit, Supplier<String> call) {
+        try {
+            String body = call.get();
+            permit.success();
+            return body;
+        } catch (RuntimeException e) {
+            permit.failure();
+            throw e;
+        }
+    }
+
+    /**
+     * 선택지 값은 호출 측이 language로 번역한 표시 문구를 넘긴다. phrase/analysis도 그 언어로 쓰도록 지시한다.
+     *
+     * @param language 선택지 카탈로그가 Accept-Language로 결정한 언어 코드 (예: ko, en)
+     */
+    public String buildUserPrompt(List<String> moods, String time, String weather, String place, String companion,
+                                  String language) {
+        return buildSelectionPrompt(moods, time, weather, place, companion)
+                + String.format("응답 언어: %s (%s)\n",
+                Locale.forLanguageTag(language).getDisplayLanguage(Locale.ENGLISH), language);
+    }
+
+    /**
+     * 응답 언어 지시 없이 선택지 부분만. vibe_prompts.final_prompt 저장용으로, 옵션 키를 넘기면 요청 언어와 무관한 값이 된다.
+     */
+    public String buildSelectionPrompt(List<String> moods, String time, String weather, String place, String companion) {
         return String.format("""
                 기분: %s
                 시간: %s
@@ -96,10 +247,61 @@ public class OpenAiService {
                 String.join(", ", moods), time, weather, place, companion);
     }
 
+    private HttpHeaders buildHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        return headers;
+    }
+
+    private Map<String, Object> buildRequestBody(String userPrompt, boolean stream) {
+        return Map.of(
+                "model", model,
+                "messages", List.of(
+                        Map.of("role", "system", "content", SYSTEM_PROMPT),
+                        Map.of("role", "user", "content", userPrompt)
+                ),
+                "temperature", temperature,
+                "max_tokens", maxTokens,
+                "response_format", Map.of("type", "json_object"),
+                "stream", stream
+        );
+    }
+
+    private String readStream(InputStream body, Consumer<String> onDelta) throws IOException {
+        StringBuilder content = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String data = line.substring("data:".length()).trim();
+            if ("[DONE]".equals(data)) {
+                break;
+            }
+            JsonNode delta = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            if (delta.isTextual() && !delta.asText().isEmpty()) {
+                content.append(delta.asText());
+                onDelta.accept(delta.asText());
+            }
+        }
+        return content.toString();
+    }
+
     private VibeResult parseResponse(String responseBody) {
         try {
             JsonNode root = objectMapper.readTree(responseBody);
             String content = root.path("choices").get(0).path("message").path("content").asText();
+            return parseContent(content);
+        } catch (Exception e) {
+            log.error("OpenAI 응답 파싱 실패", e);
+            return new VibeResult("분위기를 생성할 수 없습니다.", "응답 파싱에 실패했습니다.", true);
+        }
+    }
+
+    private VibeResult parseContent(String content) {
+        try {
             JsonNode result = objectMapper.readTree(content);
             return new VibeResult(
                     result.path("phrase").asText(),
@@ -107,7 +309,15 @@ public class OpenAiService {
             );
         } catch (Exception e) {
             log.error("OpenAI 응답 파싱 실패", e);
-            return new VibeResult("분위기를 생성할 수 없습니다.", "응답 파싱에 실패했습니다.");
+            return new VibeResult("분위기를 생성할 수 없습니다.", "응답 파싱에 실패했습니다.", true);
         }
     }
+
+    private VibeResult fallback(List<String> moods, String time) {
+        return new VibeResult(
+                String.join(", ", moods) + " " + time + "의 분위기",
+                "AI 응답을 생성하지 못했습니다. 기본 분위기를 제공합니다.",
+                true
+        );
+    }
 }
@@ -0,0 +1,34 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.vibe.dto.VibeCreateRequest;
+
+import java.util.List;
+
+/**
+ * 선택 조합의 정규화 키. 기분 키워드 ID는 중복 제거 후 오름차순으로 정렬하므로
+ * 선택 순서가 달라도 같은 조합이면 같은 키가 된다.
+ * 생성 문구는 응답 언어마다 다르므로 언어 코드도 키에 포함한다.
+ */
+public record VibeCacheKey(
+        List<Long> moodKeywordIds,
+        Long timeId,
+        Long weatherId,
+        Long placeId,
+        Long companionId,
+        String language
+) {
+    public VibeCacheKey {
+        moodKeywordIds = moodKeywordIds.stream().distinct().sorted().toList();
+    }
+
+    public static VibeCacheKey of(VibeCreateRequest request, String language) {
+        return new VibeCacheKey(
+                request.moodKeywordIds(),
+                request.timeId(),
+                request.weatherId(),
+                request.placeId(),
+                request.companionId(),
+                language
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
+import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * vibe_history 도입 이전에 완료된 세션을 읽기 모델로 옮긴다.
+ * session_id 순으로 batch-size건씩 읽어 히스토리가 없는 세션만 기록하며, 배치마다 트랜잭션을 나눈다.
+ * 이미 기록된 세션은 건너뛰므로 여러 번 실행해도 안전하다. 모두 옮긴 뒤에는 비활성화한다.
+ */
+@Component
+@ConditionalOnProperty(name = "vibe.history.backfill.enabled", havingValue = "true")
+public class VibeHistoryBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(VibeHistoryBackfillJob.class);
+
+    private final VibeSessionRepository vibeSessionRepository;
+    private final VibeHistoryRepository vibeHistoryRepository;
+    private final OptionCatalog optionCatalog;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public VibeHistoryBackfillJob(VibeSessionRepository vibeSessionRepository,
+                                  VibeHistoryRepository vibeHistoryRepository,
+                                  OptionCatalog optionCatalog,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${vibe.history.backfill.batch-size:500}") int batchSize) {
+        this.vibeSessionRepository = vibeSessionRepository;
+        this.vibeHistoryRepository = vibeHistoryRepository;
+        this.optionCatalog = optionCatalog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int scanned = 0;
+        int inserted = 0;
+
+        while (true) {
+            long from = afterId;
+            Batch batch = transactionTemplate.execute(status -> backfillBatch(from));
+            if (batch == null || batch.scanned() == 0) {
+                break;
+            }
+            scanned += batch.scanned();
+            inserted += batch.inserted();
+            afterId = batch.lastSessionId();
+        }
+
+        log.info("vibe_history 백필 완료 — 완료 세션 {}건 확인, {}건 기록", scanned, inserted);
+    }
+
+    /**
+     * afterId 다음 완료 세션 batch-size건 중 히스토리가 없는 세션을 기록한다.
+     */
+    Batch backfillBatch(long afterId) {
+        List<VibeSession> sessions = vibeSessionRepository.findCompletedWithDetailsAfter(afterId, Limit.of(batchSize));
+        if (sessions.isEmpty()) {
+            return new Batch(0, 0, afterId);
+        }
+
+        Set<Long> existing = vibeHistoryRepository.findExistingIds(
+                sessions.stream().map(VibeSession::getSessionId).toList());
+        OptionCatalog.Snapshot catalog = optionCatalog.snapshot();
+
+        List<VibeHistory> missing = sessions.stream()
+                .filter(session -> !existing.contains(session.getSessionId()))
+                .map(session -> VibeHistory.of(session, session.getVibePrompt(), session.getVibeResult(),
+                        catalog.moodValues(session.getVibePrompt().getMoodKeywordIds())))
+                .toList();
+        vibeHistoryRepository.saveAll(missing);
+
+        return new Batch(sessions.size(), missing.size(), sessions.get(sessions.size() - 1).getSessionId());
+    }
+
+    record Batch(int scanned, int inserted, long lastSessionId) {}
+}
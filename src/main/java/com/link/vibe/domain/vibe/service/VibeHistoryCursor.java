@@ -0,0 +1,39 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.vibe.dto.VibeHistoryResponse;
+import com.link.vibe.global.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 히스토리 keyset 페이지네이션 커서. 페이지 마지막 항목의 (createdAt, sessionId)를
+ * URL-safe Base64 문자열로 감싸 클라이언트에는 불투명한 토큰으로 전달한다.
+ */
+public record VibeHistoryCursor(LocalDateTime createdAt, Long sessionId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static VibeHistoryCursor of(VibeHistoryResponse history) {
+        return new VibeHistoryCursor(history.createdAt(), history.sessionId());
+    }
+
+    public static VibeHistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new VibeHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + sessionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
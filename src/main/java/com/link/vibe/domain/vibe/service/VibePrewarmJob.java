@@ -0,0 +1,211 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.option.entity.*;
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.domain.trend.entity.MoodTrend;
+import com.link.vibe.domain.trend.repository.MoodTrendRepository;
+import com.link.vibe.domain.vibe.repository.VibePromptRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 한가한 시간대에 인기 선택 조합의 변형 풀을 미리 채운다.
+ * 최근 vibe_prompts의 조합별 사용 횟수에 mood_trends 성장률 가중치를 곱해 순위를 매기고,
+ * 상위 조합마다 {@link VibeResultCache} 풀이 가득 찰 때까지 OpenAI로 생성한다.
+ * 풀이 가득 찬 조합은 피크 시간에 upstream 호출 없이 응답된다.
+ * 동시 호출 수는 concurrency로, 실행 시간은 max-duration으로 제한한다 (초과 시 남은 조합은 건너뜀).
+ */
+@Component
+@ConditionalOnProperty(name = "vibe.prewarm.enabled", havingValue = "true")
+public class VibePrewarmJob {
+
+    private static final Logger log = LoggerFactory.getLogger(VibePrewarmJob.class);
+
+    private final VibePromptRepository vibePromptRepository;
+    private final MoodTrendRepository moodTrendRepository;
+    private final OptionCatalog optionCatalog;
+    private final OpenAiService openAiService;
+    private final VibeResultCache vibeResultCache;
+    private final Duration lookback;
+    private final int maxCombinations;
+    private final int concurrency;
+    private final Duration maxDuration;
+    private final ZoneId trendZone;
+
+    public VibePrewarmJob(VibePromptRepository vibePromptRepository,
+                          MoodTrendRepository moodTrendRepository,
+                          OptionCatalog optionCatalog,
+                          OpenAiService openAiService,
+                          VibeResultCache vibeResultCache,
+                          @Value("${vibe.prewarm.lookback:P7D}") Duration lookback,
+                          @Value("${vibe.prewarm.max-combinations:200}") int maxCombinations,
+                          @Value("${vibe.prewarm.concurrency:4}") int concurrency,
+                          @Value("${vibe.prewarm.max-duration:PT2H}") Duration maxDuration,
+                          @Value("${trending.zone:Asia/Seoul}") String trendZone) {
+        this.vibePromptRepository = vibePromptRepository;
+        this.moodTrendRepository = moodTrendRepository;
+        this.optionCatalog = optionCatalog;
+        this.openAiService = openAiService;
+        this.vibeResultCache = vibeResultCache;
+        this.lookback = lookback;
+        this.maxCombinations = maxCombinations;
+        this.concurrency = concurrency;
+        this.maxDuration = maxDuration;
+        this.trendZone = ZoneId.of(trendZone);
+    }
+
+    @Scheduled(cron = "${vibe.prewarm.cron:0 0 4 * * *}", zone = "${vibe.prewarm.zone:Asia/Seoul}")
+    public void prewarm() {
+        Instant deadline = Instant.now().plus(maxDuration);
+        List<VibeCacheKey> ranked = rankCombinations();
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger warmed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("vibe-prewarm-", 0).factory())) {
+            for (VibeCacheKey key : ranked) {
+                executor.execute(() -> {
+                    int calls = fill(key, deadline);
+                    generated.addAndGet(calls);
+                    if (vibeResultCache.isFull(key)) {
+                        warmed.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        log.info("Vibe 사전 생성 완료 — 대상 조합 {}건, 준비 완료 {}건, OpenAI 호출 {}회",
+                ranked.size(), warmed.get(), generated.get());
+    }
+
+    /**
+     * 사용 횟수 × 기분 키워드 트렌드 가중치 순으로 정렬한 조합 목록.
+     * 기분 키워드 순서만 다른 조합은 하나로 합치고, 비활성·삭제된 옵션을 포함한 조합은 제외한다.
+     */
+    List<VibeCacheKey> rankCombinations() {
+        OptionCatalog.Snapshot catalog = optionCatalog.snapshot();
+        Map<Long, Double> boosts = trendBoosts();
+
+        Map<VibeCacheKey, Long> usage = new HashMap<>();
+        LocalDateTime since = LocalDateTime.now().minus(lookback);
+        for (VibePromptRepository.CombinationUsage row
+                : vibePromptRepository.findPopularCombinations(since, maxCombinations * 2)) {
+            List<Long> moodIds = parseMoodIds(row.getMoodKeywordIds());
+            if (moodIds.isEmpty()) {
+                continue;
+            }
+            // vibe_prompts에는 요청 언어가 남지 않으므로 기본 언어 조합만 미리 채운다
+            VibeCacheKey key = new VibeCacheKey(moodIds, row.getTimeId(), row.getWeatherId(),
+                    row.getPlaceId(), row.getCompanionId(), catalog.defaultLanguage());
+            if (isServable(catalog, key)) {
+                usage.merge(key, row.getUsageCount(), Long::sum);
+            }
+        }
+
+        return usage.entrySet().stream()
+                .sorted(Comparator.comparingDouble(
+                        (Map.Entry<VibeCacheKey, Long> e) -> e.getValue() * boostOf(e.getKey(), boosts)).reversed())
+                .limit(maxCombinations)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 풀이 가득 찰 때까지 생성한다. 중복 문구는 풀에 들어가지 않으므로 부족분의 두 배까지만 시도하며,
+     * 폴백 응답(OpenAI 장애)이 나오면 해당 조합을 중단한다. 반환값은 OpenAI 호출 횟수.
+     */
+    private int fill(VibeCacheKey key, Instant deadline) {
+        OptionCatalog.Snapshot catalog = optionCatalog.snapshot();
+        if (!isServable(catalog, key)) {
+            return 0;   // 순위 계산 이후 카탈로그가 바뀐 경우
+        }
+        OptionCatalog.Labels labels = catalog.labelsOf(key.language());
+        List<String> moods = key.moodKeywordIds().stream()
+                .map(id -> labels.mood(catalog.moods().get(id)))
+                .toList();
+        String time = catalog.times().get(key.timeId()).getTimeKey();
+        String weather = labels.weather(catalog.weathers().get(key.weatherId()));
+        String place = labels.place(catalog.places().get(key.placeId()));
+        String companion = labels.companion(catalog.companions().get(key.companionId()));
+
+        int calls = 0;
+        int budget = vibeResultCache.missingVariants(key) * 2;
+        while (calls < budget && !vibeResultCache.isFull(key) && Instant.now().isBefore(deadline)) {
+            calls++;
+            try {
+                OpenAiService.VibeResult result = openAiService.generateVibe(
+                        moods, time, weather, place, companion, key.language());
+                if (result.fallback()) {
+                    break;
+                }
+                vibeResultCache.put(key, result);
+            } catch (RuntimeException e) {
+                log.warn("Vibe 사전 생성 실패 — {}", key, e);
+                break;
+            }
+        }
+        return calls;
+    }
+
+    /**
+     * 오늘(trending.zone 기준 — mood_trends 집계일과 같은 달력) 이전 가장 최근 집계일의 키워드별 가중치
+     * (1 + 양의 성장률/100). 트렌드 데이터가 없으면 빈 맵. 오늘 행은 하루 중간까지의 사용 수라 전날 대비 성장률이 낮게 나오므로 쓰지 않는다.
+     */
+    private Map<Long, Double> trendBoosts() {
+        return moodTrendRepository.findLatestTrendDateBefore(LocalDate.now(trendZone))
+                .map(moodTrendRepository::findByTrendDate)
+                .orElse(List.of())
+                .stream()
+                .filter(trend -> trend.getGrowthRate() != null)
+                .collect(Collectors.toMap(MoodTrend::getKeywordId, VibePrewarmJob::boostOf, Math::max));
+    }
+
+    private static double boostOf(MoodTrend trend) {
+        return 1.0 + trend.getGrowthRate().max(BigDecimal.ZERO).doubleValue() / 100.0;
+    }
+
+    private static double boostOf(VibeCacheKey key, Map<Long, Double> boosts) {
+        return key.moodKeywordIds().stream()
+                .mapToDouble(id -> boosts.getOrDefault(id, 1.0))
+                .average()
+                .orElse(1.0);
+    }
+
+    private static boolean isServable(OptionCatalog.Snapshot catalog, VibeCacheKey key) {
+        return key.moodKeywordIds().stream().allMatch(catalog.moods()::containsKey)
+                && isActive(catalog.times().get(key.timeId()), TimeOption::getIsActive)
+                && isActive(catalog.weathers().get(key.weatherId()), WeatherOption::getIsActive)
+                && isActive(catalog.places().get(key.placeId()), PlaceOption::getIsActive)
+                && isActive(catalog.companions().get(key.companionId()), CompanionOption::getIsActive);
+    }
+
+    private static <T> boolean isActive(T option, Function<T, Boolean> isActive) {
+        return option != null && Boolean.TRUE.equals(isActive.apply(option));
+    }
+
+    private static List<Long> parseMoodIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 선택 조합({@link VibeCacheKey})별 AI 생성 결과 캐시.
+ * 키마다 서로 다른 문구 변형을 최대 variants-per-key개까지 모으고,
+ * 변형 풀이 가득 찬 뒤에는 OpenAI 호출 없이 풀에서 무작위로 하나를 돌려준다.
+ * 풀이 차기 전까지는 미스로 처리해 새 변형을 생성하도록 하므로 temperature에 의한 다양성이 유지된다.
+ */
+@Component
+public class VibeResultCache {
+
+    private final Cache<VibeCacheKey, VariantPool> cache;
+    private final int variantsPerKey;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter variantCounter;
+
+    public VibeResultCache(@Value("${vibe.cache.max-entries:10000}") long maxEntries,
+                           @Value("${vibe.cache.ttl:PT24H}") Duration ttl,
+                           @Value("${vibe.cache.variants-per-key:5}") int variantsPerKey,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.variantsPerKey = variantsPerKey;
+
+        this.hitCounter = Counter.builder("vibe.cache.requests").tag("result", "hit")
+                .description("변형 풀이 가득 차 캐시에서 응답한 요청 수").register(meterRegistry);
+        this.missCounter = Counter.builder("vibe.cache.requests").tag("result", "miss")
+                .description("OpenAI 호출이 필요했던 요청 수").register(meterRegistry);
+        this.variantCounter = Counter.builder("vibe.cache.variants.added")
+                .description("캐시에 새로 추가된 변형 수").register(meterRegistry);
+        Gauge.builder("vibe.cache.variants", this, VibeResultCache::variantCount)
+                .description("캐시에 보관 중인 전체 변형 수").register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "vibeResult");
+    }
+
+    /**
+     * 변형 풀이 가득 찬 경우에만 그중 하나를 반환한다.
+     */
+    public Optional<OpenAiService.VibeResult> get(VibeCacheKey key) {
+        VariantPool pool = cache.getIfPresent(key);
+        if (pool != null && pool.variants().size() >= variantsPerKey) {
+            hitCounter.increment();
+            return Optional.of(pool.pick());
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 새로 생성된 결과를 변형 풀에 추가한다. 폴백 응답, 이미 있는 문구, 가득 찬 풀은 무시한다.
+     */
+    public void put(VibeCacheKey key, OpenAiService.VibeResult result) {
+        if (result.fallback()) {
+            return;
+        }
+        VariantPool current = cache.getIfPresent(key);
+        if (current != null && (current.variants().size() >= variantsPerKey || current.contains(result))) {
+            return;
+        }
+        cache.asMap().compute(key, (k, pool) -> {
+            VariantPool base = pool != null ? pool : new VariantPool(List.of());
+            if (base.variants().size() >= variantsPerKey || base.contains(result)) {
+                return base;
+            }
+            variantCounter.increment();
+            return base.with(result);
+        });
+    }
+
+    public boolean isFull(VibeCacheKey key) {
+        VariantPool pool = cache.getIfPresent(key);
+        return pool != null && pool.variants().size() >= variantsPerKey;
+    }
+
+    /**
+     * 풀이 가득 차기까지 더 필요한 변형 수.
+     */
+    public int missingVariants(VibeCacheKey key) {
+        VariantPool pool = cache.getIfPresent(key);
+        return Math.max(0, variantsPerKey - (pool != null ? pool.variants().size() : 0));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private double variantCount() {
+        return cache.asMap().values().stream().mapToInt(pool -> pool.variants().size()).sum();
+    }
+
+    private record VariantPool(List<OpenAiService.VibeResult> variants) {
+
+        boolean contains(OpenAiService.VibeResult result) {
+            return variants.stream().anyMatch(v -> v.phrase().equals(result.phrase()));
+        }
+
+        VariantPool with(OpenAiService.VibeResult result) {
+            List<OpenAiService.VibeResult> next = new ArrayList<>(variants);
+            next.add(result);
+            return new VariantPool(List.copyOf(next));
+        }
+
+        OpenAiService.VibeResult pick() {
+            return variants.get(ThreadLocalRandom.current().nextInt(variants.size()));
+        }
+    }
+}
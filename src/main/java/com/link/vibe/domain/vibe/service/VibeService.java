@@ -1,27 +1,37 @@
 package com.link.vibe.domain.vibe.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.vibe.domain.item.service.VibeCompletedEvent;
 import com.link.vibe.domain.option.entity.*;
-import com.link.vibe.domain.option.repository.*;
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.domain.trend.service.MoodUsageCounter;
 import com.link.vibe.domain.vibe.dto.*;
 import com.link.vibe.domain.vibe.dto.VibeResultResponse.SelectedOptions;
 import com.link.vibe.domain.vibe.entity.VibePrompt;
 import com.link.vibe.domain.vibe.entity.VibeResult;
 import com.link.vibe.domain.vibe.entity.VibeSession;
-import com.link.vibe.domain.vibe.repository.VibePromptRepository;
-import com.link.vibe.domain.vibe.repository.VibeResultRepository;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
 import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
 import com.link.vibe.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -29,112 +39,322 @@ import java.util.List;
 public class VibeService {
 
     private final VibeSessionRepository vibeSessionRepository;
-    private final VibePromptRepository vibePromptRepository;
-    private final VibeResultRepository vibeResultRepository;
-    private final MoodKeywordRepository moodKeywordRepository;
-    private final TimeOptionRepository timeOptionRepository;
-    private final WeatherOptionRepository weatherOptionRepository;
-    private final PlaceOptionRepository placeOptionRepository;
-    private final CompanionOptionRepository companionOptionRepository;
+    private final VibeHistoryRepository vibeHistoryRepository;
+    private final VibeSessionWriter vibeSessionWriter;
+    private final OptionCatalog optionCatalog;
     private final OpenAiService openAiService;
-    private final ObjectMapper objectMapper;
+    private final VibeResultCache vibeResultCache;
+    private final VibeSingleFlight vibeSingleFlight;
+    private final VibeStreamRegistry vibeStreamRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MoodUsageCounter moodUsageCounter;
+    @Qualifier("vibeGenerationExecutor")
+    private final AsyncTaskExecutor vibeGenerationExecutor;
 
     @Value("${openai.model:gpt-4o-mini}")
     private String aiModel;
 
+    private static final Logger log = LoggerFactory.getLogger(VibeService.class);
     private static final Long DEFAULT_USER_ID = 1L;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
-    @Transactional
-    public VibeResultResponse createVibe(VibeCreateRequest request) {
-        // 옵션 검증
-        List<MoodKeyword> moodKeywords = moodKeywordRepository.findAllById(request.moodKeywordIds());
+    /**
+     * OpenAI 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고,
+     * 세션 생성과 결과 저장만 {@link VibeSessionWriter}의 짧은 트랜잭션으로 처리한다.
+     *
+     * @param acceptLanguage 생성 문구의 언어. 선택지 조회와 같은 규칙으로 지원 언어에 맞춘다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VibeResultResponse createVibe(VibeCreateRequest request, String acceptLanguage) {
+        VibeDraft draft = prepare(request, acceptLanguage);
+
+        // 1. 세션 생성 (짧은 트랜잭션)
+        VibeSession session = vibeSessionWriter.open(DEFAULT_USER_ID);
+
+        try {
+            // 2. AI 결과 생성 (트랜잭션 밖 — 커넥션 미점유. 캐시 우선, 미스 시 OpenAI 호출)
+            Generation generation = generate(draft, key -> vibeSingleFlight.execute(key, () -> openAiService.generateVibe(
+                    draft.moodLabels(), draft.time(), draft.weatherLabel(), draft.placeLabel(), draft.companionLabel(),
+                    draft.language())));
+
+            // 3. 프롬프트/결과 저장 + 세션 완료 처리 (짧은 트랜잭션)
+            return persist(session, draft, generation);
+        } catch (Throwable e) {
+            // single-flight는 leader의 Error도 그대로 넘기므로 Error에서도 세션을 닫는다
+            vibeSessionWriter.cancel(session.getSessionId());
+            throw e;
+        }
+    }
+
+    /**
+     * 세션만 만들고 즉시 반환한다. 생성은 vibeGenerationExecutor에서 진행되며,
+     * 진행 상황은 상태 조회 또는 SSE 스트림({@link #subscribe(Long)})으로 확인한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VibeSessionStatusResponse startVibe(VibeCreateRequest request, String acceptLanguage) {
+        VibeDraft draft = prepare(request, acceptLanguage);
+        VibeSession session = vibeSessionWriter.open(DEFAULT_USER_ID);
+        Long sessionId = session.getSessionId();
+
+        vibeStreamRegistry.open(sessionId);
+        try {
+            vibeGenerationExecutor.execute(() -> runAsync(session, draft));
+        } catch (TaskRejectedException e) {
+            vibeSessionWriter.cancel(sessionId);
+            vibeStreamRegistry.fail(sessionId, "요청이 많아 처리하지 못했습니다.");
+            throw new BusinessException("요청이 많아 Vibe를 생성할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return VibeSessionStatusResponse.from(session);
+    }
+
+    private void runAsync(VibeSession session, VibeDraft draft) {
+        Long sessionId = session.getSessionId();
+        try {
+            // 대기열에서 방치 기준을 넘겼거나 그 사이 취소된 세션은 생성하지 않는다 (완료해도 저장되지 않음)
+            if (!vibeSessionWriter.isOpen(session)) {
+                log.warn("종료됐거나 방치 기준을 넘긴 세션의 비동기 Vibe 생성 건너뜀 (sessionId={}, createdAt={})",
+                        sessionId, session.getCreatedAt());
+                vibeSessionWriter.cancel(sessionId);
+                vibeStreamRegistry.fail(sessionId, "요청이 많아 처리하지 못했습니다.");
+                return;
+            }
+            // 같은 조합의 스트리밍 호출이 진행 중이면 거기에 붙어 지금까지의 delta부터 이어 받는다
+            Generation generation = generate(draft, key -> vibeSingleFlight.stream(key,
+                    delta -> vibeStreamRegistry.delta(sessionId, delta),
+                    onDelta -> openAiService.streamVibe(draft.moodLabels(), draft.time(), draft.weatherLabel(),
+                            draft.placeLabel(), draft.companionLabel(), draft.language(), onDelta)));
+            vibeStreamRegistry.complete(sessionId, persist(session, draft, generation));
+        } catch (Throwable e) {
+            // Error도 세션 취소와 스트림 종료를 거쳐야 구독자가 stream-timeout까지 기다리지 않는다
+            log.error("비동기 Vibe 생성 실패 (sessionId={})", sessionId, e);
+            vibeSessionWriter.cancel(sessionId);
+            vibeStreamRegistry.fail(sessionId, e instanceof BusinessException businessException
+                    ? businessException.getMessage() : "Vibe 생성에 실패했습니다.");
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    public VibeSessionStatusResponse getStatus(Long sessionId) {
+        return vibeSessionRepository.findById(sessionId)
+                .map(VibeSessionStatusResponse::from)
+                .orElseThrow(() -> new BusinessException("해당 Vibe 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * 진행 중인 생성이면 delta 스트림에 구독하고, 이미 끝난 세션이면 최종 상태 이벤트 하나만 보낸다.
+     */
+    public SseEmitter subscribe(Long sessionId) {
+        Optional<SseEmitter> live = vibeStreamRegistry.subscribe(sessionId);
+        if (live.isPresent()) {
+            return live.get();
+        }
+
+        VibeSessionStatusResponse status = getStatus(sessionId);
+        return switch (status.status()) {
+            case "COMPLETED" -> vibeStreamRegistry.single(SseEmitter.event().name("completed")
+                    .data(getVibeDetail(sessionId), MediaType.APPLICATION_JSON));
+            case "CANCELLED" -> vibeStreamRegistry.single(SseEmitter.event().name("failed")
+                    .data("Vibe 생성에 실패했습니다."));
+            default -> vibeStreamRegistry.single(SseEmitter.event().name("status")
+                    .data(status, MediaType.APPLICATION_JSON));
+        };
+    }
+
+    private VibeDraft prepare(VibeCreateRequest request, String acceptLanguage) {
+        // 옵션 검증 (메모리 카탈로그 — DB 조회 없음)
+        OptionCatalog.Snapshot catalog = optionCatalog.snapshot();
+        String language = catalog.resolveLanguage(acceptLanguage);
+        OptionCatalog.Labels labels = catalog.labelsOf(language);
+
+        List<MoodKeyword> moodKeywords = request.moodKeywordIds().stream()
+                .distinct()
+                .map(catalog.moods()::get)
+                .filter(Objects::nonNull)
+                .toList();
         if (moodKeywords.size() != request.moodKeywordIds().size()) {
             throw new BusinessException("유효하지 않은 기분 키워드 ID가 포함되어 있습니다.", HttpStatus.BAD_REQUEST);
         }
 
-        TimeOption timeOption = timeOptionRepository.findById(request.timeId())
+        TimeOption timeOption = Optional.ofNullable(catalog.times().get(request.timeId()))
                 .orElseThrow(() -> new BusinessException("유효하지 않은 시간 옵션입니다.", HttpStatus.BAD_REQUEST));
-        WeatherOption weatherOption = weatherOptionRepository.findById(request.weatherId())
+        WeatherOption weatherOption = Optional.ofNullable(catalog.weathers().get(request.weatherId()))
                 .orElseThrow(() -> new BusinessException("유효하지 않은 날씨 옵션입니다.", HttpStatus.BAD_REQUEST));
-        PlaceOption placeOption = placeOptionRepository.findById(request.placeId())
+        PlaceOption placeOption = Optional.ofNullable(catalog.places().get(request.placeId()))
                 .orElseThrow(() -> new BusinessException("유효하지 않은 공간 옵션입니다.", HttpStatus.BAD_REQUEST));
-        CompanionOption companionOption = companionOptionRepository.findById(request.companionId())
+        CompanionOption companionOption = Optional.ofNullable(catalog.companions().get(request.companionId()))
                 .orElseThrow(() -> new BusinessException("유효하지 않은 동반자 옵션입니다.", HttpStatus.BAD_REQUEST));
 
-        // 1. 세션 생성
-        VibeSession session = VibeSession.builder().userId(DEFAULT_USER_ID).build();
-        vibeSessionRepository.save(session);
+        return new VibeDraft(
+                VibeCacheKey.of(request, language),
+                request.moodKeywordIds(),
+                moodKeywords.stream().map(MoodKeyword::getKeywordValue).toList(),
+                moodKeywords.stream().map(labels::mood).toList(),
+                timeOption,
+                weatherOption,
+                placeOption,
+                companionOption,
+                language,
+                labels
+        );
+    }
 
-        // 2. OpenAI 호출
-        List<String> moodValues = moodKeywords.stream().map(MoodKeyword::getKeywordValue).toList();
+    /**
+     * 캐시 적중 시 upstream(OpenAI)을 호출하지 않으며 처리 시간은 0ms로 기록된다.
+     * 미스일 때 같은 조합의 호출이 이미 진행 중이면 그 결과를 함께 받는다 ({@link VibeSingleFlight}).
+     *
+     * @param upstream 캐시 키로 single-flight를 거쳐 OpenAI를 호출한다 (일반/스트리밍 호출은 서로 합쳐지지 않음)
+     */
+    private Generation generate(VibeDraft draft, Function<VibeCacheKey, OpenAiService.VibeResult> upstream) {
+        Optional<OpenAiService.VibeResult> cached = vibeResultCache.get(draft.cacheKey());
+        if (cached.isPresent()) {
+            return new Generation(cached.get(), 0);
+        }
 
         long startTime = System.currentTimeMillis();
-        OpenAiService.VibeResult aiResult = openAiService.generateVibe(
-                moodValues,
-                timeOption.getTimeKey(),
-                weatherOption.getWeatherKey(),
-                placeOption.getPlaceKey(),
-                companionOption.getCompanionKey()
-        );
+        OpenAiService.VibeResult aiResult = upstream.apply(draft.cacheKey());
         int processingTimeMs = (int) (System.currentTimeMillis() - startTime);
 
-        String finalPrompt = openAiService.buildUserPrompt(
-                moodValues,
-                timeOption.getTimeKey(),
-                weatherOption.getWeatherKey(),
-                placeOption.getPlaceKey(),
-                companionOption.getCompanionKey()
-        );
+        vibeResultCache.put(draft.cacheKey(), aiResult);
+        return new Generation(aiResult, processingTimeMs);
+    }
+
+    private VibeResultResponse persist(VibeSession session, VibeDraft draft, Generation generation) {
+        OpenAiService.VibeResult aiResult = generation.result();
+
+        // 번역 문구와 응답 언어는 요청마다 달라지므로 저장하지 않고, 옵션 키로 만든 선택 요약만 남긴다
+        String finalPrompt = openAiService.buildSelectionPrompt(
+                draft.moodValues(), draft.time(), draft.weather(), draft.place(), draft.companion());
 
-        // 3. 프롬프트 저장
         VibePrompt prompt = VibePrompt.builder()
                 .vibeSession(session)
-                .moodKeywordIds(toJson(request.moodKeywordIds()))
-                .timeOption(timeOption)
-                .weatherOption(weatherOption)
-                .placeOption(placeOption)
-                .companionOption(companionOption)
+                .moodKeywordIds(draft.moodKeywordIds())
+                .timeOption(draft.timeOption())
+                .weatherOption(draft.weatherOption())
+                .placeOption(draft.placeOption())
+                .companionOption(draft.companionOption())
                 .finalPrompt(finalPrompt)
                 .build();
-        vibePromptRepository.save(prompt);
 
-        // 4. 결과 저장
         VibeResult result = VibeResult.builder()
                 .vibeSession(session)
                 .phrase(aiResult.phrase())
                 .aiAnalysis(aiResult.analysis())
                 .aiModelVersion(aiModel)
-                .processingTimeMs(processingTimeMs)
+                .processingTimeMs(generation.processingTimeMs())
                 .build();
-        vibeResultRepository.save(result);
 
-        // 5. 세션 완료 처리
-        session.complete();
+        vibeSessionWriter.complete(session, prompt, result, draft.moodValues());
+        moodUsageCounter.record(draft.moodKeywordIds());
+
+        // 추천 아이템은 응답에 담기지 않으므로 ItemRecommender가 별도 실행기에서 기록한다
+        eventPublisher.publishEvent(new VibeCompletedEvent(result.getResultId(), draft.moodKeywordIds(),
+                draft.timeOption(), draft.weatherOption(), draft.placeOption(), draft.companionOption(),
+                draft.language()));
 
         return new VibeResultResponse(
                 session.getSessionId(),
                 aiResult.phrase(),
                 aiResult.analysis(),
-                new SelectedOptions(
-                        moodValues,
-                        timeOption.getTimeKey(),
-                        weatherOption.getWeatherKey(),
-                        placeOption.getPlaceKey(),
-                        companionOption.getCompanionKey()
-                ),
-                processingTimeMs,
+                new SelectedOptions(draft.moodValues(), draft.time(), draft.weather(), draft.place(), draft.companion()),
+                generation.processingTimeMs(),
                 session.getCreatedAt()
         );
     }
 
-    public List<VibeHistoryResponse> getHistory(Long userId) {
-        return vibeSessionRepository.findByUserIdWithDetails(userId).stream()
-                .filter(s -> s.getVibeResult() != null)
-                .map(this::toHistoryResponse)
-                .toList();
+    /**
+     * 검증을 통과한 생성 요청. 옵션 엔티티는 카탈로그 스냅샷의 인스턴스이다.
+     * 저장(final_prompt 포함)·응답에는 키(moodValues, time() 등)를, OpenAI 프롬프트에는 language로 번역된 표시 문구(*Label)를 쓴다.
+     */
+    private record VibeDraft(
+            VibeCacheKey cacheKey,
+            List<Long> moodKeywordIds,
+            List<String> moodValues,
+            List<String> moodLabels,
+            TimeOption timeOption,
+            WeatherOption weatherOption,
+            PlaceOption placeOption,
+            CompanionOption companionOption,
+            String language,
+            OptionCatalog.Labels labels
+    ) {
+        String time() {
+            return timeOption.getTimeKey();
+        }
+
+        String weather() {
+            return weatherOption.getWeatherKey();
+        }
+
+        String place() {
+            return placeOption.getPlaceKey();
+        }
+
+        String companion() {
+            return companionOption.getCompanionKey();
+        }
+
+        String weatherLabel() {
+            return labels.weather(weatherOption);
+        }
+
+        String placeLabel() {
+            return labels.place(placeOption);
+        }
+
+        String companionLabel() {
+            return labels.companion(companionOption);
+        }
     }
 
+    private record Generation(OpenAiService.VibeResult result, int processingTimeMs) {}
+
+    /**
+     * (created_at DESC, session_id DESC) keyset 페이지. 한 건을 더 조회해 다음 페이지 존재 여부를 판단한다.
+     * 비정규화된 vibe_history만 읽으므로 조인 없이 인덱스 범위 스캔 1회로 끝나고, 행은 바로 응답 DTO로 만들어진다.
+     */
+    public VibeHistoryPageResponse getHistory(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new BusinessException("페이지 크기는 1~" + MAX_HISTORY_PAGE_SIZE + " 사이여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<VibeHistoryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = vibeHistoryRepository.findFirstPage(userId, limit);
+        } else {
+            VibeHistoryCursor after = VibeHistoryCursor.decode(cursor);
+            rows = vibeHistoryRepository.findPageAfter(userId, after.createdAt(), after.sessionId(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<VibeHistoryResponse> page = hasNext ? rows.subList(0, size) : rows;
+
+        return new VibeHistoryPageResponse(
+                page,
+                hasNext ? VibeHistoryCursor.of(page.get(page.size() - 1)).encode() : null,
+                hasNext
+        );
+    }
+
+    /**
+     * 조건부 상세 조회(304) 판단용. 상세를 읽지 않고 세션 상태만 확인한다.
+     */
+    public boolean isCompleted(Long sessionId) {
+        return vibeSessionRepository.existsBySessionIdAndStatus(sessionId, "COMPLETED");
+    }
+
+    /**
+     * vibe_history에서 바로 응답한다. 아직 백필되지 않은 과거 세션이나 미완료 세션만 원본 테이블을 조인해 조회한다.
+     */
     public VibeResultResponse getVibeDetail(Long sessionId) {
+        Optional<VibeResultResponse> history = vibeHistoryRepository.findDetail(sessionId);
+        if (history.isPresent()) {
+            return history.get();
+        }
+
         VibeSession session = vibeSessionRepository.findByIdWithDetails(sessionId)
                 .orElseThrow(() -> new BusinessException("해당 Vibe 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
@@ -142,13 +362,13 @@ public class VibeService {
             throw new BusinessException("해당 세션의 결과가 아직 생성되지 않았습니다.", HttpStatus.NOT_FOUND);
         }
 
-        return toResultResponse(session);
+        return toResultResponse(session, optionCatalog.snapshot());
     }
 
-    private VibeResultResponse toResultResponse(VibeSession session) {
+    private VibeResultResponse toResultResponse(VibeSession session, OptionCatalog.Snapshot catalog) {
         VibePrompt prompt = session.getVibePrompt();
         VibeResult result = session.getVibeResult();
-        List<String> moodValues = resolveMoodValues(prompt.getMoodKeywordIds());
+        List<String> moodValues = catalog.moodValues(prompt.getMoodKeywordIds());
 
         return new VibeResultResponse(
                 session.getSessionId(),
@@ -165,45 +385,4 @@ public class VibeService {
                 session.getCreatedAt()
         );
     }
-
-    private VibeHistoryResponse toHistoryResponse(VibeSession session) {
-        VibePrompt prompt = session.getVibePrompt();
-        VibeResult result = session.getVibeResult();
-        List<String> moodValues = resolveMoodValues(prompt != null ? prompt.getMoodKeywordIds() : null);
-
-        return new VibeHistoryResponse(
-                session.getSessionId(),
-                result.getPhrase(),
-                moodValues,
-                prompt != null && prompt.getTimeOption() != null ? prompt.getTimeOption().getTimeKey() : null,
-                prompt != null && prompt.getWeatherOption() != null ? prompt.getWeatherOption().getWeatherKey() : null,
-                prompt != null && prompt.getPlaceOption() != null ? prompt.getPlaceOption().getPlaceKey() : null,
-                prompt != null && prompt.getCompanionOption() != null ? prompt.getCompanionOption().getCompanionKey() : null,
-                session.getCreatedAt()
-        );
-    }
-
-    private List<String> resolveMoodValues(String moodKeywordIdsJson) {
-        if (moodKeywordIdsJson == null) return Collections.emptyList();
-        List<Long> ids = fromJson(moodKeywordIdsJson);
-        return moodKeywordRepository.findAllById(ids).stream()
-                .map(MoodKeyword::getKeywordValue)
-                .toList();
-    }
-
-    private String toJson(List<Long> ids) {
-        try {
-            return objectMapper.writeValueAsString(ids);
-        } catch (JsonProcessingException e) {
-            throw new BusinessException("JSON 변환 실패", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-    }
-
-    private List<Long> fromJson(String json) {
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            return Collections.emptyList();
-        }
-    }
 }
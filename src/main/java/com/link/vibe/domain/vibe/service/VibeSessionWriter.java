@@ -0,0 +1,113 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import com.link.vibe.domain.vibe.entity.VibePrompt;
+import com.link.vibe.domain.vibe.entity.VibeResult;
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
+import com.link.vibe.domain.vibe.repository.VibePromptRepository;
+import com.link.vibe.domain.vibe.repository.VibeResultRepository;
+import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
+import com.link.vibe.global.exception.BusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Vibe 생성 파이프라인의 짧은 쓰기 트랜잭션 모음.
+ * OpenAI 호출은 이 클래스 밖(트랜잭션 없음)에서 수행되므로 호출 동안 DB 커넥션을 점유하지 않는다.
+ * <pre>
+ * open()     — 세션 생성 (IN_PROGRESS)
+ * complete() — 프롬프트/결과/히스토리 읽기 모델 저장 + 세션 COMPLETED
+ * cancel()   — 생성 실패 시 세션 CANCELLED
+ * isOpen()   — 비동기 생성 시작 전 세션이 아직 결과를 받을 수 있는지 확인
+ * </pre>
+ * 프로세스 중단 등으로 IN_PROGRESS에 남은 세션은 주기적으로 CANCELLED 처리된다.
+ */
+@Component
+public class VibeSessionWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(VibeSessionWriter.class);
+
+    private final VibeSessionRepository vibeSessionRepository;
+    private final VibePromptRepository vibePromptRepository;
+    private final VibeResultRepository vibeResultRepository;
+    private final VibeHistoryRepository vibeHistoryRepository;
+    private final Duration abandonAfter;
+
+    public VibeSessionWriter(VibeSessionRepository vibeSessionRepository,
+                             VibePromptRepository vibePromptRepository,
+                             VibeResultRepository vibeResultRepository,
+                             VibeHistoryRepository vibeHistoryRepository,
+                             @Value("${vibe.session.abandon-after:PT5M}") Duration abandonAfter) {
+        this.vibeSessionRepository = vibeSessionRepository;
+        this.vibePromptRepository = vibePromptRepository;
+        this.vibeResultRepository = vibeResultRepository;
+        this.vibeHistoryRepository = vibeHistoryRepository;
+        this.abandonAfter = abandonAfter;
+    }
+
+    @Transactional
+    public VibeSession open(Long userId) {
+        return vibeSessionRepository.save(VibeSession.builder().userId(userId).build());
+    }
+
+    /**
+     * 진행 중인 세션에만 결과를 기록한다. 이미 취소된 세션이면 아무것도 저장하지 않고 예외를 던진다.
+     * 히스토리 읽기 모델(vibe_history)도 같은 트랜잭션에서 기록하므로 완료된 세션과 항상 함께 보인다.
+     * <p>
+     * 세션은 조회하지 않고 조건부 UPDATE 한 번으로 완료 처리한다 (행 잠금은 커밋까지 유지되어 취소와 경합하지 않는다).
+     * 프롬프트/결과/히스토리는 식별자가 미리 정해져 있으므로 커밋 시 JDBC 배치로 INSERT 된다.
+     *
+     * @param session {@link #open(Long)}이 돌려준 세션 (분리 상태, userId/createdAt만 사용)
+     */
+    @Transactional
+    public void complete(VibeSession session, VibePrompt prompt, VibeResult result, List<String> moodValues) {
+        Long sessionId = session.getSessionId();
+        if (vibeSessionRepository.completeIfInProgress(sessionId, LocalDateTime.now()) == 0) {
+            throw vibeSessionRepository.existsById(sessionId)
+                    ? new BusinessException("이미 종료된 Vibe 세션입니다.", HttpStatus.CONFLICT)
+                    : new BusinessException("해당 Vibe 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+        }
+
+        vibePromptRepository.save(prompt);
+        vibeResultRepository.save(result);
+        vibeHistoryRepository.save(VibeHistory.of(session, prompt, result, moodValues));
+    }
+
+    /**
+     * 세션이 아직 진행 중이고 방치 기준(abandon-after) 안인지. 실행 대기열에서 오래 기다린 작업이
+     * 스윕이 이미 취소했거나 곧 취소할 세션으로 OpenAI를 호출하지 않도록 시작 시 확인한다.
+     * 기준을 넘겼으면 DB를 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public boolean isOpen(VibeSession session) {
+        if (session.getCreatedAt().isBefore(LocalDateTime.now().minus(abandonAfter))) {
+            return false;
+        }
+        return vibeSessionRepository.existsBySessionIdAndStatus(session.getSessionId(), "IN_PROGRESS");
+    }
+
+    @Transactional
+    public void cancel(Long sessionId) {
+        vibeSessionRepository.cancelIfInProgress(sessionId, LocalDateTime.now());
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${vibe.session.sweep-interval:PT1M}")
+    public void cancelAbandonedSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        int cancelled = vibeSessionRepository.cancelStaleSessions(now.minus(abandonAfter), now);
+        if (cancelled > 0) {
+            log.warn("방치된 Vibe 세션 {}건을 CANCELLED 처리했습니다.", cancelled);
+        }
+    }
+}
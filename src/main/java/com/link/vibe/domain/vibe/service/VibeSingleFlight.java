@@ -0,0 +1,190 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.global.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 같은 선택 조합({@link VibeCacheKey})으로 동시에 들어온 생성 요청을 하나의 upstream 호출로 합친다.
+ * 먼저 도착한 요청(leader)만 OpenAI를 호출하고, 그 사이 도착한 요청(follower)은 같은 결과를 기다린다.
+ * 한 호출에 붙을 수 있는 follower 수는 max-waiters로 제한되며, 초과분은 각자 upstream을 호출한다.
+ * 세션/결과 저장은 호출한 요청마다 따로 이루어진다.
+ * <p>
+ * 스트리밍 호출({@link #stream})과 일반 호출({@link #execute})은 서로 다른 호출로 합친다. 스트리밍 follower는
+ * 붙기 전까지 leader가 받은 delta를 순서대로 재생받고, 이후 delta는 leader와 함께 받는다.
+ * <p>
+ * follower는 leader 호출이 끝날 수 있는 마지막 시각(leader 시작 + upstream 상한)까지만 기다린다.
+ * upstream 상한은 HTTP 클라이언트 설정(커넥션 대기 + 연결 + 응답 읽기)에서 구하며, 헤지되는 일반 호출은
+ * 헤지 지연(최대 한 번의 호출 시간) 뒤 두 번째 호출이 끝날 때까지이므로 두 배로 잡는다.
+ */
+@Component
+public class VibeSingleFlight {
+
+    private static final Logger log = LoggerFactory.getLogger(VibeSingleFlight.class);
+
+    private final Map<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final int maxWaiters;
+    private final Duration blockingDeadline;
+    private final Duration streamingDeadline;
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+    private final Counter overflowCounter;
+
+    public VibeSingleFlight(@Value("${vibe.single-flight.max-waiters:100}") int maxWaiters,
+                            @Value("${openai.http.lease-timeout:PT5S}") Duration leaseTimeout,
+                            @Value("${openai.http.connect-timeout:PT10S}") Duration connectTimeout,
+                            @Value("${openai.http.read-timeout:PT30S}") Duration readTimeout,
+                            @Value("${openai.hedge.enabled:true}") boolean hedgeEnabled,
+                            MeterRegistry meterRegistry) {
+        this.maxWaiters = maxWaiters;
+        Duration callTimeout = leaseTimeout.plus(connectTimeout).plus(readTimeout);
+        this.blockingDeadline = hedgeEnabled ? callTimeout.multipliedBy(2) : callTimeout;
+        this.streamingDeadline = callTimeout;
+        this.leaderCounter = Counter.builder("vibe.single-flight.calls").tag("role", "leader")
+                .description("upstream을 직접 호출한 요청 수").register(meterRegistry);
+        this.followerCounter = Counter.builder("vibe.single-flight.calls").tag("role", "follower")
+                .description("진행 중인 호출 결과를 공유받은 요청 수").register(meterRegistry);
+        this.overflowCounter = Counter.builder("vibe.single-flight.calls").tag("role", "overflow")
+                .description("대기자 상한 초과로 별도 호출한 요청 수").register(meterRegistry);
+    }
+
+    public OpenAiService.VibeResult execute(VibeCacheKey key, Supplier<OpenAiService.VibeResult> upstream) {
+        return run(new FlightKey(key, false), blockingDeadline, null, onDelta -> upstream.get());
+    }
+
+    /**
+     * @param onDelta  이 요청의 delta 수신자. leader든 follower든 같은 순서의 전체 delta를 받는다
+     * @param upstream 받은 delta 콜백으로 스트리밍 호출을 실행한다
+     */
+    public OpenAiService.VibeResult stream(VibeCacheKey key, Consumer<String> onDelta,
+                                           Function<Consumer<String>, OpenAiService.VibeResult> upstream) {
+        return run(new FlightKey(key, true), streamingDeadline, onDelta, upstream);
+    }
+
+    private OpenAiService.VibeResult run(FlightKey key, Duration deadline, Consumer<String> onDelta,
+                                         Function<Consumer<String>, OpenAiService.VibeResult> upstream) {
+        Flight flight = new Flight(Instant.now().plus(deadline));
+        Flight inFlight = flights.putIfAbsent(key, flight);
+
+        if (inFlight != null) {
+            if (inFlight.tryJoin(maxWaiters)) {
+                followerCounter.increment();
+                if (onDelta != null) {
+                    inFlight.subscribe(onDelta);
+                }
+                return inFlight.await();
+            }
+            overflowCounter.increment();
+            return upstream.apply(onDelta != null ? onDelta : delta -> {});
+        }
+
+        leaderCounter.increment();
+        if (onDelta != null) {
+            flight.subscribe(onDelta);
+        }
+        try {
+            OpenAiService.VibeResult result = upstream.apply(flight::publish);
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error도 follower에게 전달해야 한다. 완료하지 않으면 follower가 마감 시각까지 헛되이 기다린다
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private record FlightKey(VibeCacheKey key, boolean streaming) {}
+
+    private static class Flight {
+
+        private final CompletableFuture<OpenAiService.VibeResult> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final Instant deadline;
+
+        // 스트리밍 호출의 delta 기록과 수신자. 전달까지 락 안에서 해 재생과 새 delta의 순서가 섞이지 않는다
+        private final ReentrantLock deltaLock = new ReentrantLock();
+        private final List<String> deltas = new ArrayList<>();
+        private final List<Consumer<String>> subscribers = new ArrayList<>();
+
+        private Flight(Instant deadline) {
+            this.deadline = deadline;
+        }
+
+        boolean tryJoin(int maxWaiters) {
+            return waiters.getAndUpdate(n -> n < maxWaiters ? n + 1 : n) < maxWaiters;
+        }
+
+        void subscribe(Consumer<String> onDelta) {
+            deltaLock.lock();
+            try {
+                deltas.forEach(delta -> deliver(onDelta, delta));
+                subscribers.add(onDelta);
+            } finally {
+                deltaLock.unlock();
+            }
+        }
+
+        void publish(String delta) {
+            deltaLock.lock();
+            try {
+                deltas.add(delta);
+                subscribers.forEach(subscriber -> deliver(subscriber, delta));
+            } finally {
+                deltaLock.unlock();
+            }
+        }
+
+        private static void deliver(Consumer<String> subscriber, String delta) {
+            // 한 수신자의 실패가 leader의 upstream 호출을 끊지 않도록 한다
+            try {
+                subscriber.accept(delta);
+            } catch (RuntimeException e) {
+                log.warn("single-flight delta 전달 실패", e);
+            }
+        }
+
+        OpenAiService.VibeResult await() {
+            try {
+                long remaining = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+                return result.get(remaining, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                throw new BusinessException("Vibe 생성이 지연되고 있습니다. 잠시 후 다시 시도해주세요.",
+                        HttpStatus.GATEWAY_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException("Vibe 생성이 중단되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+        }
+    }
+}
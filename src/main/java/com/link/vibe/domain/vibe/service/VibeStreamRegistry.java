@@ -0,0 +1,178 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.vibe.dto.VibeResultResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 진행 중인 비동기 Vibe 생성의 SSE 구독자 관리.
+ * 생성 중 도착한 delta를 보관해 두었다가 늦게 구독한 클라이언트에게도 처음부터 재전송한다.
+ * 생성이 끝나면(completed/failed) 스트림을 제거하며, 이후 구독은 DB 상태로 응답한다.
+ * <pre>
+ * event: delta      — OpenAI content 조각 (JSON 텍스트 일부)
+ * event: completed  — 최종 VibeResultResponse
+ * event: failed     — 실패 메시지
+ * </pre>
+ */
+@Component
+public class VibeStreamRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(VibeStreamRegistry.class);
+
+    private final Map<Long, VibeStream> streams = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    public VibeStreamRegistry(@Value("${vibe.async.stream-timeout:PT60S}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public void open(Long sessionId) {
+        streams.put(sessionId, new VibeStream());
+    }
+
+    public Optional<SseEmitter> subscribe(Long sessionId) {
+        VibeStream stream = streams.get(sessionId);
+        if (stream == null) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = newEmitter();
+        stream.attach(emitter);
+        return Optional.of(emitter);
+    }
+
+    public void delta(Long sessionId, String text) {
+        VibeStream stream = streams.get(sessionId);
+        if (stream != null) {
+            stream.delta(text);
+        }
+    }
+
+    public void complete(Long sessionId, VibeResultResponse response) {
+        VibeStream stream = streams.remove(sessionId);
+        if (stream != null) {
+            stream.finish(() -> SseEmitter.event().name("completed").data(response, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    public void fail(Long sessionId, String message) {
+        VibeStream stream = streams.remove(sessionId);
+        if (stream != null) {
+            stream.finish(() -> SseEmitter.event().name("failed").data(message));
+        }
+    }
+
+    /**
+     * 이미 끝난 세션 등 진행 중 스트림이 없을 때, 단일 이벤트를 보내고 닫는 emitter를 만든다.
+     */
+    public SseEmitter single(SseEmitter.SseEventBuilder event) {
+        SseEmitter emitter = newEmitter();
+        try {
+            emitter.send(event);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    /**
+     * emitter.send()가 응답 스트림에 직접 쓰므로 synchronized 대신 ReentrantLock으로 보호한다 (가상 스레드 pinning 방지).
+     */
+    private static class VibeStream {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<String> deltas = new ArrayList<>();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private Supplier<SseEmitter.SseEventBuilder> terminal;
+
+        void attach(SseEmitter emitter) {
+            lock.lock();
+            try {
+                for (String delta : deltas) {
+                    if (!send(emitter, SseEmitter.event().name("delta").data(delta))) {
+                        return;
+                    }
+                }
+                if (terminal != null) {
+                    if (send(emitter, terminal.get())) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                emitters.add(emitter);
+                emitter.onCompletion(() -> detach(emitter));
+                emitter.onTimeout(() -> detach(emitter));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void delta(String text) {
+            lock.lock();
+            try {
+                deltas.add(text);
+                for (SseEmitter emitter : List.copyOf(emitters)) {
+                    if (!send(emitter, SseEmitter.event().name("delta").data(text))) {
+                        emitters.remove(emitter);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void finish(Supplier<SseEmitter.SseEventBuilder> event) {
+            lock.lock();
+            try {
+                terminal = event;
+                List<SseEmitter> targets = List.copyOf(emitters);
+                emitters.clear();
+                for (SseEmitter emitter : targets) {
+                    if (send(emitter, event.get())) {
+                        emitter.complete();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void detach(SseEmitter emitter) {
+            lock.lock();
+            try {
+                emitters.remove(emitter);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 구독자 전송 실패 — 구독 해제", e);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
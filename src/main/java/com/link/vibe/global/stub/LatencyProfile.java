@@ -0,0 +1,38 @@
+package com.link.vibe.global.stub;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link OpenAiStubServer}의 응답 지연 분포.
+ * <pre>
+ * fixed     — 항상 median
+ * uniform   — median × [1 - spread, 1 + spread] 균등 분포
+ * lognormal — 중앙값 median, 형태 계수 spread(σ)의 로그정규 분포 (긴 꼬리 지연 재현)
+ * </pre>
+ * 모든 표본은 max로 잘린다.
+ */
+public record LatencyProfile(Type type, Duration median, double spread, Duration max) {
+
+    public enum Type { FIXED, UNIFORM, LOGNORMAL }
+
+    public static LatencyProfile fixed(Duration latency) {
+        return new LatencyProfile(Type.FIXED, latency, 0, latency);
+    }
+
+    public static LatencyProfile of(String type, Duration median, double spread, Duration max) {
+        return new LatencyProfile(Type.valueOf(type.toUpperCase(Locale.ROOT)), median, spread, max);
+    }
+
+    public Duration sample(RandomGenerator random) {
+        double medianMs = median.toNanos() / 1_000_000.0;
+        double sampledMs = switch (type) {
+            case FIXED -> medianMs;
+            case UNIFORM -> medianMs * (1 - spread + random.nextDouble() * 2 * spread);
+            case LOGNORMAL -> medianMs * Math.exp(spread * random.nextGaussian());
+        };
+        long nanos = (long) (Math.max(0, sampledMs) * 1_000_000);
+        return Duration.ofNanos(Math.min(nanos, max.toNanos()));
+    }
+}
@@ -0,0 +1,163 @@
+package com.link.vibe.global.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 OpenAI Chat Completions 대역 서버 (JDK HttpServer, 요청마다 가상 스레드).
+ * POST /v1/chat/completions 에 response_format json_object 형식의 phrase/analysis 응답을 돌려준다.
+ * <ul>
+ *   <li>지연: {@link LatencyProfile} 분포에서 요청마다 표본 추출</li>
+ *   <li>오류: errorRate 확률로 errorStatus 응답 (예: 429, 500)</li>
+ *   <li>스트리밍: 요청 본문의 stream=true 이면 content를 chunkSize 글자씩 SSE delta로 나눠 chunkDelay 간격으로 전송</li>
+ * </ul>
+ * 테스트에서는 port 0으로 띄운 뒤 {@link #url()}을 openai.api-url에 넣고, local 프로필에서는 OpenAiStubConfig가 띄운다.
+ */
+public class OpenAiStubServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenAiStubServer.class);
+    private static final String PATH = "/v1/chat/completions";
+
+    public record Settings(LatencyProfile latency, double errorRate, int errorStatus,
+                           Duration chunkDelay, int chunkSize) {
+
+        public static Settings of(LatencyProfile latency) {
+            return new Settings(latency, 0, 500, Duration.ofMillis(20), 8);
+        }
+
+        public Settings withErrors(double errorRate, int errorStatus) {
+            return new Settings(latency, errorRate, errorStatus, chunkDelay, chunkSize);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Settings settings;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private OpenAiStubServer(HttpServer server, Settings settings) {
+        this.server = server;
+        this.settings = settings;
+    }
+
+    public static OpenAiStubServer start(int port, Settings settings) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 4_096);
+            OpenAiStubServer stub = new OpenAiStubServer(server, settings);
+            server.setExecutor(stub.executor);
+            server.createContext(PATH, stub::handle);
+            server.start();
+            log.info("OpenAI 대역 서버 시작: {} ({})", stub.url(), settings);
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("OpenAI 대역 서버를 시작할 수 없습니다. (port=" + port + ")", e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort() + PATH;
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long errors() {
+        return errors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            long sequence = requests.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            sleep(settings.latency().sample(ThreadLocalRandom.current()));
+
+            if (ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+                errors.incrementAndGet();
+                send(exchange, settings.errorStatus(), "application/json",
+                        objectMapper.writeValueAsString(Map.of("error", Map.of("message", "stub error", "type", "server_error"))));
+                return;
+            }
+
+            String model = request.path("model").asText("gpt-4o-mini");
+            String content = objectMapper.writeValueAsString(Map.of(
+                    "phrase", "대역 서버가 만든 " + sequence + "번째 분위기",
+                    "analysis", "부하 테스트용 고정 분석 문장입니다. 실제 OpenAI 응답이 아닙니다."));
+
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, sequence, model, content);
+            } else {
+                send(exchange, 200, "application/json", objectMapper.writeValueAsString(Map.of(
+                        "id", "chatcmpl-stub-" + sequence,
+                        "object", "chat.completion",
+                        "model", model,
+                        "choices", List.of(Map.of(
+                                "index", 0,
+                                "message", Map.of("role", "assistant", "content", content),
+                                "finish_reason", "stop")))));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void stream(HttpExchange exchange, long sequence, String model, String content) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < content.length(); i += settings.chunkSize()) {
+                String piece = content.substring(i, Math.min(content.length(), i + settings.chunkSize()));
+                String chunk = objectMapper.writeValueAsString(Map.of(
+                        "id", "chatcmpl-stub-" + sequence,
+                        "object", "chat.completion.chunk",
+                        "model", model,
+                        "choices", List.of(Map.of("index", 0, "delta", Map.of("content", piece)))));
+                out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                sleep(settings.chunkDelay());
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,634 @@
+-- ============================================================================
+-- V1: 기준 스키마 (PostgreSQL)
+-- schema.sql v3.2(MySQL 문법)를 PostgreSQL로 옮긴 것. 테이블/컬럼 설명은 schema.sql 참고.
+--   AUTO_INCREMENT              → GENERATED BY DEFAULT AS IDENTITY
+--   ENUM(...)                   → VARCHAR + CHECK 제약
+--   JSON                        → JSONB
+--   UNIQUE KEY name (...)       → CONSTRAINT name UNIQUE (...)
+--   ON UPDATE CURRENT_TIMESTAMP → set_updated_at() 트리거
+-- 이미 schema.sql로 만들어진 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 간주한다.
+-- ============================================================================
+
+CREATE TABLE languages (
+    language_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    language_code VARCHAR(5) UNIQUE NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE mood_keywords (
+    keyword_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    keyword_value VARCHAR(50) UNIQUE NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE time_options (
+    time_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    time_key VARCHAR(50) UNIQUE NOT NULL,
+    time_value TIME NOT NULL,
+    period VARCHAR(20) CHECK (period IN ('AM', 'PM')) NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE weather_options (
+    weather_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    weather_key VARCHAR(50) UNIQUE NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE place_options (
+    place_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    place_key VARCHAR(50) UNIQUE NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE companion_options (
+    companion_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    companion_key VARCHAR(50) UNIQUE NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE item_categories (
+    category_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_key VARCHAR(50) UNIQUE NOT NULL,
+    sense_type JSONB NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE users (
+    user_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email VARCHAR(255) UNIQUE NOT NULL,
+    password VARCHAR(255),
+    name VARCHAR(100),
+    nickname VARCHAR(50) UNIQUE,
+    gender VARCHAR(20) CHECK (gender IN ('MALE', 'FEMALE', 'OTHER')),
+    birth_year INT,
+    profile_image_url VARCHAR(500),
+    preferred_language_id BIGINT,
+    status VARCHAR(20) CHECK (status IN ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'DELETED')) DEFAULT 'ACTIVE',
+    last_login_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP,
+    FOREIGN KEY (preferred_language_id) REFERENCES languages(language_id)
+);
+
+CREATE TABLE mood_keyword_translations (
+    translation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    keyword_id BIGINT NOT NULL,
+    language_id BIGINT NOT NULL,
+    keyword_value VARCHAR(100) NOT NULL,
+    description TEXT,
+    CONSTRAINT uk_keyword_lang UNIQUE (keyword_id, language_id),
+    FOREIGN KEY (keyword_id) REFERENCES mood_keywords(keyword_id) ON DELETE CASCADE,
+    FOREIGN KEY (language_id) REFERENCES languages(language_id)
+);
+
+CREATE TABLE weather_option_translations (
+    translation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    weather_id BIGINT NOT NULL,
+    language_id BIGINT NOT NULL,
+    weather_value VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_weather_lang UNIQUE (weather_id, language_id),
+    FOREIGN KEY (weather_id) REFERENCES weather_options(weather_id) ON DELETE CASCADE,
+    FOREIGN KEY (language_id) REFERENCES languages(language_id)
+);
+
+CREATE TABLE place_option_translations (
+    translation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    place_id BIGINT NOT NULL,
+    language_id BIGINT NOT NULL,
+    place_value VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_place_lang UNIQUE (place_id, language_id),
+    FOREIGN KEY (place_id) REFERENCES place_options(place_id) ON DELETE CASCADE,
+    FOREIGN KEY (language_id) REFERENCES languages(language_id)
+);
+
+CREATE TABLE companion_option_translations (
+    translation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    companion_id BIGINT NOT NULL,
+    language_id BIGINT NOT NULL,
+    companion_value VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_companion_lang UNIQUE (companion_id, language_id),
+    FOREIGN KEY (companion_id) REFERENCES companion_options(companion_id) ON DELETE CASCADE,
+    FOREIGN KEY (language_id) REFERENCES languages(language_id)
+);
+
+CREATE TABLE item_category_translations (
+    translation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_id BIGINT NOT NULL,
+    language_id BIGINT NOT NULL,
+    category_value VARCHAR(100) NOT NULL,
+    description TEXT,
+    CONSTRAINT uk_category_lang UNIQUE (category_id, language_id),
+    FOREIGN KEY (category_id) REFERENCES item_categories(category_id) ON DELETE CASCADE,
+    FOREIGN KEY (language_id) REFERENCES languages(language_id)
+);
+
+CREATE TABLE items (
+    item_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_id BIGINT NOT NULL,
+    item_key VARCHAR(100) UNIQUE NOT NULL,
+    brand VARCHAR(100),
+    image_url VARCHAR(500),
+    external_link VARCHAR(500),
+    external_service VARCHAR(50) DEFAULT 'OTHER',
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (category_id) REFERENCES item_categories(category_id)
+);
+
+CREATE TABLE social_accounts (
+    social_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    provider VARCHAR(20) CHECK (provider IN ('KAKAO', 'GOOGLE', 'NAVER', 'APPLE')) NOT NULL,
+    provider_user_id VARCHAR(255) NOT NULL,
+    access_token TEXT,
+    refresh_token TEXT,
+    token_expires_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_provider_user UNIQUE (provider, provider_user_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE user_settings (
+    setting_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT UNIQUE NOT NULL,
+    push_enabled BOOLEAN DEFAULT TRUE,
+    email_notification BOOLEAN DEFAULT TRUE,
+    default_share_privacy VARCHAR(20) CHECK (default_share_privacy IN ('PUBLIC', 'PRIVATE'))
+        DEFAULT 'PRIVATE',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE item_translations (
+    translation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    language_id BIGINT NOT NULL,
+    item_value VARCHAR(255) NOT NULL,
+    description TEXT,
+    CONSTRAINT uk_item_lang UNIQUE (item_id, language_id),
+    FOREIGN KEY (item_id) REFERENCES items(item_id) ON DELETE CASCADE,
+    FOREIGN KEY (language_id) REFERENCES languages(language_id)
+);
+
+CREATE TABLE movie_details (
+    item_id BIGINT PRIMARY KEY,
+    tmdb_id INTEGER UNIQUE NOT NULL,
+    original_title VARCHAR(500),
+    overview TEXT,
+    release_date DATE,
+    runtime INTEGER,
+    vote_average DECIMAL(3,1),
+    vote_count INTEGER,
+    popularity DECIMAL(10,3),
+    poster_path VARCHAR(255),
+    genres JSONB,
+    keywords JSONB,
+    production_countries JSONB,
+    original_language VARCHAR(10),
+    cast_info JSONB,
+    release_dates JSONB,
+    content_type VARCHAR(20) DEFAULT 'MOVIE',
+    tmdb_updated_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (item_id) REFERENCES items(item_id) ON DELETE CASCADE
+);
+
+CREATE TABLE music_details (
+    item_id BIGINT PRIMARY KEY,
+    musicbrainz_id VARCHAR(36) UNIQUE,
+    isrc VARCHAR(12),
+    artists JSONB NOT NULL,
+    album_name VARCHAR(500),
+    album_cover_url VARCHAR(500),
+    track_duration_ms INTEGER,
+    release_date DATE,
+    genres JSONB,
+    deezer_id INTEGER,
+    preview_url VARCHAR(500),
+    spotify_uri VARCHAR(100),
+    lyrics TEXT,
+    content_type VARCHAR(20) DEFAULT 'TRACK',
+    source_updated_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (item_id) REFERENCES items(item_id) ON DELETE CASCADE
+);
+
+CREATE TABLE lighting_details (
+    item_id BIGINT PRIMARY KEY,
+    lighting_key VARCHAR(100) UNIQUE NOT NULL,
+    color_temp_kelvin INTEGER DEFAULT 0,
+    color_temp_name VARCHAR(100) NOT NULL,
+    brightness_percent INTEGER NOT NULL
+        CHECK (brightness_percent BETWEEN 0 AND 100),
+    brightness_level VARCHAR(50),
+    lighting_type VARCHAR(100) NOT NULL,
+    light_color VARCHAR(50) DEFAULT '웜화이트',
+    position VARCHAR(100),
+    space_context VARCHAR(255),
+    time_context VARCHAR(100),
+    is_dynamic BOOLEAN DEFAULT FALSE,
+    dynamic_start_kelvin INTEGER,
+    dynamic_end_kelvin INTEGER,
+    linked_product_id BIGINT,
+    hue_scene_id VARCHAR(100),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (item_id) REFERENCES items(item_id) ON DELETE CASCADE
+);
+
+CREATE TABLE coffee_details (
+    item_id              BIGINT PRIMARY KEY,
+    capsule_key          VARCHAR(100) UNIQUE NOT NULL,
+    capsule_name         VARCHAR(255) NOT NULL,
+    line                 VARCHAR(50) NOT NULL
+                         CHECK (line IN ('ORIGINAL', 'VERTUO')),
+    sub_category         VARCHAR(100),
+    intensity            INTEGER CHECK (intensity BETWEEN 1 AND 14),
+    intensity_max        INTEGER CHECK (intensity_max BETWEEN 1 AND 14),
+    cup_sizes            JSONB NOT NULL,
+    bean_type            VARCHAR(100),
+    origins              JSONB,
+    roast_level          VARCHAR(100),
+    aroma_profile        JSONB,
+    flavor_notes         TEXT,
+    body                 INTEGER CHECK (body BETWEEN 1 AND 5),
+    bitterness           INTEGER CHECK (bitterness BETWEEN 1 AND 5),
+    acidity              INTEGER CHECK (acidity BETWEEN 1 AND 5),
+    roasting             INTEGER CHECK (roasting BETWEEN 1 AND 5),
+    is_decaf             BOOLEAN DEFAULT FALSE,
+    is_limited_edition   BOOLEAN DEFAULT FALSE,
+    price_per_capsule_krw INTEGER,
+    created_at           TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at           TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (item_id) REFERENCES items(item_id) ON DELETE CASCADE
+);
+
+CREATE TABLE neo4j_sync_status (
+    sync_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    sync_status VARCHAR(20) CHECK (sync_status IN ('PENDING', 'PROCESSING', 'SYNCED', 'FAILED')) DEFAULT 'PENDING',
+    neo4j_node_id VARCHAR(100),
+    last_synced_at TIMESTAMP,
+    retry_count INT DEFAULT 0,
+    error_message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_item_sync UNIQUE (item_id),
+    FOREIGN KEY (item_id) REFERENCES items(item_id) ON DELETE CASCADE
+);
+
+CREATE TABLE vibe_sessions (
+    session_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) CHECK (status IN ('IN_PROGRESS', 'COMPLETED', 'CANCELLED')) DEFAULT 'IN_PROGRESS',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE archive_folders (
+    folder_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    folder_name VARCHAR(100) NOT NULL,
+    thumbnail_url VARCHAR(500),
+    sort_order INT DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE follows (
+    follow_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    follower_id BIGINT NOT NULL,
+    following_id BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_follower_following UNIQUE (follower_id, following_id),
+    FOREIGN KEY (follower_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (following_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE notifications (
+    notification_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(20) CHECK (type IN ('FEED_REACTION', 'FEED_COMMENT', 'FOLLOW', 'REPORT_READY', 'SYSTEM')) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    body TEXT,
+    link_url VARCHAR(500),
+    reference_id BIGINT,
+    is_read BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    read_at TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE vibe_prompts (
+    prompt_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    session_id BIGINT UNIQUE NOT NULL,
+    mood_keyword_ids JSONB,
+    time_id BIGINT,
+    weather_id BIGINT,
+    place_id BIGINT,
+    companion_id BIGINT,
+    final_prompt TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (session_id) REFERENCES vibe_sessions(session_id) ON DELETE CASCADE,
+    FOREIGN KEY (time_id) REFERENCES time_options(time_id),
+    FOREIGN KEY (weather_id) REFERENCES weather_options(weather_id),
+    FOREIGN KEY (place_id) REFERENCES place_options(place_id),
+    FOREIGN KEY (companion_id) REFERENCES companion_options(companion_id)
+);
+
+CREATE TABLE archive_items (
+    archive_item_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    reaction_id BIGINT,
+    memo VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_user_item UNIQUE (user_id, item_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (item_id) REFERENCES items(item_id) ON DELETE CASCADE
+);
+
+CREATE TABLE vibe_results (
+    result_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    session_id BIGINT UNIQUE NOT NULL,
+    generated_image_url VARCHAR(500),
+    phrase TEXT,
+    ai_analysis TEXT,
+    ai_model_version VARCHAR(50),
+    processing_time_ms INT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (session_id) REFERENCES vibe_sessions(session_id) ON DELETE CASCADE
+);
+
+CREATE TABLE vibe_items (
+    vibe_item_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    result_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    match_score DECIMAL(5,2),
+    recommend_reason TEXT,
+    is_user_liked BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_result_item UNIQUE (result_id, item_id),
+    FOREIGN KEY (result_id) REFERENCES vibe_results(result_id) ON DELETE CASCADE,
+    FOREIGN KEY (item_id) REFERENCES items(item_id)
+);
+
+CREATE TABLE archive_vibes (
+    archive_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    result_id BIGINT NOT NULL,
+    folder_id BIGINT,
+    memo VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_user_result UNIQUE (user_id, result_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (result_id) REFERENCES vibe_results(result_id) ON DELETE CASCADE,
+    FOREIGN KEY (folder_id) REFERENCES archive_folders(folder_id) ON DELETE SET NULL
+);
+
+CREATE TABLE feeds (
+    feed_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    result_id BIGINT NOT NULL,
+    caption TEXT,
+    is_public BOOLEAN DEFAULT FALSE,
+    is_pinned BOOLEAN DEFAULT FALSE,
+    view_count INT DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (result_id) REFERENCES vibe_results(result_id) ON DELETE CASCADE
+);
+
+CREATE TABLE feed_reactions (
+    reaction_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    feed_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    reaction_type VARCHAR(20) CHECK (reaction_type IN ('LIKE', 'LOVE', 'WOW', 'COZY')) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_feed_user_reaction UNIQUE (feed_id, user_id, reaction_type),
+    FOREIGN KEY (feed_id) REFERENCES feeds(feed_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE feed_comments (
+    comment_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    feed_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    parent_comment_id BIGINT,
+    content TEXT NOT NULL,
+    is_hidden BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP,
+    FOREIGN KEY (feed_id) REFERENCES feeds(feed_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (parent_comment_id) REFERENCES feed_comments(comment_id) ON DELETE CASCADE
+);
+
+CREATE TABLE favorites (
+    favorite_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    archive_id BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_user_archive UNIQUE (user_id, archive_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (archive_id) REFERENCES archive_vibes(archive_id) ON DELETE CASCADE
+);
+
+CREATE TABLE comment_reactions (
+    reaction_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    comment_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_comment_user UNIQUE (comment_id, user_id),
+    FOREIGN KEY (comment_id) REFERENCES feed_comments(comment_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE reports (
+    report_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    report_type VARCHAR(20) CHECK (report_type IN ('MONTHLY', 'YEARLY')) NOT NULL,
+    year INT NOT NULL,
+    month INT,
+    total_vibes INT DEFAULT 0,
+    active_days INT DEFAULT 0,
+    top_mood_keyword_id BIGINT,
+    top_time_id BIGINT,
+    top_place_id BIGINT,
+    mood_distribution JSONB,
+    time_distribution JSONB,
+    weekly_trend JSONB,
+    recommended_items JSONB,
+    identity_type VARCHAR(100),
+    identity_emoji VARCHAR(10),
+    report_image_url VARCHAR(500),
+    share_card_url VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_user_report UNIQUE (user_id, report_type, year, month),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (top_mood_keyword_id) REFERENCES mood_keywords(keyword_id),
+    FOREIGN KEY (top_time_id) REFERENCES time_options(time_id),
+    FOREIGN KEY (top_place_id) REFERENCES place_options(place_id)
+);
+
+CREATE TABLE external_connections (
+    connection_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    service_type VARCHAR(50) NOT NULL,
+    access_token TEXT,
+    refresh_token TEXT,
+    token_expires_at TIMESTAMP,
+    service_user_id VARCHAR(255),
+    service_user_name VARCHAR(255),
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_user_service UNIQUE (user_id, service_type),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE search_histories (
+    history_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    search_type VARCHAR(20) CHECK (search_type IN ('VIBE', 'ITEM', 'FEED', 'USER')) NOT NULL,
+    keyword VARCHAR(255),
+    session_id BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    FOREIGN KEY (session_id) REFERENCES vibe_sessions(session_id) ON DELETE SET NULL
+);
+
+CREATE TABLE trending_vibes (
+    trend_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    result_id BIGINT NOT NULL,
+    score DECIMAL(10,2) NOT NULL,
+    rank_position INT,
+    trend_date DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_result_date UNIQUE (result_id, trend_date),
+    FOREIGN KEY (result_id) REFERENCES vibe_results(result_id) ON DELETE CASCADE
+);
+
+CREATE TABLE mood_trends (
+    trend_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    keyword_id BIGINT NOT NULL,
+    trend_date DATE NOT NULL,
+    usage_count INT DEFAULT 0,
+    growth_rate DECIMAL(5,2),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_keyword_date UNIQUE (keyword_id, trend_date),
+    FOREIGN KEY (keyword_id) REFERENCES mood_keywords(keyword_id) ON DELETE CASCADE
+);
+
+CREATE TABLE etl_job_logs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    dag_id VARCHAR(100),
+    task_id VARCHAR(100),
+    domain VARCHAR(50),
+    pipeline_stage VARCHAR(20) CHECK (pipeline_stage IN ('COLLECT', 'GRAPH_PROCESS'))
+        NOT NULL DEFAULT 'COLLECT',
+    execution_date TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    records_processed INTEGER DEFAULT 0,
+    records_failed INTEGER DEFAULT 0,
+    records_skipped INTEGER DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    error_message TEXT,
+    metadata JSONB,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE data_quality_checks (
+    check_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    etl_job_id BIGINT NOT NULL,
+    check_name VARCHAR(100) NOT NULL,
+    check_type VARCHAR(50) NOT NULL,
+    original_data JSONB,
+    message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (etl_job_id) REFERENCES etl_job_logs(id) ON DELETE CASCADE
+);
+
+CREATE TABLE lighting_products (
+    product_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    lighting_detail_id BIGINT NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    brand VARCHAR(100),
+    product_url VARCHAR(500),
+    image_url VARCHAR(500),
+    price DECIMAL(10,2),
+    currency VARCHAR(5) DEFAULT 'KRW',
+    color_temp_min INTEGER,
+    color_temp_max INTEGER,
+    has_dimming BOOLEAN DEFAULT FALSE,
+    has_rgb BOOLEAN DEFAULT FALSE,
+    source VARCHAR(50),
+    source_product_id VARCHAR(100),
+    is_available BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (lighting_detail_id) REFERENCES lighting_details(item_id) ON DELETE CASCADE
+);
+
+-- updated_at 자동 갱신 (MySQL ON UPDATE CURRENT_TIMESTAMP 대체)
+CREATE FUNCTION set_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_updated_at BEFORE UPDATE ON users
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_items_updated_at BEFORE UPDATE ON items
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_user_settings_updated_at BEFORE UPDATE ON user_settings
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_movie_details_updated_at BEFORE UPDATE ON movie_details
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_music_details_updated_at BEFORE UPDATE ON music_details
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_lighting_details_updated_at BEFORE UPDATE ON lighting_details
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_coffee_details_updated_at BEFORE UPDATE ON coffee_details
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_neo4j_sync_status_updated_at BEFORE UPDATE ON neo4j_sync_status
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_archive_folders_updated_at BEFORE UPDATE ON archive_folders
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_feeds_updated_at BEFORE UPDATE ON feeds
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_feed_comments_updated_at BEFORE UPDATE ON feed_comments
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_external_connections_updated_at BEFORE UPDATE ON external_connections
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE TRIGGER trg_lighting_products_updated_at BEFORE UPDATE ON lighting_products
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V2: Vibe 조회 경로 인덱스
+-- ============================================================================
+--
+-- [히스토리] VibeSessionRepository.findHistoryFirstPage / findHistoryPageAfter
+--   WHERE user_id = ? [AND (created_at, session_id) < (?, ?)] ORDER BY created_at DESC, session_id DESC LIMIT n
+--   → 정렬 키까지 포함한 복합 인덱스를 역방향으로 읽어 정렬 없이 커서 위치부터 n건만 읽는다.
+--     행 값 비교가 Index Cond로 들어가려면 정렬 키 방향이 같아야 하므로 오름차순으로 만든다.
+CREATE INDEX idx_vibe_sessions_user_created
+    ON vibe_sessions (user_id, created_at, session_id);
+
+-- [방치 세션 정리] VibeSessionRepository.cancelStaleSessions
+--   WHERE status = 'IN_PROGRESS' AND created_at < ?  — 진행 중 세션은 소수이므로 부분 인덱스로 충분하다.
+CREATE INDEX idx_vibe_sessions_in_progress_created
+    ON vibe_sessions (created_at)
+    WHERE status = 'IN_PROGRESS';
+
+-- [상세/히스토리 fetch join] vibe_sessions → vibe_prompts, vibe_results
+--   session_id UNIQUE 제약이 만든 인덱스(vibe_prompts_session_id_key, vibe_results_session_id_key)를 그대로 사용한다.
+-- [옵션 fetch join] vibe_prompts → time/weather/place/companion_options
+--   옵션 테이블 PK로 조인되므로 별도 인덱스가 필요 없다.
+
+-- [인기 조합 집계] VibePromptRepository.findPopularCombinations  WHERE created_at >= ?
+CREATE INDEX idx_vibe_prompts_created
+    ON vibe_prompts (created_at);
+
+-- [트렌드 조회] MoodTrendRepository.findByTrendDate / findLatestTrendDate
+--   UNIQUE (keyword_id, trend_date)는 trend_date 단독 조건에 쓸 수 없다.
+CREATE INDEX idx_mood_trends_trend_date
+    ON mood_trends (trend_date);
@@ -0,0 +1,31 @@
+-- ============================================================================
+-- V3: 히스토리/상세 조회용 비정규화 읽기 모델
+-- ============================================================================
+--
+-- VibeSessionWriter.complete()가 세션 완료와 같은 트랜잭션에서 한 행을 기록한다.
+-- 기분 키워드는 생성 시점의 값(mood_values), 옵션은 키로 저장해 조회 시 조인이 필요 없다.
+-- 기존 완료 세션은 VibeHistoryBackfillJob(vibe.history.backfill.enabled=true)으로 옮긴다.
+CREATE TABLE vibe_history (
+    session_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    phrase TEXT,
+    ai_analysis TEXT,
+    mood_values JSONB NOT NULL DEFAULT '[]'::jsonb,
+    time_key VARCHAR(50),
+    weather_key VARCHAR(50),
+    place_key VARCHAR(50),
+    companion_key VARCHAR(50),
+    processing_time_ms INT,
+    created_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (session_id) REFERENCES vibe_sessions(session_id) ON DELETE CASCADE
+);
+
+-- [히스토리] VibeHistoryRepository.findFirstPage / findPageAfter
+--   WHERE user_id = ? [AND (created_at, session_id) < (?, ?)] ORDER BY created_at DESC, session_id DESC LIMIT n
+--   → 역방향 인덱스 범위 스캔 한 번 + 힙 접근 n건.
+-- [상세] VibeHistoryRepository.findById → vibe_history_pkey
+CREATE INDEX idx_vibe_history_user_created
+    ON vibe_history (user_id, created_at, session_id);
+
+-- 히스토리 조회가 vibe_history로 옮겨가 더 이상 쓰이지 않는다 (세션 INSERT/UPDATE마다 유지 비용만 발생).
+DROP INDEX idx_vibe_sessions_user_created;
@@ -0,0 +1,29 @@
+-- ============================================================================
+-- V4: vibe_sessions / vibe_prompts / vibe_results 식별자를 IDENTITY에서 50개 단위 시퀀스로 전환
+-- ============================================================================
+--
+-- IDENTITY는 INSERT를 실행해야 식별자를 알 수 있어 save()마다 즉시 INSERT 왕복이 생기고
+-- Hibernate JDBC 배치가 꺼진다. 시퀀스로 바꾸면 Hibernate가 nextval 한 번으로 50개를 확보해(pooled-lo)
+-- 메모리에서 식별자를 나눠 주고, INSERT는 flush 시점에 배치로 나간다.
+--
+-- 시퀀스 값은 블록의 시작값이다 (hibernate.id.optimizer.pooled.preferred=pooled-lo).
+-- 컬럼 DEFAULT도 같은 시퀀스를 쓰므로 SQL로 직접 넣는 행은 블록 하나를 통째로 쓰고 남은 값은 버려진다.
+-- 애플리케이션이 확보한 블록과 겹치지 않으므로 식별자가 충돌하지 않는다.
+
+CREATE SEQUENCE vibe_sessions_seq INCREMENT BY 50;
+SELECT setval('vibe_sessions_seq', COALESCE((SELECT MAX(session_id) FROM vibe_sessions), 0) + 1, false);
+ALTER TABLE vibe_sessions ALTER COLUMN session_id DROP IDENTITY IF EXISTS;
+ALTER TABLE vibe_sessions ALTER COLUMN session_id SET DEFAULT nextval('vibe_sessions_seq');
+ALTER SEQUENCE vibe_sessions_seq OWNED BY vibe_sessions.session_id;
+
+CREATE SEQUENCE vibe_prompts_seq INCREMENT BY 50;
+SELECT setval('vibe_prompts_seq', COALESCE((SELECT MAX(prompt_id) FROM vibe_prompts), 0) + 1, false);
+ALTER TABLE vibe_prompts ALTER COLUMN prompt_id DROP IDENTITY IF EXISTS;
+ALTER TABLE vibe_prompts ALTER COLUMN prompt_id SET DEFAULT nextval('vibe_prompts_seq');
+ALTER SEQUENCE vibe_prompts_seq OWNED BY vibe_prompts.prompt_id;
+
+CREATE SEQUENCE vibe_results_seq INCREMENT BY 50;
+SELECT setval('vibe_results_seq', COALESCE((SELECT MAX(result_id) FROM vibe_results), 0) + 1, false);
+ALTER TABLE vibe_results ALTER COLUMN result_id DROP IDENTITY IF EXISTS;
+ALTER TABLE vibe_results ALTER COLUMN result_id SET DEFAULT nextval('vibe_results_seq');
+ALTER SEQUENCE vibe_results_seq OWNED BY vibe_results.result_id;
@@ -0,0 +1,29 @@
+-- ============================================================================
+-- V5: vibe_prompts.mood_keyword_ids를 JSONB에서 BIGINT[]로 전환하고 GIN 인덱스 추가
+-- ============================================================================
+--
+-- JSONB로는 "기분 X를 고른 세션"을 인덱스로 찾을 수 없고, 애플리케이션은 매번 JSON 문자열을 직렬화/역직렬화했다.
+-- BIGINT[]는 Hibernate가 List<Long>으로 바로 읽고 쓰며(SqlTypes.ARRAY), GIN(array_ops)이
+-- 포함(@>)·겹침(&&) 조건을 인덱스로 처리한다.
+--   WHERE mood_keyword_ids @> ARRAY[?]::BIGINT[]   — 특정 기분을 고른 세션 조회 (VibeQueryPlanTest에서 실행 계획 확인)
+--
+-- 기존 행은 선택 순서를 유지한 채 변환한다. 배열이 아닌 JSON 값(비정상 데이터)은 NULL이 된다.
+-- ALTER ... USING에는 서브쿼리를 쓸 수 없으므로 변환용 임시 함수를 거친다 (세션 종료 시 삭제됨).
+
+CREATE FUNCTION pg_temp.jsonb_to_bigint_array(ids JSONB) RETURNS BIGINT[]
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT CASE
+           WHEN jsonb_typeof(ids) = 'array' THEN
+               ARRAY(SELECT e::BIGINT
+                     FROM jsonb_array_elements_text(ids) WITH ORDINALITY AS t(e, i)
+                     ORDER BY i)
+           END
+$$;
+
+ALTER TABLE vibe_prompts
+    ALTER COLUMN mood_keyword_ids TYPE BIGINT[]
+        USING pg_temp.jsonb_to_bigint_array(mood_keyword_ids);
+
+CREATE INDEX idx_vibe_prompts_mood_keyword_ids
+    ON vibe_prompts USING GIN (mood_keyword_ids);
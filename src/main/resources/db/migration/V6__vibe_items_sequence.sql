@@ -0,0 +1,12 @@
+-- ============================================================================
+-- V6: vibe_items 식별자를 IDENTITY에서 50개 단위 시퀀스로 전환
+-- ============================================================================
+--
+-- Vibe 결과마다 카테고리별 추천 아이템 여러 행을 함께 저장한다 (ItemRecommender).
+-- V4와 같은 방식으로 시퀀스를 쓰면 Hibernate가 식별자를 메모리에서 나눠 주므로 한 결과의 행들이 JDBC 배치 하나로 나간다.
+
+CREATE SEQUENCE vibe_items_seq INCREMENT BY 50;
+SELECT setval('vibe_items_seq', COALESCE((SELECT MAX(vibe_item_id) FROM vibe_items), 0) + 1, false);
+ALTER TABLE vibe_items ALTER COLUMN vibe_item_id DROP IDENTITY IF EXISTS;
+ALTER TABLE vibe_items ALTER COLUMN vibe_item_id SET DEFAULT nextval('vibe_items_seq');
+ALTER SEQUENCE vibe_items_seq OWNED BY vibe_items.vibe_item_id;
@@ -0,0 +1,18 @@
+-- ============================================================================
+-- V7: 피드 타임라인 조회 인덱스
+-- ============================================================================
+--
+-- [타임라인 재구성/병합] FeedRepository.findVisibleFeedIds
+--   WHERE user_id IN (...) AND feed_id < ? AND deleted_at IS NULL ORDER BY feed_id DESC LIMIT n
+--   → 작성자별로 feed_id 역방향 인덱스 스캔. 삭제된 피드는 읽을 일이 없으므로 부분 인덱스로 만든다.
+CREATE INDEX idx_feeds_user_feed_live
+    ON feeds (user_id, feed_id)
+    WHERE deleted_at IS NULL;
+
+-- [팬아웃 대상] FollowRepository.findFollowerIds  WHERE following_id = ?
+--   UNIQUE (follower_id, following_id)는 follower_id가 선두라 쓸 수 없다.
+--   [팔로잉 목록] findFollowingIds는 그 UNIQUE 인덱스를 그대로 쓴다.
+-- [팔로워 많은 계정] findAccountsWithFollowersAtLeast  GROUP BY following_id
+--   → 같은 인덱스를 Index Only Scan으로 읽어 정렬 없이 집계한다.
+CREATE INDEX idx_follows_following_follower
+    ON follows (following_id, follower_id);
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- V8: 트렌딩 참여 이벤트 tail 조회 인덱스
+-- ============================================================================
+--
+-- [참여 tail] FeedReactionRepository / ArchiveVibeRepository / FavoriteRepository.findEngagementsAfter
+--   WHERE (created_at, pk) > (?, ?) ORDER BY created_at, pk LIMIT n
+--   IDENTITY 값은 커밋 전에 정해지므로 PK 커서로는 늦게 커밋된 행을 놓친다.
+--   EngagementTailer가 created_at 기준으로 겹쳐 읽으므로 그 순서의 인덱스를 둔다.
+CREATE INDEX idx_feed_reactions_created
+    ON feed_reactions (created_at, reaction_id);
+
+CREATE INDEX idx_archive_vibes_created
+    ON archive_vibes (created_at, archive_id);
+
+CREATE INDEX idx_favorites_created
+    ON favorites (created_at, favorite_id);
@@ -3,6 +3,7 @@
 -- 생성일: 2026-02-23
 -- 총 44개 테이블 / 테이블당 15건 (items는 60건)
 -- FK 의존성 순서(Level 0 → 7 → 비MVP)로 배치
+-- Flyway 마이그레이션(db/migration) 적용 후 실행 — vibe_* 식별자 시퀀스(V4, V6), mood_keyword_ids BIGINT[](V5) 기준
 -- ============================================================
 BEGIN;
 -- ============================================================
@@ -3879,7 +3880,7 @@ INSERT INTO vibe_prompts (
 VALUES (
         1,
         1,
-        '[1, 3]',
+        '{1, 3}',
         11,
         3,
         2,
@@ -3890,7 +3891,7 @@ VALUES (
     (
         2,
         2,
-        '[2, 11]',
+        '{2, 11}',
         8,
         1,
         1,
@@ -3901,7 +3902,7 @@ VALUES (
     (
         3,
         3,
-        '[9, 4]',
+        '{9, 4}',
         3,
         13,
         3,
@@ -3912,7 +3913,7 @@ VALUES (
     (
         4,
         4,
-        '[5, 7]',
+        '{5, 7}',
         12,
         3,
         11,
@@ -3923,7 +3924,7 @@ VALUES (
     (
         5,
         5,
-        '[6, 14]',
+        '{6, 14}',
         9,
         1,
         4,
@@ -3934,7 +3935,7 @@ VALUES (
     (
         6,
         6,
-        '[13, 1]',
+        '{13, 1}',
         2,
         13,
         1,
@@ -3945,7 +3946,7 @@ VALUES (
     (
         7,
         7,
-        '[12, 8]',
+        '{12, 8}',
         13,
         2,
         12,
@@ -3956,7 +3957,7 @@ VALUES (
     (
         8,
         8,
-        '[1, 2]',
+        '{1, 2}',
         4,
         8,
         2,
@@ -3967,7 +3968,7 @@ VALUES (
     (
         9,
         9,
-        '[6, 9]',
+        '{6, 9}',
         10,
         1,
         10,
@@ -3978,7 +3979,7 @@ VALUES (
     (
         10,
         10,
-        '[15, 7]',
+        '{15, 7}',
         11,
         4,
         7,
@@ -3989,7 +3990,7 @@ VALUES (
     (
         11,
         11,
-        '[4, 14]',
+        '{4, 14}',
         2,
         1,
         5,
@@ -4000,7 +4001,7 @@ VALUES (
     (
         12,
         12,
-        '[10, 11]',
+        '{10, 11}',
         6,
         13,
         1,
@@ -4011,7 +4012,7 @@ VALUES (
     (
         13,
         13,
-        '[5, 8]',
+        '{5, 8}',
         12,
         3,
         11,
@@ -4022,7 +4023,7 @@ VALUES (
     (
         14,
         14,
-        '[11, 13]',
+        '{11, 13}',
         11,
         1,
         8,
@@ -4033,7 +4034,7 @@ VALUES (
     (
         15,
         15,
-        '[3, 15]',
+        '{3, 15}',
         15,
         2,
         1,
@@ -6865,7 +6866,7 @@ SELECT setval(
         true
     );
 SELECT setval(
-        'vibe_sessions_session_id_seq',
+        'vibe_sessions_seq',
         (
             SELECT MAX(session_id)
             FROM vibe_sessions
@@ -6897,7 +6898,7 @@ SELECT setval(
         true
     );
 SELECT setval(
-        'vibe_prompts_prompt_id_seq',
+        'vibe_prompts_seq',
         (
             SELECT MAX(prompt_id)
             FROM vibe_prompts
@@ -6913,7 +6914,7 @@ SELECT setval(
         true
     );
 SELECT setval(
-        'vibe_results_result_id_seq',
+        'vibe_results_seq',
         (
             SELECT MAX(result_id)
             FROM vibe_results
@@ -6921,7 +6922,7 @@ SELECT setval(
         true
     );
 SELECT setval(
-        'vibe_items_vibe_item_id_seq',
+        'vibe_items_seq',
         (
             SELECT MAX(vibe_item_id)
             FROM vibe_items
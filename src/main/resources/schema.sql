@@ -6,6 +6,9 @@
 -- 버전: v3.2 (v3.1 기반 수정)
 -- 작성일: 2025-02-12
 --
+-- ※ 실제 PostgreSQL 스키마는 db/migration의 Flyway 마이그레이션(V1__baseline_schema.sql~)이 기준이다.
+--   이 파일은 테이블/컬럼 설계 설명용 문서로 유지한다.
+--
 -- ============================================================================
 -- v3.1 → v3.2 변경사항 요약
 -- ===========================f=================================================
@@ -673,6 +676,7 @@ CREATE TABLE notifications (
 -- final_prompt는 선택 조합을 LLM에 전달할 텍스트로 조합한 결과.
 -- v3.2: mood_keyword_ids JSON 추가 (vibe_prompt_moods 테이블 대체).
 --       복수 무드 키워드 선택 지원 (예: [1, 3, 7]).
+--       PostgreSQL에서는 BIGINT[] + GIN 인덱스로 저장한다 (V5__vibe_prompts_mood_keyword_array.sql).
 -- v3.0: prompt_embedding 삭제 → Neo4j VibePrompt 노드에 저장.
 -- ----------------------------------------------------------------------------
 CREATE TABLE vibe_prompts (
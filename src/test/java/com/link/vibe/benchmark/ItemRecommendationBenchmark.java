@@ -0,0 +1,145 @@
+package com.link.vibe.benchmark;
+
+import com.link.vibe.domain.item.service.FeatureHasher;
+import com.link.vibe.domain.item.service.ItemVectorIndex;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 12만 아이템에서 카테고리별 top-k를 찾는 지연을 비교한다.
+ * <pre>
+ * objects    — 아이템마다 (id, 카테고리, float[]) 객체, 전체 점수를 스트림으로 정렬 (단순 구현)
+ * sequential — {@link ItemVectorIndex} 연속 float[] + primitive top-k 힙, 호출 스레드 하나
+ * parallel   — 같은 인덱스를 chunk로 나눠 코어 수만큼 동시에 스캔 (ItemRecommender 기본 설정)
+ * </pre>
+ * 실행: ./gradlew benchmark --tests '*ItemRecommendationBenchmark'
+ */
+@Tag("benchmark")
+class ItemRecommendationBenchmark {
+
+    private static final int DIMENSION = 128;
+    private static final List<String> CATEGORIES = List.of("coffee", "lighting", "movie", "music");
+    private static final int ITEMS_PER_CATEGORY = 30_000;
+    private static final int PER_CATEGORY = 3;
+    private static final int CHUNK_SIZE = 16_384;
+    private static final int QUERIES = 200;
+    private static final int WARMUP = 200;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String[] VOCABULARY = ("포근한 나른한 설레는 잔잔한 몽글몽글 쓸쓸한 경쾌한 차분한 따뜻한 시원한 " +
+            "비 눈 맑은 흐린 바람 새벽 아침 오후 저녁 밤 카페 집 공원 바다 도서관 혼자 친구 연인 가족 " +
+            "로맨스 드라마 코미디 스릴러 재즈 어쿠스틱 시티팝 로파이 카라멜 초콜릿 시트러스 플로럴 웜화이트 주광색 무드등").split(" ");
+
+    private static ExecutorService pool;
+    private static ItemVectorIndex index;
+    private static List<ItemRow> rows;
+    private static List<float[]> queries;
+
+    @BeforeAll
+    static void build() {
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        Random random = new Random(7);
+        ItemVectorIndex.Builder builder = ItemVectorIndex.builder(DIMENSION);
+        rows = new ArrayList<>();
+        long itemId = 1;
+        for (String category : CATEGORIES) {
+            for (int i = 0; i < ITEMS_PER_CATEGORY; i++, itemId++) {
+                float[] vector = FeatureHasher.embed(category + " " + words(random, 12), DIMENSION);
+                builder.add(itemId, category, vector);
+                rows.add(new ItemRow(itemId, category, vector));
+            }
+        }
+        index = builder.build();
+        queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(FeatureHasher.embed(words(random, 6), DIMENSION));
+        }
+        System.out.printf("[index] items=%,d, dimension=%d, vectors=%,d B%n",
+                index.size(), DIMENSION, (long) index.size() * DIMENSION * Float.BYTES);
+    }
+
+    @AfterAll
+    static void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("카테고리별 top-k — 객체 목록 정렬 vs 연속 배열 순차 스캔 vs 병렬 스캔")
+    void topKPerCategory() throws Exception {
+        Result objects = measure(ItemRecommendationBenchmark::objectsTopK);
+        Result sequential = measure(query -> ids(index.search(query, PER_CATEGORY, null, Integer.MAX_VALUE, TIMEOUT)));
+        Result parallel = measure(query -> ids(index.search(query, PER_CATEGORY, pool, CHUNK_SIZE, TIMEOUT)));
+
+        print("objects", objects);
+        print("sequential", sequential);
+        print("parallel(" + Runtime.getRuntime().availableProcessors() + ")", parallel);
+        for (float[] query : queries.subList(0, 20)) {
+            List<Long> expected = ids(index.search(query, PER_CATEGORY, null, Integer.MAX_VALUE, TIMEOUT));
+            assertThat(ids(index.search(query, PER_CATEGORY, pool, CHUNK_SIZE, TIMEOUT))).isEqualTo(expected);
+            assertThat(objectsTopK(query)).hasSameSizeAs(expected);
+        }
+    }
+
+    private static List<Long> objectsTopK(float[] query) {
+        Map<String, List<Scored>> byCategory = rows.stream()
+                .map(row -> new Scored(row, FeatureHasher.dot(query, row.vector())))
+                .collect(Collectors.groupingBy(scored -> scored.row().category(), LinkedHashMap::new, Collectors.toList()));
+        List<Long> ids = new ArrayList<>();
+        byCategory.values().forEach(scored -> scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed())
+                .limit(PER_CATEGORY)
+                .forEach(s -> ids.add(s.row().itemId())));
+        return ids;
+    }
+
+    private static Result measure(Search search) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            search.run(queries.get(i % QUERIES));
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            search.run(queries.get(i));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return new Result(Duration.ofNanos(nanos[QUERIES / 2]), Duration.ofNanos(nanos[QUERIES * 99 / 100]));
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("[%s] p50=%dµs, p99=%dµs%n", name, result.p50().toNanos() / 1_000, result.p99().toNanos() / 1_000);
+    }
+
+    private static List<Long> ids(List<ItemVectorIndex.Match> matches) {
+        return matches.stream().map(ItemVectorIndex.Match::itemId).toList();
+    }
+
+    private static String words(Random random, int count) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < count; i++) {
+            joiner.add(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+        return joiner.toString();
+    }
+
+    @FunctionalInterface
+    private interface Search {
+        List<Long> run(float[] query) throws Exception;
+    }
+
+    private record ItemRow(long itemId, String category, float[] vector) {}
+
+    private record Scored(ItemRow row, float score) {}
+
+    private record Result(Duration p50, Duration p99) {}
+}
@@ -0,0 +1,110 @@
+package com.link.vibe.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.vibe.config.OpenAiConfig;
+import com.link.vibe.domain.vibe.service.AdaptiveConcurrencyLimiter;
+import com.link.vibe.domain.vibe.service.OpenAiService;
+import com.link.vibe.global.exception.BusinessException;
+import com.link.vibe.global.stub.LatencyProfile;
+import com.link.vibe.global.stub.OpenAiStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OpenAI 대역 서버(로그정규 지연 + 오류율)를 상대로 OpenAiService 전체 경로(AIMD 리미터, 헤지, 커넥션 풀)를 돌려
+ * 처리량·지연 분포·거절/폴백 건수를 출력한다. 풀 크기와 타임아웃 조정 효과를 오프라인에서 비교하는 용도.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*OpenAiPipelineBenchmark'
+ */
+@Tag("benchmark")
+class OpenAiPipelineBenchmark {
+
+    private static final int REQUESTS = 3_000;
+    private static final int CLIENTS = 300;
+    private static final LatencyProfile LATENCY =
+            LatencyProfile.of("lognormal", Duration.ofMillis(400), 0.6, Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("로그정규 지연 + 1% 오류 — 처리량과 꼬리 지연")
+    void pipeline() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (OpenAiStubServer stub = OpenAiStubServer.start(0,
+                OpenAiStubServer.Settings.of(LATENCY).withErrors(0.01, 500));
+             CloseableHttpClient httpClient = new OpenAiConfig().openAiHttpClient(meterRegistry,
+                     Duration.ofSeconds(10), Duration.ofSeconds(30), 200, 100,
+                     Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(5))) {
+
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100, Duration.ofSeconds(3), 0.9,
+                    0.95, 50, Duration.ofMillis(500), 1000, meterRegistry);
+            OpenAiService openAiService = new OpenAiService(
+                    new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient)), new ObjectMapper(),
+                    limiter, virtualExecutor(), true, meterRegistry);
+            ReflectionTestUtils.setField(openAiService, "apiUrl", stub.url());
+            ReflectionTestUtils.setField(openAiService, "apiKey", "stub-key");
+            ReflectionTestUtils.setField(openAiService, "model", "gpt-4o-mini");
+            ReflectionTestUtils.setField(openAiService, "maxTokens", 500);
+            ReflectionTestUtils.setField(openAiService, "temperature", 0.8);
+
+            long[] latencies = new long[REQUESTS];
+            AtomicInteger index = new AtomicInteger();
+            AtomicInteger fallbacks = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+
+            long start = System.nanoTime();
+            try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS, Thread.ofVirtual().factory())) {
+                for (int i = 0; i < REQUESTS; i++) {
+                    clients.submit(() -> {
+                        long begin = System.nanoTime();
+                        try {
+                            if (openAiService.generateVibe(List.of("calm"), "morning", "sunny", "cafe", "alone", "ko").fallback()) {
+                                fallbacks.incrementAndGet();
+                            }
+                        } catch (BusinessException e) {
+                            rejected.incrementAndGet();
+                        }
+                        latencies[index.getAndIncrement()] = System.nanoTime() - begin;
+                    });
+                }
+            }
+            long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            Arrays.sort(latencies);
+            System.out.printf("[pipeline] requests=%d, clients=%d, elapsed=%dms, throughput=%.1f req/s, " +
+                            "p50=%dms, p95=%dms, p99=%dms, max=%dms, fallbacks=%d, rejected=%d, upstream calls=%d, " +
+                            "hedges=%.0f, final limit=%d%n",
+                    REQUESTS, CLIENTS, elapsedMs, REQUESTS * 1000.0 / elapsedMs,
+                    percentileMs(latencies, 0.50), percentileMs(latencies, 0.95), percentileMs(latencies, 0.99),
+                    percentileMs(latencies, 1.0), fallbacks.get(), rejected.get(), stub.requests(),
+                    meterRegistry.get("openai.hedge.requests").counter().count(), limiter.limit());
+
+            assertThat(fallbacks.get() + rejected.get()).isLessThan(REQUESTS);
+        }
+    }
+
+    private static SimpleAsyncTaskExecutor virtualExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("openai-call-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    private static long percentileMs(long[] sorted, double percentile) {
+        int i = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return Duration.ofNanos(sorted[Math.max(0, i)]).toMillis();
+    }
+}
@@ -0,0 +1,132 @@
+package com.link.vibe.benchmark;
+
+import com.link.vibe.domain.vibe.dto.VibeHistoryResponse;
+import com.link.vibe.domain.vibe.dto.VibeResultResponse;
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import com.link.vibe.domain.vibe.entity.VibePrompt;
+import com.link.vibe.domain.vibe.entity.VibeResult;
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 히스토리/상세 조회에서 엔티티 조회 후 DTO 변환과 생성자 projection의 지연·할당량을 비교한다 (H2).
+ * 엔티티 방식은 요청마다 영속성 컨텍스트를 비우는 실제 요청 흐름을 흉내 내기 위해 매 반복 clear() 한다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*VibeHistoryReadBenchmark'
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+class VibeHistoryReadBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int ROWS = 2_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+    private static final String LONG_ANALYSIS = "분석 ".repeat(400);
+
+    @Autowired
+    private VibeHistoryRepository vibeHistoryRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        vibeHistoryRepository.saveAll(IntStream.rangeClosed(1, ROWS).mapToObj(this::history).toList());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("히스토리 한 페이지 — 엔티티 조회 + 변환 vs 생성자 projection")
+    void historyPage() {
+        Result entity = measure(() -> entityManager.createQuery(
+                        "SELECT h FROM VibeHistory h WHERE h.userId = :userId " +
+                                "ORDER BY h.createdAt DESC, h.sessionId DESC", VibeHistory.class)
+                .setParameter("userId", USER_ID)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList().stream()
+                .map(h -> new VibeHistoryResponse(h.getSessionId(), h.getPhrase(), h.getMoodValues(), h.getTimeKey(),
+                        h.getWeatherKey(), h.getPlaceKey(), h.getCompanionKey(), h.getCreatedAt()))
+                .toList());
+        Result projection = measure(() -> vibeHistoryRepository.findFirstPage(USER_ID, Limit.of(PAGE_SIZE + 1)));
+
+        print("history/entity", entity);
+        print("history/projection", projection);
+        assertThat(projection.rows()).isEqualTo(entity.rows()).isEqualTo(PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("상세 — findById + 변환 vs 생성자 projection")
+    void detail() {
+        Result entity = measure(() -> vibeHistoryRepository.findById((long) ROWS / 2)
+                .map(h -> new VibeResultResponse(h.getSessionId(), h.getPhrase(), h.getAiAnalysis(), h.getMoodValues(),
+                        h.getTimeKey(), h.getWeatherKey(), h.getPlaceKey(), h.getCompanionKey(),
+                        h.getProcessingTimeMs(), h.getCreatedAt()))
+                .stream().toList());
+        Result projection = measure(() -> vibeHistoryRepository.findDetail((long) ROWS / 2).stream().toList());
+
+        print("detail/entity", entity);
+        print("detail/projection", projection);
+        assertThat(projection.rows()).isEqualTo(entity.rows()).isEqualTo(1);
+    }
+
+    private Result measure(Supplier<List<?>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = query.get().size();
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(rows, Duration.ofNanos(elapsed / ITERATIONS), allocated / ITERATIONS);
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("[%s] rows=%d, avg=%dµs, allocated=%,d B/op%n",
+                name, result.rows(), result.perOp().toNanos() / 1_000, result.bytesPerOp());
+    }
+
+    private VibeHistory history(int i) {
+        VibeSession session = VibeSession.builder().userId(USER_ID).build();
+        ReflectionTestUtils.setField(session, "sessionId", (long) i);
+        ReflectionTestUtils.setField(session, "createdAt", LocalDateTime.now().minusMinutes(i));
+        VibePrompt prompt = VibePrompt.builder().vibeSession(session).moodKeywordIds(List.of(1L, 3L)).build();
+        VibeResult result = VibeResult.builder()
+                .vibeSession(session)
+                .phrase("비 오는 오후, 따뜻한 코코아 한 잔의 여유 " + i)
+                .aiAnalysis(LONG_ANALYSIS)
+                .processingTimeMs(1200)
+                .build();
+        return VibeHistory.of(session, prompt, result, List.of("languid", "dreamy"));
+    }
+
+    private record Result(int rows, Duration perOp, long bytesPerOp) {}
+}
@@ -0,0 +1,183 @@
+package com.link.vibe.benchmark;
+
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import com.link.vibe.domain.vibe.entity.VibePrompt;
+import com.link.vibe.domain.vibe.entity.VibeResult;
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
+import com.link.vibe.domain.vibe.repository.VibePromptRepository;
+import com.link.vibe.domain.vibe.repository.VibeResultRepository;
+import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
+import com.link.vibe.domain.vibe.service.VibeSessionWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vibe 쓰기 경로의 처리량과 vibe당 JDBC 문 수 (H2, hibernate.jdbc.batch_size=50).
+ * <ul>
+ *   <li>vibe 1건 — open() + complete(). 이전 방식(세션 조회 후 dirty checking UPDATE)과 비교</li>
+ *   <li>여러 vibe를 한 트랜잭션에 — 세션 단위 batch size 1(IDENTITY와 같은 문 수)과 50 비교</li>
+ * </ul>
+ * JDBC 문 수는 Hibernate 통계의 prepared statement 수로, 배치 하나가 한 번으로 센다.
+ * H2는 메모리 DB라 왕복 비용이 거의 없으므로 실제 PostgreSQL에서는 문 수 차이가 지연 차이로 더 크게 나타난다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*VibeWriteBenchmark'
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(VibeSessionWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VibeWriteBenchmark {
+
+    private static final int WARMUP = 1_000;
+    private static final int VIBES = 5_000;
+    private static final int VIBES_PER_TRANSACTION = 200;
+
+    @Autowired
+    private VibeSessionWriter vibeSessionWriter;
+    @Autowired
+    private VibeSessionRepository vibeSessionRepository;
+    @Autowired
+    private VibePromptRepository vibePromptRepository;
+    @Autowired
+    private VibeResultRepository vibeResultRepository;
+    @Autowired
+    private VibeHistoryRepository vibeHistoryRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("vibe 1건 쓰기 — 조회 + dirty checking vs 조건부 UPDATE")
+    void singleVibe() {
+        Result legacy = measure(i -> {
+            VibeSession session = vibeSessionWriter.open(1L);
+            transaction.executeWithoutResult(status -> {
+                VibeSession managed = vibeSessionRepository.findById(session.getSessionId()).orElseThrow();
+                VibePrompt prompt = vibePromptRepository.save(prompt(session));
+                VibeResult result = vibeResultRepository.save(result(session, i));
+                vibeHistoryRepository.save(VibeHistory.of(session, prompt, result, List.of("languid")));
+                managed.complete();
+            });
+        }, VIBES);
+        Result current = measure(i -> {
+            VibeSession session = vibeSessionWriter.open(1L);
+            vibeSessionWriter.complete(session, prompt(session), result(session, i), List.of("languid"));
+        }, VIBES);
+
+        print("single/select+dirty-update", legacy);
+        print("single/conditional-update", current);
+        assertThat(current.statementsPerVibe()).isLessThan(legacy.statementsPerVibe());
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에 여러 vibe — batch size 1 vs 50")
+    void manyVibesPerTransaction() {
+        Result unbatched = measure(i -> writeMany(1), VIBES / VIBES_PER_TRANSACTION);
+        Result batched = measure(i -> writeMany(null), VIBES / VIBES_PER_TRANSACTION);
+
+        print("bulk/batch-size-1", unbatched.per(VIBES_PER_TRANSACTION));
+        print("bulk/batch-size-50", batched.per(VIBES_PER_TRANSACTION));
+        assertThat(batched.statementsPerVibe()).isLessThan(unbatched.statementsPerVibe());
+    }
+
+    /**
+     * @param batchSize 이 트랜잭션의 JDBC batch size. null이면 설정값(50)
+     */
+    private void writeMany(Integer batchSize) {
+        transaction.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<VibeSession> sessions = new ArrayList<>(VIBES_PER_TRANSACTION);
+            for (int i = 0; i < VIBES_PER_TRANSACTION; i++) {
+                VibeSession session = VibeSession.builder().userId(1L).build();
+                entityManager.persist(session);
+                sessions.add(session);
+            }
+            for (int i = 0; i < sessions.size(); i++) {
+                VibeSession session = sessions.get(i);
+                entityManager.persist(prompt(session));
+                entityManager.persist(result(session, i));
+                session.complete();
+            }
+        });
+    }
+
+    private Result measure(IntConsumer write, int operations) {
+        for (int i = 0; i < Math.min(WARMUP, operations); i++) {
+            write.accept(i);
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            write.accept(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(operations, Duration.ofNanos(elapsed), statistics.getPrepareStatementCount());
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("[%s] vibes=%d, avg=%dµs/vibe, throughput=%,.0f vibes/s, statements=%.2f/vibe%n",
+                name, result.vibes(), result.elapsed().toNanos() / result.vibes() / 1_000,
+                result.vibes() / (result.elapsed().toNanos() / 1e9), result.statementsPerVibe());
+    }
+
+    private static VibePrompt prompt(VibeSession session) {
+        return VibePrompt.builder().vibeSession(session).moodKeywordIds(List.of(1L, 3L)).build();
+    }
+
+    private static VibeResult result(VibeSession session, int i) {
+        return VibeResult.builder()
+                .vibeSession(session)
+                .phrase("비 오는 오후, 따뜻한 코코아 한 잔의 여유 " + i)
+                .aiAnalysis("분석")
+                .processingTimeMs(1200)
+                .build();
+    }
+
+    private record Result(int vibes, Duration elapsed, long statements) {
+        double statementsPerVibe() {
+            return (double) statements / vibes;
+        }
+
+        Result per(int vibesPerOperation) {
+            return new Result(vibes * vibesPerOperation, elapsed, statements);
+        }
+    }
+}
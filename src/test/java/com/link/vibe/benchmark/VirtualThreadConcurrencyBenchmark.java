@@ -0,0 +1,208 @@
+package com.link.vibe.benchmark;
+
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.global.stub.LatencyProfile;
+import com.link.vibe.global.stub.OpenAiStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드를 켠 애플리케이션 전체를 띄우고, 느린 OpenAI 대역 서버를 상대로 실제 HTTP 경로에 동시 요청을 보낸다.
+ * 동기 생성은 Tomcat 요청 스레드 → OpenAiService 블로킹 호출, 비동기 생성은 Tomcat → vibeGenerationExecutor
+ * (vibe.async.virtual-concurrency-limit) → 스트리밍 호출을 그대로 거친다.
+ * <p>
+ * 스레드 모델만 비교하도록 결과 캐시·single-flight·헤지는 끄고 AIMD 리미터와 커넥션 풀은 요청 수보다 크게 잡는다.
+ * 플랫폼 스레드였다면 동기 경로는 Tomcat 기본 200 스레드, 비동기 경로는 core/max 풀 + 대기열(32 + 200)에 묶인다.
+ * <p>
+ * 실행: ./gradlew benchmark --tests '*VirtualThreadConcurrencyBenchmark'
+ * (-Djdk.tracePinnedThreads=short 로 실행되므로 pinning 발생 시 스택이 출력된다)
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "vibe.async.virtual-concurrency-limit=" + VirtualThreadConcurrencyBenchmark.ASYNC_LIMIT,
+                "vibe.cache.variants-per-key=" + Integer.MAX_VALUE,
+                "vibe.single-flight.max-waiters=0",
+                "openai.hedge.enabled=false",
+                "openai.limiter.initial-limit=5000",
+                "openai.limiter.max-limit=5000",
+                "openai.http.max-connections=5000",
+                "openai.http.max-connections-per-route=5000"
+        })
+class VirtualThreadConcurrencyBenchmark {
+
+    static final int ASYNC_LIMIT = 1_000;
+
+    private static final int REQUESTS = 2_000;
+    private static final int WARMUP_REQUESTS = 50;
+    private static final int PLATFORM_TOMCAT_THREADS = 200;
+    private static final int PLATFORM_ASYNC_CAPACITY = 32 + 200;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(500);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(2);
+    private static final String REQUEST_BODY =
+            "{\"moodKeywordIds\":[1],\"timeId\":1,\"weatherId\":1,\"placeId\":1,\"companionId\":1}";
+
+    private static final OpenAiStubServer upstream =
+            OpenAiStubServer.start(0, OpenAiStubServer.Settings.of(LatencyProfile.fixed(UPSTREAM_LATENCY)));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OptionCatalog optionCatalog;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @DynamicPropertySource
+    static void upstreamUrl(DynamicPropertyRegistry registry) {
+        registry.add("openai.api-url", upstream::url);
+    }
+
+    @BeforeAll
+    void seedOptions() {
+        jdbcTemplate.update("INSERT INTO mood_keywords (keyword_id, keyword_value, category) VALUES (1, 'calm', '감정')");
+        jdbcTemplate.update("INSERT INTO time_options (time_id, time_key, time_value, period, is_active) " +
+                "VALUES (1, 'afternoon', '14:00:00', 'PM', TRUE)");
+        jdbcTemplate.update("INSERT INTO weather_options (weather_id, weather_key, is_active) VALUES (1, 'sunny', TRUE)");
+        jdbcTemplate.update("INSERT INTO place_options (place_id, place_key, is_active) VALUES (1, 'cafe', TRUE)");
+        jdbcTemplate.update("INSERT INTO companion_options (companion_id, companion_key, is_active) VALUES (1, 'alone', TRUE)");
+        optionCatalog.reload();
+
+        run("/api/v1/vibes", WARMUP_REQUESTS);
+    }
+
+    @AfterAll
+    void stopUpstream() {
+        client.close();
+        upstream.close();
+    }
+
+    @Test
+    @DisplayName("동기 생성 — Tomcat 가상 스레드에서 플랫폼 스레드 수(200)보다 많은 요청이 동시에 upstream을 기다림")
+    void blockingCreate() {
+        long upstreamBefore = upstream.requests();
+
+        Result result = run("/api/v1/vibes", REQUESTS);
+        print("POST /api/v1/vibes", result, upstream.requests() - upstreamBefore);
+
+        // 플랫폼 스레드 200개였다면 요청을 200개씩 차례로 처리하므로 적어도 이만큼 걸린다
+        long platformLowerBoundMs = (long) Math.ceil((double) REQUESTS / PLATFORM_TOMCAT_THREADS) * UPSTREAM_LATENCY.toMillis();
+        assertThat(result.failures()).isZero();
+        assertThat(result.elapsedMs()).isLessThan(platformLowerBoundMs);
+    }
+
+    @Test
+    @DisplayName("비동기 생성 — vibeGenerationExecutor가 플랫폼 풀 용량(32 + 대기열 200)보다 많이 받고 상한을 넘으면 503")
+    void asyncCreate() throws InterruptedException {
+        long upstreamBefore = upstream.requests();
+        long terminalBefore = terminalSessions();
+
+        Result result = run("/api/v1/vibes/async", REQUESTS);
+        // 거절된 요청의 세션도 바로 CANCELLED로 닫힌다
+        long expectedTerminal = result.accepted() + result.rejected();
+        long drainStart = System.nanoTime();
+        long deadline = drainStart + DRAIN_TIMEOUT.toNanos();
+        while (terminalSessions() - terminalBefore < expectedTerminal && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        long drainMs = Duration.ofNanos(System.nanoTime() - drainStart).toMillis();
+
+        print("POST /api/v1/vibes/async", result, upstream.requests() - upstreamBefore);
+        System.out.printf("[async] accepted=%d, rejected(503)=%d, limit=%d, drained after %dms%n",
+                result.accepted(), result.rejected(), ASYNC_LIMIT, drainMs);
+
+        assertThat(result.failures()).isZero();
+        assertThat(result.accepted()).isGreaterThan(PLATFORM_ASYNC_CAPACITY);
+        assertThat(terminalSessions() - terminalBefore).isEqualTo(expectedTerminal);
+    }
+
+    private long terminalSessions() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vibe_sessions WHERE status IN ('COMPLETED', 'CANCELLED')", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private Result run(String path, int requests) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(1))
+                .POST(HttpRequest.BodyPublishers.ofString(REQUEST_BODY))
+                .build();
+        long[] latencies = new long[requests];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                clients.submit(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 200 || status == 202) {
+                            accepted.incrementAndGet();
+                        } else if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[index.getAndIncrement()] = System.nanoTime() - begin;
+                });
+            }
+        }
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        Arrays.sort(latencies);
+        return new Result(accepted.get(), rejected.get(), failures.get(), elapsedMs, latencies);
+    }
+
+    private void print(String label, Result result, long upstreamCalls) {
+        System.out.printf("[%s] requests=%d, upstream latency=%dms, elapsed=%dms, throughput=%.1f req/s, " +
+                        "p50=%dms, p99=%dms, max=%dms, upstream calls=%d, failures=%d%n",
+                label, REQUESTS, UPSTREAM_LATENCY.toMillis(), result.elapsedMs(),
+                REQUESTS * 1000.0 / result.elapsedMs(), result.percentileMs(0.50), result.percentileMs(0.99),
+                result.percentileMs(1.0), upstreamCalls, result.failures());
+    }
+
+    private record Result(int accepted, int rejected, int failures, long elapsedMs, long[] sortedLatencies) {
+
+        long percentileMs(double percentile) {
+            int i = (int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1);
+            return Duration.ofNanos(sortedLatencies[Math.max(0, i)]).toMillis();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.link.vibe.domain.feed.service;
+
+import com.link.vibe.domain.feed.dto.FeedResponse;
+import com.link.vibe.domain.feed.dto.FeedTimelineResponse;
+import com.link.vibe.domain.feed.entity.Feed;
+import com.link.vibe.domain.feed.repository.FeedRepository;
+import com.link.vibe.domain.trend.service.FeedViewedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    private static final Long VIEWER = 1L;
+    private static final Long FRIEND = 2L;
+
+    @Mock
+    private FeedWriter feedWriter;
+    @Mock
+    private FeedTimelines feedTimelines;
+    @Mock
+    private FeedRepository feedRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        feedService = new FeedService(feedWriter, feedTimelines, feedRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("타임라인 페이지는 보이는 피드만 담고, 남의 피드마다 조회 이벤트를 발행")
+    void getTimeline_hydratesVisibleFeedsAndPublishesViews() {
+        // given — 13: 친구 공개, 12: 친구 삭제, 11: 본인 비공개, 10: 다음 페이지 확인용
+        given(feedTimelines.page(VIEWER, Long.MAX_VALUE, 4)).willReturn(List.of(13L, 12L, 11L, 10L));
+        Feed deleted = feed(12L, FRIEND, 112L, true);
+        setField(deleted, "deletedAt", LocalDateTime.now());
+        given(feedRepository.findByFeedIdIn(List.of(13L, 12L, 11L))).willReturn(List.of(
+                feed(11L, VIEWER, 111L, false), deleted, feed(13L, FRIEND, 113L, true)));
+
+        // when
+        FeedTimelineResponse page = feedService.getTimeline(VIEWER, null, 3);
+
+        // then
+        assertThat(page.items()).extracting(FeedResponse::feedId).containsExactly(13L, 11L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(FeedCursor.decode(page.nextCursor()).feedId()).isEqualTo(11L);
+        then(eventPublisher).should().publishEvent(new FeedViewedEvent(113L));
+        then(eventPublisher).should(times(1)).publishEvent(any(Object.class));
+    }
+
+    private static Feed feed(Long feedId, Long userId, Long resultId, boolean isPublic) {
+        Feed feed = Feed.builder().userId(userId).resultId(resultId).isPublic(isPublic).build();
+        setField(feed, "feedId", feedId);
+        return feed;
+    }
+}
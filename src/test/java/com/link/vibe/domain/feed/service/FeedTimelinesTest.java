@@ -0,0 +1,127 @@
+package com.link.vibe.domain.feed.service;
+
+import com.link.vibe.domain.feed.repository.FeedRepository;
+import com.link.vibe.domain.feed.repository.FollowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class FeedTimelinesTest {
+
+    private static final int CAPACITY = 3;
+    private static final Long VIEWER = 1L;
+    private static final Long FRIEND = 2L;
+    private static final Long CELEBRITY = 9L;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    private FeedTimelines feedTimelines;
+
+    @BeforeEach
+    void setUp() {
+        feedTimelines = new FeedTimelines(feedRepository, followRepository,
+                CAPACITY, 100, Duration.ofMinutes(30), 1000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시 미스면 DB에서 재구성하고, 이후 팔로잉의 공개 피드는 팬아웃으로 들어온다")
+    void page_rebuildsOnMissThenReceivesFanOut() {
+        // given
+        given(followRepository.findFollowingIds(VIEWER)).willReturn(List.of(FRIEND));
+        given(feedRepository.findVisibleFeedIds(VIEWER, List.of(VIEWER, FRIEND), Long.MAX_VALUE, Limit.of(CAPACITY)))
+                .willReturn(List.of(12L, 11L));
+        assertThat(feedTimelines.page(VIEWER, Long.MAX_VALUE, 10)).containsExactly(12L, 11L);
+
+        given(followRepository.findFollowerIds(FRIEND)).willReturn(List.of(VIEWER, 5L));
+
+        // when
+        feedTimelines.onPublished(FRIEND, 13L, true);
+        feedTimelines.onPublished(FRIEND, 14L, false);
+
+        // then — 비공개 피드는 팔로워에게 가지 않고, 재구성은 한 번뿐
+        assertThat(feedTimelines.page(VIEWER, Long.MAX_VALUE, 10)).containsExactly(13L, 12L, 11L);
+        then(followRepository).should(times(1)).findFollowingIds(VIEWER);
+        then(followRepository).should(times(1)).findFollowerIds(FRIEND);
+    }
+
+    @Test
+    @DisplayName("재구성 쿼리 도중 팬아웃된 피드도 재구성 후 버퍼에 들어간다")
+    void page_keepsFanOutArrivingDuringRebuild() {
+        // given — 재구성 쿼리가 읽은 뒤 커밋된 피드 13이 쿼리 실행 중에 팬아웃된다
+        given(followRepository.findFollowingIds(VIEWER)).willReturn(List.of(FRIEND));
+        given(followRepository.findFollowerIds(FRIEND)).willReturn(List.of(VIEWER));
+        given(feedRepository.findVisibleFeedIds(VIEWER, List.of(VIEWER, FRIEND), Long.MAX_VALUE, Limit.of(CAPACITY)))
+                .willAnswer(invocation -> {
+                    feedTimelines.onPublished(FRIEND, 13L, true);
+                    return List.of(12L, 11L);
+                });
+
+        // when
+        List<Long> page = feedTimelines.page(VIEWER, Long.MAX_VALUE, 10);
+
+        // then
+        assertThat(page).containsExactly(13L, 12L, 11L);
+        assertThat(feedTimelines.page(VIEWER, Long.MAX_VALUE, 10)).containsExactly(13L, 12L, 11L);
+        then(followRepository).should(times(1)).findFollowingIds(VIEWER);
+    }
+
+    @Test
+    @DisplayName("팔로워 많은 계정은 팬아웃하지 않고 읽을 때 병합한다")
+    void page_mergesCelebrityFeedsOnRead() {
+        // given
+        given(followRepository.findAccountsWithFollowersAtLeast(1000)).willReturn(List.of(CELEBRITY));
+        feedTimelines.refreshCelebrities();
+        given(followRepository.findFollowingIds(VIEWER)).willReturn(List.of(FRIEND, CELEBRITY));
+        given(feedRepository.findVisibleFeedIds(VIEWER, List.of(VIEWER, FRIEND), Long.MAX_VALUE, Limit.of(CAPACITY)))
+                .willReturn(List.of(20L, 10L));
+        given(feedRepository.findVisibleFeedIds(VIEWER, List.of(CELEBRITY), 20L, Limit.of(2)))
+                .willReturn(List.of(15L, 12L));
+
+        // when
+        feedTimelines.onPublished(CELEBRITY, 30L, true);
+        List<Long> page = feedTimelines.page(VIEWER, 20L, 2);
+
+        // then
+        assertThat(page).containsExactly(15L, 12L);
+        then(followRepository).should(never()).findFollowerIds(any());
+    }
+
+    @Test
+    @DisplayName("버퍼가 담지 못한 오래된 구간은 DB에서 이어 읽는다")
+    void page_readsOlderThanHorizonFromDatabase() {
+        // given
+        given(followRepository.findFollowingIds(VIEWER)).willReturn(List.of());
+        given(feedRepository.findVisibleFeedIds(VIEWER, List.of(VIEWER), Long.MAX_VALUE, Limit.of(CAPACITY)))
+                .willReturn(List.of(30L, 20L, 10L));
+        given(feedRepository.findVisibleFeedIds(VIEWER, List.of(VIEWER), 10L, Limit.of(1)))
+                .willReturn(List.of(5L));
+
+        // when
+        List<Long> page = feedTimelines.page(VIEWER, 25L, 3);
+
+        // then
+        assertThat(page).containsExactly(20L, 10L, 5L);
+        then(feedRepository).should(times(2)).findVisibleFeedIds(any(), any(), anyLong(), any());
+    }
+}
@@ -0,0 +1,64 @@
+package com.link.vibe.domain.feed.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineBufferTest {
+
+    @Test
+    @DisplayName("도착 순서와 관계없이 커서 이전 ID를 최신순으로 돌려준다")
+    void page_returnsNewestFirstBeforeCursor() {
+        // given
+        TimelineBuffer buffer = new TimelineBuffer(10, List.of(5L, 3L, 1L), false);
+        buffer.add(7L);
+        buffer.add(6L);
+        buffer.add(7L);
+
+        // when
+        TimelineBuffer.Page first = buffer.page(Long.MAX_VALUE, 3);
+        TimelineBuffer.Page next = buffer.page(5L, 3);
+
+        // then
+        assertThat(first.ids()).containsExactly(7L, 6L, 5L);
+        assertThat(next.ids()).containsExactly(3L, 1L);
+        assertThat(next.complete()).isTrue();
+        assertThat(buffer.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 먼저 들어온 ID를 밀어내고 그 아래는 보장하지 않는다")
+    void add_evictsOldestAndRaisesHorizon() {
+        // given
+        TimelineBuffer buffer = new TimelineBuffer(3, List.of(30L, 20L, 10L), false);
+
+        // when
+        buffer.add(40L);
+
+        // then
+        TimelineBuffer.Page page = buffer.page(Long.MAX_VALUE, 10);
+        assertThat(page.ids()).containsExactly(40L, 30L, 20L);
+        assertThat(page.complete()).isFalse();
+        assertThat(page.horizon()).isEqualTo(11L);
+        buffer.add(5L);
+        assertThat(buffer.page(Long.MAX_VALUE, 10).ids()).containsExactly(40L, 30L, 20L);
+    }
+
+    @Test
+    @DisplayName("재구성 결과가 잘렸으면 가장 오래된 ID까지만 보장하고, 삭제된 ID는 빠진다")
+    void truncatedRebuild_andRemove() {
+        // given
+        TimelineBuffer buffer = new TimelineBuffer(3, List.of(30L, 20L, 10L), true);
+
+        // when
+        buffer.remove(20L);
+
+        // then
+        TimelineBuffer.Page page = buffer.page(Long.MAX_VALUE, 10);
+        assertThat(page.ids()).containsExactly(30L, 10L);
+        assertThat(page.horizon()).isEqualTo(10L);
+    }
+}
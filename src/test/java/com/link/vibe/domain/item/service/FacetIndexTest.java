@@ -0,0 +1,103 @@
+package com.link.vibe.domain.item.service;
+
+import com.link.vibe.domain.item.service.FacetIndex.Facet;
+import com.link.vibe.domain.item.service.FacetIndex.Kind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FacetIndexTest {
+
+    private static final List<Facet> FACETS = List.of(
+            new Facet("intensity", Kind.SMALL_INT),
+            new Facet("roastLevel", Kind.ENUM),
+            new Facet("decaf", Kind.ENUM),
+            new Facet("price", Kind.SORTED));
+
+    private final FacetIndex index = FacetIndex.empty(FACETS).apply(List.of(
+            coffee(1L, true, 4, "라이트", false, 700),
+            coffee(2L, true, 8, "미디엄", false, 800),
+            coffee(3L, true, 11, "다크", false, 900),
+            coffee(4L, true, 6, "미디엄", true, 850),
+            coffee(5L, false, 8, "미디엄", false, 800)));
+
+    @Test
+    @DisplayName("속성 안에서는 OR, 속성끼리는 AND로 거르고 비활성 아이템은 제외")
+    void search_filtersWithBitwiseOps() {
+        // when
+        FacetIndex.Result result = index.search(Map.of(
+                "roastLevel", new FacetIndex.AnyOf(Set.of("미디엄", "다크")),
+                "intensity", new FacetIndex.Between(7, null),
+                "price", new FacetIndex.Between(800, 900)), 10);
+
+        // then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.itemIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("속성별 건수는 자기 조건을 뺀 나머지 조건으로 센다")
+    void search_facetCountsExcludeOwnCondition() {
+        // when
+        FacetIndex.Result result = index.search(Map.of(
+                "roastLevel", new FacetIndex.AnyOf(Set.of("미디엄")),
+                "decaf", new FacetIndex.AnyOf(Set.of("false"))), 10);
+
+        // then — roastLevel 건수는 decaf=false만, decaf 건수는 roastLevel=미디엄만 적용
+        assertThat(result.itemIds()).containsExactly(2L);
+        assertThat(result.facetCounts().get("roastLevel")).containsExactly(
+                Map.entry("다크", 1), Map.entry("라이트", 1), Map.entry("미디엄", 1));
+        assertThat(result.facetCounts().get("decaf")).containsExactly(Map.entry("false", 1), Map.entry("true", 1));
+        assertThat(result.facetCounts().get("intensity")).containsExactly(Map.entry("8", 1));
+        assertThat(result.facetCounts()).doesNotContainKey("price");
+    }
+
+    @Test
+    @DisplayName("바뀐 행만 고친 새 인덱스를 만들고, 내용이 같으면 같은 인스턴스")
+    void apply_patchesChangedRowsOnly() {
+        // when — 3번 로스팅 변경, 1번 비활성화, 6번 추가
+        FacetIndex updated = index.apply(List.of(
+                coffee(3L, true, 11, "미디엄", false, 900),
+                coffee(1L, false, 4, "라이트", false, 700),
+                coffee(6L, true, 9, "미디엄", false, 820)));
+
+        // then
+        FacetIndex.Result medium = updated.search(Map.of("roastLevel", new FacetIndex.AnyOf(Set.of("미디엄"))), 10);
+        assertThat(medium.itemIds()).containsExactly(2L, 3L, 4L, 6L);
+        assertThat(medium.facetCounts().get("roastLevel")).doesNotContainKeys("라이트", "다크");
+        assertThat(updated.search(Map.of("price", new FacetIndex.Between(810, 830)), 10).itemIds()).containsExactly(6L);
+        assertThat(updated.size()).isEqualTo(6);
+        assertThat(updated.liveCount()).isEqualTo(4);
+
+        // 원래 인덱스는 그대로
+        assertThat(index.search(Map.of("roastLevel", new FacetIndex.AnyOf(Set.of("다크"))), 10).itemIds())
+                .containsExactly(3L);
+        assertThat(updated.apply(List.of(coffee(6L, true, 9, "미디엄", false, 820)))).isSameAs(updated);
+    }
+
+    @Test
+    @DisplayName("열거형 속성에 범위, 정렬 속성에 값 목록을 주면 IllegalArgumentException")
+    void search_rejectsConditionNotSupportedByKind() {
+        assertThatThrownBy(() -> index.search(Map.of("roastLevel", new FacetIndex.Between(1, 2)), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search(Map.of("price", new FacetIndex.AnyOf(Set.of("800"))), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static FacetIndex.Row coffee(long itemId, boolean active, Integer intensity, String roastLevel,
+                                         Boolean decaf, Integer price) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("intensity", intensity);
+        values.put("roastLevel", roastLevel);
+        values.put("decaf", decaf);
+        values.put("price", price);
+        return new FacetIndex.Row(itemId, active, values);
+    }
+}
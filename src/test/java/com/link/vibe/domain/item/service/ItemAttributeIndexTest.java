@@ -0,0 +1,136 @@
+package com.link.vibe.domain.item.service;
+
+import com.link.vibe.domain.item.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ItemAttributeIndexTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 3, 1, 12, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2026, 3, 1, 12, 30);
+    private static final Duration OVERLAP = Duration.ofMinutes(5);
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemAttributeIndex itemAttributeIndex;
+
+    @BeforeEach
+    void setUp() {
+        itemAttributeIndex = new ItemAttributeIndex(itemRepository, OVERLAP);
+    }
+
+    @Test
+    @DisplayName("처음에는 전체를 읽고, 이후에는 마지막 수정 시각(overlap 포함) 이후 바뀐 행만 반영")
+    void reload_appliesChangesIncrementally() {
+        // given
+        given(itemRepository.findIndexVersion()).willReturn(version(2));
+        given(itemRepository.findCoffeeAttributesChangedSince(EPOCH)).willReturn(List.of(
+                coffee(1L, true, "라이트", T1), coffee(2L, true, "다크", T1)));
+        given(itemRepository.findLightingAttributesChangedSince(EPOCH)).willReturn(List.of());
+        itemAttributeIndex.reload();
+
+        given(itemRepository.findCoffeeAttributesChangedSince(T1.minus(OVERLAP))).willReturn(List.of(
+                coffee(2L, true, "라이트", T2)));
+        given(itemRepository.countCoffeeDetails()).willReturn(2L);
+
+        // when
+        itemAttributeIndex.reload();
+
+        // then
+        FacetIndex coffee = itemAttributeIndex.index(ItemAttributeIndex.COFFEE).orElseThrow();
+        assertThat(coffee.search(Map.of("roastLevel", new FacetIndex.AnyOf(Set.of("라이트"))), 10).itemIds())
+                .containsExactly(1L, 2L);
+        then(itemRepository).should(never()).countLightingDetails();
+    }
+
+    @Test
+    @DisplayName("상세 행이 삭제돼 행 수가 맞지 않으면 해당 카테고리를 전부 다시 만든다")
+    void reload_rebuildsWhenRowsDeleted() {
+        // given
+        given(itemRepository.findIndexVersion()).willReturn(version(2));
+        given(itemRepository.findCoffeeAttributesChangedSince(EPOCH)).willReturn(List.of(
+                coffee(1L, true, "라이트", T1), coffee(2L, true, "다크", T1)));
+        given(itemRepository.findLightingAttributesChangedSince(EPOCH)).willReturn(List.of());
+        itemAttributeIndex.reload();
+
+        given(itemRepository.findCoffeeAttributesChangedSince(T1.minus(OVERLAP))).willReturn(List.of(
+                coffee(1L, true, "라이트", T1)));
+        given(itemRepository.countCoffeeDetails()).willReturn(1L);
+        given(itemRepository.findCoffeeAttributesChangedSince(EPOCH)).willReturn(List.of(
+                coffee(1L, true, "라이트", T1)));
+
+        // when
+        itemAttributeIndex.reload();
+
+        // then
+        FacetIndex coffee = itemAttributeIndex.index(ItemAttributeIndex.COFFEE).orElseThrow();
+        assertThat(coffee.size()).isEqualTo(1);
+        assertThat(coffee.search(Map.of(), 10).itemIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("아이템이 없으면 상세 속성을 조회하지 않음")
+    void reload_skipsWhenNoItems() {
+        // given
+        given(itemRepository.findIndexVersion()).willReturn(version(0));
+
+        // when
+        itemAttributeIndex.reload();
+
+        // then
+        then(itemRepository).should(never()).findCoffeeAttributesChangedSince(any());
+        assertThat(itemAttributeIndex.index(ItemAttributeIndex.COFFEE).orElseThrow().size()).isZero();
+        assertThat(itemAttributeIndex.index("movie")).isEmpty();
+    }
+
+    private static ItemRepository.IndexVersion version(long itemCount) {
+        return new ItemRepository.IndexVersion() {
+            @Override
+            public long getItemCount() {
+                return itemCount;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdatedAt() {
+                return T1;
+            }
+        };
+    }
+
+    private static ItemRepository.CoffeeAttributes coffee(Long itemId, boolean active, String roastLevel,
+                                                          LocalDateTime updatedAt) {
+        return new ItemRepository.CoffeeAttributes() {
+            @Override public Long getItemId() { return itemId; }
+            @Override public Boolean getActive() { return active; }
+            @Override public LocalDateTime getUpdatedAt() { return updatedAt; }
+            @Override public Integer getIntensity() { return 8; }
+            @Override public Integer getBody() { return 3; }
+            @Override public Integer getBitterness() { return 3; }
+            @Override public Integer getAcidity() { return 2; }
+            @Override public Integer getRoasting() { return 3; }
+            @Override public String getRoastLevel() { return roastLevel; }
+            @Override public Boolean getDecaf() { return false; }
+            @Override public String getLine() { return "ORIGINAL"; }
+            @Override public Integer getPrice() { return 800; }
+        };
+    }
+}
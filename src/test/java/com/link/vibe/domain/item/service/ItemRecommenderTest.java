@@ -0,0 +1,214 @@
+package com.link.vibe.domain.item.service;
+
+import com.link.vibe.domain.item.entity.VibeItem;
+import com.link.vibe.domain.item.repository.ItemRepository;
+import com.link.vibe.domain.item.repository.VibeItemRepository;
+import com.link.vibe.domain.option.entity.*;
+import com.link.vibe.domain.option.service.OptionCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ItemRecommenderTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private VibeItemRepository vibeItemRepository;
+    @Mock
+    private OptionCatalog optionCatalog;
+    @Mock
+    private AsyncTaskExecutor recordExecutor;
+
+    private ItemRecommender itemRecommender;
+
+    private MoodKeyword cozy;
+    private TimeOption evening;
+    private WeatherOption rainy;
+    private PlaceOption cafe;
+    private CompanionOption alone;
+
+    @BeforeEach
+    void setUp() {
+        itemRecommender = new ItemRecommender(itemRepository, vibeItemRepository, optionCatalog,
+                128, 2, 16384, 2, Duration.ofSeconds(1), recordExecutor);
+
+        cozy = BeanUtils.instantiateClass(MoodKeyword.class);
+        ReflectionTestUtils.setField(cozy, "keywordId", 1L);
+        ReflectionTestUtils.setField(cozy, "keywordValue", "cozy");
+        evening = BeanUtils.instantiateClass(TimeOption.class);
+        ReflectionTestUtils.setField(evening, "timeId", 1L);
+        ReflectionTestUtils.setField(evening, "timeKey", "evening");
+        rainy = BeanUtils.instantiateClass(WeatherOption.class);
+        ReflectionTestUtils.setField(rainy, "weatherId", 1L);
+        ReflectionTestUtils.setField(rainy, "weatherKey", "rainy");
+        cafe = BeanUtils.instantiateClass(PlaceOption.class);
+        ReflectionTestUtils.setField(cafe, "placeId", 1L);
+        ReflectionTestUtils.setField(cafe, "placeKey", "cafe");
+        alone = BeanUtils.instantiateClass(CompanionOption.class);
+        ReflectionTestUtils.setField(alone, "companionId", 1L);
+        ReflectionTestUtils.setField(alone, "companionKey", "alone");
+
+        OptionCatalog.Labels korean = new OptionCatalog.Labels(
+                Map.of(1L, "포근한"), Map.of(1L, "담요 속 포근함"), Map.of(1L, "비 오는 날"), Map.of(1L, "카페"),
+                Map.of(1L, "혼자"));
+        given(optionCatalog.snapshot()).willReturn(new OptionCatalog.Snapshot(1L, Map.of(1L, cozy), Map.of(1L, evening),
+                Map.of(1L, rainy), Map.of(1L, cafe), Map.of(1L, alone), "ko", Map.of("ko", korean)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRecommender.shutdown();
+    }
+
+    @Test
+    @DisplayName("선택 조합과 가까운 아이템을 카테고리별로 골라 점수·이유와 함께 vibe_items에 저장")
+    void recommend_savesTopItemsPerCategory() {
+        // given
+        given(itemRepository.findIndexVersion()).willReturn(version(3, UPDATED_AT));
+        given(itemRepository.findActiveItemFeatures("ko")).willReturn(List.of(
+                features(10L, "movie", "포근한 담요 비 오는 날 카페 로맨스"),
+                features(11L, "movie", "우주 전쟁 액션 블록버스터"),
+                features(20L, "coffee", "카라멜 디저트 포근한 라떼")));
+        given(vibeItemRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        itemRecommender.reload();
+
+        // when
+        List<VibeItem> items = itemRecommender.recommend(100L, List.of(1L), evening, rainy, cafe, alone, "ko");
+
+        // then
+        assertThat(items).extracting(VibeItem::getItemId).containsExactly(10L, 11L, 20L);
+        assertThat(items).allSatisfy(item -> assertThat(item.getResultId()).isEqualTo(100L));
+        assertThat(items.get(0).getMatchScore()).isGreaterThan(items.get(1).getMatchScore());
+        assertThat(items.get(0).getRecommendReason()).contains("포근한");
+    }
+
+    @Test
+    @DisplayName("아이템 개수·수정 시각이 그대로면 인덱스를 다시 만들지 않음")
+    void reload_skipsWhenItemsUnchanged() {
+        // given
+        given(itemRepository.findIndexVersion()).willReturn(version(1, UPDATED_AT));
+        given(itemRepository.findActiveItemFeatures("ko")).willReturn(List.of(features(10L, "movie", "로맨스")));
+
+        // when
+        ItemVectorIndex first = itemRecommender.reload();
+        ItemVectorIndex second = itemRecommender.reload();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.size()).isEqualTo(1);
+        then(itemRepository).should(times(1)).findActiveItemFeatures("ko");
+    }
+
+    @Test
+    @DisplayName("인덱스가 비어 있으면 검색·저장 없이 빈 목록")
+    void recommend_emptyIndex() {
+        // given — 아이템이 없으면 상세 조회 없이 빈 인덱스
+        given(itemRepository.findIndexVersion()).willReturn(version(0, null));
+        itemRecommender.reload();
+
+        // when
+        List<VibeItem> items = itemRecommender.recommend(100L, List.of(1L), evening, rainy, cafe, alone, "ko");
+
+        // then
+        assertThat(items).isEmpty();
+        then(itemRepository).should(never()).findActiveItemFeatures(any());
+        then(vibeItemRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Vibe 완료 이벤트는 실행기에 넘겨 기록하고, 이벤트를 받은 스레드에서는 저장하지 않음")
+    void onVibeCompleted_recordsOnExecutor() {
+        // given
+        given(itemRepository.findIndexVersion()).willReturn(version(1, UPDATED_AT));
+        given(itemRepository.findActiveItemFeatures("ko")).willReturn(List.of(features(10L, "movie", "포근한 로맨스")));
+        given(vibeItemRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        itemRecommender.reload();
+
+        // when
+        itemRecommender.onVibeCompleted(new VibeCompletedEvent(100L, List.of(1L), evening, rainy, cafe, alone, "ko"));
+
+        // then
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        then(recordExecutor).should().execute(task.capture());
+        then(vibeItemRepository).should(never()).saveAll(any());
+
+        task.getValue().run();
+        then(vibeItemRepository).should().saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("기록 실행기가 가득 차면 추천을 건너뜀")
+    void onVibeCompleted_skipsWhenRejected() {
+        // given
+        given(itemRepository.findIndexVersion()).willReturn(version(1, UPDATED_AT));
+        given(itemRepository.findActiveItemFeatures("ko")).willReturn(List.of(features(10L, "movie", "포근한 로맨스")));
+        itemRecommender.reload();
+        willThrow(new TaskRejectedException("full")).given(recordExecutor).execute(any(Runnable.class));
+
+        // when
+        itemRecommender.onVibeCompleted(new VibeCompletedEvent(100L, List.of(1L), evening, rainy, cafe, alone, "ko"));
+
+        // then
+        then(vibeItemRepository).should(never()).saveAll(any());
+    }
+
+    private static ItemRepository.IndexVersion version(long itemCount, LocalDateTime lastUpdatedAt) {
+        return new ItemRepository.IndexVersion() {
+            @Override
+            public long getItemCount() {
+                return itemCount;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdatedAt() {
+                return lastUpdatedAt;
+            }
+        };
+    }
+
+    private static ItemRepository.ItemFeatures features(Long itemId, String categoryKey, String text) {
+        return new ItemRepository.ItemFeatures() {
+            @Override
+            public Long getItemId() {
+                return itemId;
+            }
+
+            @Override
+            public String getCategoryKey() {
+                return categoryKey;
+            }
+
+            @Override
+            public String getFeatures() {
+                return text;
+            }
+        };
+    }
+}
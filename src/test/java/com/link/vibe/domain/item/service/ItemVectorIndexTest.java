@@ -0,0 +1,119 @@
+package com.link.vibe.domain.item.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class ItemVectorIndexTest {
+
+    private static final int DIMENSION = 128;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("카테고리별 top-k를 점수 내림차순으로 돌려줌")
+    void search_topKPerCategory() throws Exception {
+        // given
+        ItemVectorIndex index = ItemVectorIndex.builder(DIMENSION)
+                .add(1L, "movie", FeatureHasher.embed("비 오는 날 포근한 로맨스", DIMENSION))
+                .add(2L, "movie", FeatureHasher.embed("우주 전쟁 액션", DIMENSION))
+                .add(3L, "coffee", FeatureHasher.embed("포근한 카라멜 향", DIMENSION))
+                .add(4L, "movie", FeatureHasher.embed("포근한 로맨스 코미디", DIMENSION))
+                .build();
+        float[] query = FeatureHasher.embed("포근한 로맨스", DIMENSION);
+
+        // when
+        List<ItemVectorIndex.Match> matches = index.search(query, 2, null, 1024, Duration.ofSeconds(1));
+
+        // then
+        assertThat(index.categorySizes()).containsExactly(Map.entry("movie", 3), Map.entry("coffee", 1));
+        assertThat(matches).extracting(ItemVectorIndex.Match::category).containsExactly("movie", "movie", "coffee");
+        assertThat(matches.get(0).score()).isGreaterThanOrEqualTo(matches.get(1).score());
+        assertThat(matches).extracting(ItemVectorIndex.Match::itemId).doesNotContain(2L);
+    }
+
+    @Test
+    @DisplayName("chunk로 나눠 병렬 스캔해도 순차 스캔과 같은 결과")
+    void search_parallelMatchesSequential() throws Exception {
+        // given
+        Random random = new Random(42);
+        ItemVectorIndex.Builder builder = ItemVectorIndex.builder(DIMENSION);
+        for (int i = 0; i < 5_000; i++) {
+            float[] vector = new float[DIMENSION];
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] = (float) random.nextGaussian();
+            }
+            FeatureHasher.normalize(vector);
+            builder.add(i, i % 3 == 0 ? "music" : "movie", vector);
+        }
+        ItemVectorIndex index = builder.build();
+        float[] query = FeatureHasher.embed("잔잔한 새벽 감성", DIMENSION);
+
+        // when
+        List<ItemVectorIndex.Match> sequential = index.search(query, 10, null, Integer.MAX_VALUE, Duration.ofSeconds(5));
+        List<ItemVectorIndex.Match> parallel = index.search(query, 10, executor, 256, Duration.ofSeconds(5));
+
+        // then
+        assertThat(parallel).hasSize(20);
+        assertThat(parallel).extracting(ItemVectorIndex.Match::itemId)
+                .containsExactlyElementsOf(sequential.stream().map(ItemVectorIndex.Match::itemId).toList());
+    }
+
+    @Test
+    @DisplayName("병렬 스캔이 제한 시간을 넘기면 TimeoutException")
+    void search_timeout() throws Exception {
+        // given — 스캔 스레드가 하나뿐인데 다른 작업이 점유 중
+        ExecutorService busy = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        busy.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ItemVectorIndex.Builder builder = ItemVectorIndex.builder(DIMENSION);
+        for (int i = 0; i < 100; i++) {
+            builder.add(i, "movie", FeatureHasher.embed("item " + i, DIMENSION));
+        }
+        ItemVectorIndex index = builder.build();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> index.search(new float[DIMENSION], 3, busy, 10, Duration.ofMillis(20)))
+                    .isInstanceOf(TimeoutException.class);
+        } finally {
+            release.countDown();
+            busy.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 임베딩은 유사도 1, 겹치는 단어가 없으면 0에 가까움")
+    void featureHasher_cosine() {
+        float[] a = FeatureHasher.embed("포근한 카페", DIMENSION);
+        float[] b = FeatureHasher.embed("포근한 카페", DIMENSION);
+        float[] c = FeatureHasher.embed("neon cyberpunk", DIMENSION);
+
+        assertThat(FeatureHasher.dot(a, b)).isCloseTo(1f, offset(1e-5f));
+        assertThat(Math.abs(FeatureHasher.dot(a, c))).isLessThan(0.5f);
+    }
+}
@@ -0,0 +1,129 @@
+package com.link.vibe.domain.option.service;
+
+import com.link.vibe.domain.option.entity.*;
+import com.link.vibe.domain.option.repository.*;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class OptionCatalogTest {
+
+    @Mock
+    private MoodKeywordRepository moodKeywordRepository;
+    @Mock
+    private TimeOptionRepository timeOptionRepository;
+    @Mock
+    private WeatherOptionRepository weatherOptionRepository;
+    @Mock
+    private PlaceOptionRepository placeOptionRepository;
+    @Mock
+    private CompanionOptionRepository companionOptionRepository;
+    @Mock
+    private LanguageRepository languageRepository;
+    @Mock
+    private MoodKeywordTranslationRepository moodKeywordTranslationRepository;
+    @Mock
+    private WeatherOptionTranslationRepository weatherOptionTranslationRepository;
+    @Mock
+    private PlaceOptionTranslationRepository placeOptionTranslationRepository;
+    @Mock
+    private CompanionOptionTranslationRepository companionOptionTranslationRepository;
+    // Hibernate SessionFactory는 EntityManagerFactory이기도 하다
+    @Mock
+    private SessionFactory sessionFactory;
+    @Mock
+    private Cache cache;
+
+    private OptionCatalog optionCatalog;
+
+    @BeforeEach
+    void setUp() {
+        optionCatalog = new OptionCatalog(moodKeywordRepository, timeOptionRepository, weatherOptionRepository,
+                placeOptionRepository, companionOptionRepository, languageRepository,
+                moodKeywordTranslationRepository, weatherOptionTranslationRepository,
+                placeOptionTranslationRepository, companionOptionTranslationRepository, sessionFactory);
+        ReflectionTestUtils.setField(optionCatalog, "defaultLanguage", "ko");
+        given(sessionFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        given(sessionFactory.getCache()).willReturn(cache);
+    }
+
+    @Test
+    @DisplayName("재적재 시 선택지 2차 캐시 리전을 비운 뒤 DB에서 읽음")
+    void reload_evictsSecondLevelCacheBeforeReading() {
+        // when
+        optionCatalog.reload();
+
+        // then
+        InOrder order = inOrder(cache, moodKeywordRepository);
+        order.verify(cache).evictEntityData(MoodKeyword.class);
+        order.verify(cache).evictEntityData(TimeOption.class);
+        order.verify(cache).evictEntityData(WeatherOption.class);
+        order.verify(cache).evictEntityData(PlaceOption.class);
+        order.verify(cache).evictEntityData(CompanionOption.class);
+        order.verify(moodKeywordRepository).findAllByOrderByKeywordId();
+    }
+
+    @Test
+    @DisplayName("활성 언어별로 번역을 묶고 Accept-Language를 지원 언어에 대응")
+    void reload_groupsTranslationsByActiveLanguage() {
+        // given — 비활성 언어(ja)의 번역은 조회 결과에 없는 language_id로 표현된다. 기본 언어 설정은 대소문자를 가리지 않는다
+        ReflectionTestUtils.setField(optionCatalog, "defaultLanguage", "KO");
+        given(languageRepository.findByIsActiveTrueOrderByLanguageId())
+                .willReturn(List.of(language(1L, "ko"), language(2L, "en")));
+        given(moodKeywordTranslationRepository.findAll(any(Sort.class))).willReturn(List.of(
+                translation(MoodKeywordTranslation.class, "keywordId", 1L, 1L, "keywordValue", "포근한"),
+                translation(MoodKeywordTranslation.class, "keywordId", 1L, 2L, "keywordValue", "Cozy"),
+                translation(MoodKeywordTranslation.class, "keywordId", 1L, 3L, "keywordValue", "居心地")));
+        given(weatherOptionTranslationRepository.findAll(any(Sort.class))).willReturn(List.of(
+                translation(WeatherOptionTranslation.class, "weatherId", 1L, 2L, "weatherValue", "Sunny")));
+
+        // when
+        OptionCatalog.Snapshot snapshot = optionCatalog.reload();
+
+        // then
+        assertThat(snapshot.labels()).containsOnlyKeys("ko", "en");
+        assertThat(snapshot.labelsOf("ko").moods()).containsEntry(1L, "포근한");
+        assertThat(snapshot.labelsOf("en").moods()).containsEntry(1L, "Cozy");
+        assertThat(snapshot.labelsOf("en").weathers()).containsEntry(1L, "Sunny");
+        assertThat(snapshot.resolveLanguage("en-US,en;q=0.9")).isEqualTo("en");
+        assertThat(snapshot.resolveLanguage("ja-JP")).isEqualTo("ko");
+        assertThat(snapshot.resolveLanguage("en;q=0, ko;q=0.5")).isEqualTo("ko");
+        assertThat(snapshot.resolveLanguage("not a language;;")).isEqualTo("ko");
+        assertThat(snapshot.resolveLanguage(null)).isEqualTo("ko");
+        assertThat(snapshot.defaultLanguage()).isEqualTo("ko");
+    }
+
+    private Language language(Long id, String code) {
+        Language language = BeanUtils.instantiateClass(Language.class);
+        ReflectionTestUtils.setField(language, "languageId", id);
+        ReflectionTestUtils.setField(language, "languageCode", code);
+        ReflectionTestUtils.setField(language, "isActive", true);
+        return language;
+    }
+
+    private <T> T translation(Class<T> clazz, String optionField, Long optionId, Long languageId,
+                              String valueField, String value) {
+        T translation = BeanUtils.instantiateClass(clazz);
+        ReflectionTestUtils.setField(translation, optionField, optionId);
+        ReflectionTestUtils.setField(translation, "languageId", languageId);
+        ReflectionTestUtils.setField(translation, valueField, value);
+        return translation;
+    }
+}
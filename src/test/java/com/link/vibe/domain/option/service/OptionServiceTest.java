@@ -0,0 +1,130 @@
+package com.link.vibe.domain.option.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.vibe.domain.option.entity.MoodKeyword;
+import com.link.vibe.domain.option.entity.WeatherOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class OptionServiceTest {
+
+    @Mock
+    private OptionCatalog optionCatalog;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OptionService optionService;
+
+    @BeforeEach
+    void setUp() {
+        optionService = new OptionService(optionCatalog, objectMapper);
+    }
+
+    @Test
+    @DisplayName("같은 카탈로그 버전이면 직렬화하지 않고 같은 payload를 재사용")
+    void payload_reusedWithinVersion() throws IOException {
+        // given
+        given(optionCatalog.snapshot()).willReturn(catalog(1L, "chilly", true));
+
+        // when
+        OptionService.Payload first = optionService.payload(null);
+        OptionService.Payload second = optionService.payload(null);
+
+        // then
+        assertThat(second).isSameAs(first);
+        JsonNode body = objectMapper.readTree(first.json());
+        assertThat(body.path("success").asBoolean()).isTrue();
+        assertThat(body.path("data").path("moods").get(0).path("keywordValue").asText()).isEqualTo("languid");
+        assertThat(body.path("data").path("weathers").get(0).path("weatherKey").asText()).isEqualTo("chilly");
+        assertThat(gunzip(first.gzip())).isEqualTo(first.json());
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 다시 만들고, 내용이 달라졌을 때만 ETag가 바뀜")
+    void payload_rebuiltOnNewVersion() {
+        // given
+        given(optionCatalog.snapshot()).willReturn(
+                catalog(1L, "chilly", true), catalog(2L, "chilly", true), catalog(3L, "chilly", false));
+
+        // when
+        OptionService.Payload v1 = optionService.payload(null);
+        OptionService.Payload v2 = optionService.payload(null);
+        OptionService.Payload v3 = optionService.payload(null);
+
+        // then
+        assertThat(v2).isNotSameAs(v1);
+        assertThat(v2.etag()).isEqualTo(v1.etag());
+        assertThat(v3.etag()).isNotEqualTo(v2.etag());
+        assertThat(v3.catalogVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Accept-Language별로 미리 만든 번역 payload를 돌려주고, 맞는 언어가 없으면 기본 언어")
+    void payload_perLanguage() throws IOException {
+        // given
+        given(optionCatalog.snapshot()).willReturn(catalog(1L, "chilly", true));
+
+        // when
+        OptionService.Payload english = optionService.payload("en-US,en;q=0.9");
+        OptionService.Payload korean = optionService.payload("ko-KR");
+        OptionService.Payload fallback = optionService.payload("fr");
+
+        // then
+        assertThat(english.language()).isEqualTo("en");
+        assertThat(korean.language()).isEqualTo("ko");
+        assertThat(fallback).isSameAs(korean);
+        assertThat(english.etag()).isNotEqualTo(korean.etag());
+
+        JsonNode en = objectMapper.readTree(english.json()).path("data");
+        assertThat(en.path("language").asText()).isEqualTo("en");
+        assertThat(en.path("moods").get(0).path("label").asText()).isEqualTo("Languid");
+        // 번역이 없으면 키
+        assertThat(en.path("weathers").get(0).path("label").asText()).isEqualTo("chilly");
+
+        JsonNode ko = objectMapper.readTree(korean.json()).path("data");
+        assertThat(ko.path("moods").get(0).path("label").asText()).isEqualTo("나른한");
+        assertThat(ko.path("moods").get(0).path("description").asText()).isEqualTo("해가 비치는 오후의 느긋함");
+        assertThat(ko.path("weathers").get(0).path("label").asText()).isEqualTo("쌀쌀함");
+    }
+
+    private OptionCatalog.Snapshot catalog(long version, String weatherKey, boolean weatherActive) {
+        MoodKeyword mood = BeanUtils.instantiateClass(MoodKeyword.class);
+        ReflectionTestUtils.setField(mood, "keywordId", 1L);
+        ReflectionTestUtils.setField(mood, "keywordValue", "languid");
+        ReflectionTestUtils.setField(mood, "category", "감정");
+
+        WeatherOption weather = BeanUtils.instantiateClass(WeatherOption.class);
+        ReflectionTestUtils.setField(weather, "weatherId", 1L);
+        ReflectionTestUtils.setField(weather, "weatherKey", weatherKey);
+        ReflectionTestUtils.setField(weather, "isActive", weatherActive);
+
+        OptionCatalog.Labels korean = new OptionCatalog.Labels(
+                Map.of(1L, "나른한"), Map.of(1L, "해가 비치는 오후의 느긋함"), Map.of(1L, "쌀쌀함"), Map.of(), Map.of());
+        OptionCatalog.Labels english = new OptionCatalog.Labels(
+                Map.of(1L, "Languid"), Map.of(), Map.of(), Map.of(), Map.of());
+
+        return new OptionCatalog.Snapshot(version, Map.of(1L, mood), Map.of(), Map.of(1L, weather), Map.of(), Map.of(),
+                "ko", Map.of("ko", korean, "en", english));
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
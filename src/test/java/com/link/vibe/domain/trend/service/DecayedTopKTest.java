@@ -0,0 +1,69 @@
+package com.link.vibe.domain.trend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class DecayedTopKTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("반감기마다 점수가 절반이 되어 최근 참여가 오래된 참여를 앞선다")
+    void top_decaysByHalfLife() {
+        // given
+        DecayedTopK topK = new DecayedTopK(HALF_LIFE, 100, T0);
+        topK.add(1L, 10, T0);
+        topK.add(2L, 6, T0 + HALF_LIFE.toMillis());
+
+        // when
+        List<DecayedTopK.Scored> top = topK.top(10, T0 + HALF_LIFE.toMillis());
+
+        // then
+        assertThat(top).extracting(DecayedTopK.Scored::key).containsExactly(2L, 1L);
+        assertThat(top.get(0).score()).isCloseTo(6, offset(1e-9));
+        assertThat(top.get(1).score()).isCloseTo(5, offset(1e-9));
+    }
+
+    @Test
+    @DisplayName("꽉 차면 가장 약한 키를 밀어내고, 새 키가 그보다 약하면 버린다")
+    void add_evictsWeakestWhenFull() {
+        // given
+        DecayedTopK topK = new DecayedTopK(HALF_LIFE, 2, T0);
+        topK.add(1L, 5, T0);
+        topK.add(2L, 3, T0);
+
+        // when
+        topK.add(3L, 4, T0);
+        topK.add(4L, 1, T0);
+
+        // then
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(topK.top(10, T0)).extracting(DecayedTopK.Scored::key).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("오래 지나 landmark를 옮겨도 점수가 그대로 이어진다")
+    void add_rebasesLandmark() {
+        // given — 반감기 6시간이면 약 11일 뒤 rebase
+        DecayedTopK topK = new DecayedTopK(HALF_LIFE, 100, T0);
+        long later = T0 + Duration.ofDays(20).toMillis();
+        topK.add(1L, 1, T0);
+        topK.add(2L, 3, later);
+        topK.add(2L, 3, later + HALF_LIFE.toMillis());
+
+        // when
+        List<DecayedTopK.Scored> top = topK.top(10, later + HALF_LIFE.toMillis());
+
+        // then
+        assertThat(top).extracting(DecayedTopK.Scored::key).containsExactly(2L, 1L);
+        assertThat(top.get(0).score()).isCloseTo(4.5, offset(1e-9));
+        assertThat(top.get(1).score()).isLessThan(1e-20);
+    }
+}
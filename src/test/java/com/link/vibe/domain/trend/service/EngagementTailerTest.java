@@ -0,0 +1,111 @@
+package com.link.vibe.domain.trend.service;
+
+import com.link.vibe.domain.archive.repository.ArchiveVibeRepository;
+import com.link.vibe.domain.archive.repository.FavoriteRepository;
+import com.link.vibe.domain.feed.repository.FeedReactionRepository;
+import com.link.vibe.domain.trend.repository.Engagement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class EngagementTailerTest {
+
+    private static final Duration LAG = Duration.ofSeconds(30);
+    private static final LocalDateTime T1 = LocalDateTime.now().minusMinutes(10);
+    private static final LocalDateTime T2 = T1.plusSeconds(5);
+
+    @Mock
+    private FeedReactionRepository feedReactionRepository;
+    @Mock
+    private ArchiveVibeRepository archiveVibeRepository;
+    @Mock
+    private FavoriteRepository favoriteRepository;
+    @Mock
+    private TrendingEngine trendingEngine;
+
+    private EngagementTailer engagementTailer;
+
+    @BeforeEach
+    void setUp() {
+        engagementTailer = new EngagementTailer(feedReactionRepository, archiveVibeRepository, favoriteRepository,
+                trendingEngine, 2, LAG, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("배치가 꽉 차면 (created_at, PK) 다음부터 이어서 읽는다")
+    void poll_pagesThroughBatches() {
+        // given
+        given(feedReactionRepository.findEngagementsAfter(any(), eq(0L), eq(2)))
+                .willReturn(List.of(engagement(1L, 100L, T1), engagement(2L, 101L, T1)));
+        given(feedReactionRepository.findEngagementsAfter(T1, 2L, 2))
+                .willReturn(List.of(engagement(5L, 100L, T2)));
+        given(archiveVibeRepository.findEngagementsAfter(any(), anyLong(), anyInt())).willReturn(List.of());
+        given(favoriteRepository.findEngagementsAfter(any(), anyLong(), anyInt()))
+                .willReturn(List.of(engagement(7L, 101L, T2)));
+
+        // when
+        engagementTailer.poll();
+
+        // then
+        then(trendingEngine).should().record(EngagementType.REACTION, 100L, T1);
+        then(trendingEngine).should().record(EngagementType.REACTION, 101L, T1);
+        then(trendingEngine).should().record(EngagementType.REACTION, 100L, T2);
+        then(trendingEngine).should().record(EngagementType.FAVORITE, 101L, T2);
+    }
+
+    @Test
+    @DisplayName("다음 주기에는 lag만큼 겹쳐 읽어 늦게 커밋된 낮은 PK도 반영하고, 이미 반영한 이벤트는 다시 세지 않는다")
+    void poll_rereadsLagWindowAndDedupes() {
+        // given — 첫 주기에는 PK 5만 보이고, PK 4는 그 뒤에 커밋된다
+        given(feedReactionRepository.findEngagementsAfter(any(), eq(0L), eq(2)))
+                .willReturn(List.of(engagement(5L, 100L, T2)))
+                .willReturn(List.of(engagement(4L, 200L, T1), engagement(5L, 100L, T2)));
+        given(feedReactionRepository.findEngagementsAfter(T2, 5L, 2)).willReturn(List.of());
+        given(archiveVibeRepository.findEngagementsAfter(any(), anyLong(), anyInt())).willReturn(List.of());
+        given(favoriteRepository.findEngagementsAfter(any(), anyLong(), anyInt())).willReturn(List.of());
+
+        // when
+        engagementTailer.poll();
+        engagementTailer.poll();
+
+        // then
+        then(feedReactionRepository).should().findEngagementsAfter(T2.minus(LAG), 0L, 2);
+        then(trendingEngine).should(times(1)).record(EngagementType.REACTION, 100L, T2);
+        then(trendingEngine).should(times(1)).record(EngagementType.REACTION, 200L, T1);
+    }
+
+    private static Engagement engagement(Long eventId, Long resultId, LocalDateTime occurredAt) {
+        return new Engagement() {
+            @Override
+            public Long getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Long getResultId() {
+                return resultId;
+            }
+
+            @Override
+            public LocalDateTime getOccurredAt() {
+                return occurredAt;
+            }
+        };
+    }
+}
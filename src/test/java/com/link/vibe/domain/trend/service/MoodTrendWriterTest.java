@@ -0,0 +1,56 @@
+package com.link.vibe.domain.trend.service;
+
+import com.link.vibe.domain.trend.repository.MoodTrendRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class MoodTrendWriterTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    @InjectMocks
+    private MoodTrendWriter moodTrendWriter;
+
+    @Mock
+    private MoodTrendRepository moodTrendRepository;
+
+    @Test
+    @DisplayName("집계일마다 키워드 수와 관계없이 upsert 한 번, 그날과 다음 날 성장률을 다시 계산")
+    void addUsage_upsertsOncePerDate() {
+        // given
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        counts.put(1L, 1_000);
+        counts.put(2L, 3);
+        counts.put(7L, 1);
+
+        // when
+        moodTrendWriter.addUsage(Map.of(TODAY, counts));
+
+        // then
+        ArgumentCaptor<Long[]> keywordIds = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<Integer[]> increments = ArgumentCaptor.forClass(Integer[].class);
+        then(moodTrendRepository).should(times(1))
+                .addUsage(eq(TODAY), keywordIds.capture(), increments.capture());
+        assertThat(keywordIds.getValue()).containsExactly(1L, 2L, 7L);
+        assertThat(increments.getValue()).containsExactly(1_000, 3, 1);
+        then(moodTrendRepository).should().updateGrowthRates(TODAY);
+        then(moodTrendRepository).should().updateGrowthRates(TODAY.plusDays(1));
+        then(moodTrendRepository).should(times(2)).updateGrowthRates(any());
+    }
+}
@@ -0,0 +1,108 @@
+package com.link.vibe.domain.trend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class MoodUsageCounterTest {
+
+    private static final String ZONE = "Asia/Seoul";
+
+    @Mock
+    private MoodTrendWriter moodTrendWriter;
+
+    private MoodUsageCounter moodUsageCounter;
+
+    @BeforeEach
+    void setUp() {
+        moodUsageCounter = new MoodUsageCounter(moodTrendWriter, ZONE);
+    }
+
+    @Test
+    @DisplayName("동시에 올린 사용 수를 잃지 않고 오늘 날짜로 한 번에 기록")
+    void flush_writesConcurrentCounts() throws Exception {
+        // given
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            pool.execute(() -> moodUsageCounter.record(List.of(1L, 2L)));
+        }
+        moodUsageCounter.record(List.of(3L));
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        moodUsageCounter.flush();
+
+        // then
+        LocalDate today = LocalDate.now(ZoneId.of(ZONE));
+        then(moodTrendWriter).should().addUsage(Map.of(today, Map.of(1L, 1_000, 2L, 1_000, 3L, 1)));
+    }
+
+    @Test
+    @DisplayName("기록한 뒤에는 늘어난 만큼만, 늘어난 게 없으면 기록하지 않음")
+    void flush_writesOnlyDelta() {
+        // given
+        LocalDate today = LocalDate.now(ZoneId.of(ZONE));
+        moodUsageCounter.record(List.of(1L));
+        moodUsageCounter.flush();
+
+        // when
+        moodUsageCounter.record(List.of(1L, 1L));
+        moodUsageCounter.flush();
+        moodUsageCounter.flush();
+
+        // then
+        then(moodTrendWriter).should().addUsage(Map.of(today, Map.of(1L, 1)));
+        then(moodTrendWriter).should().addUsage(Map.of(today, Map.of(1L, 2)));
+        then(moodTrendWriter).should(times(2)).addUsage(any());
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 다음 flush에서 함께 기록")
+    void flush_retriesAfterFailure() {
+        // given
+        LocalDate today = LocalDate.now(ZoneId.of(ZONE));
+        moodUsageCounter.record(List.of(1L));
+        willThrow(new DataAccessResourceFailureException("down")).willDoNothing()
+                .given(moodTrendWriter).addUsage(any());
+        moodUsageCounter.flush();
+
+        // when
+        moodUsageCounter.record(List.of(1L));
+        moodUsageCounter.flush();
+
+        // then
+        then(moodTrendWriter).should().addUsage(Map.of(today, Map.of(1L, 1)));
+        then(moodTrendWriter).should().addUsage(Map.of(today, Map.of(1L, 2)));
+    }
+
+    @Test
+    @DisplayName("사용 기록이 없으면 DB에 쓰지 않음")
+    void flush_skipsWhenEmpty() {
+        // when
+        moodUsageCounter.flush();
+
+        // then
+        then(moodTrendWriter).should(never()).addUsage(any());
+    }
+}
@@ -0,0 +1,85 @@
+package com.link.vibe.domain.trend.service;
+
+import com.link.vibe.domain.trend.dto.TrendingVibeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingEngineTest {
+
+    @Mock
+    private TrendingSnapshotWriter snapshotWriter;
+
+    private TrendingEngine trendingEngine;
+
+    @BeforeEach
+    void setUp() {
+        trendingEngine = new TrendingEngine(snapshotWriter, Duration.ofHours(6), 100, 2, "Asia/Seoul");
+    }
+
+    @Test
+    @DisplayName("참여 종류별 가중치를 더해 점수가 높은 순으로 순위를 매긴다")
+    void trendingNow_ranksByWeightedEngagement() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        trendingEngine.record(EngagementType.REACTION, 1L, now);
+        trendingEngine.record(EngagementType.REACTION, 1L, now);
+        trendingEngine.record(EngagementType.ARCHIVE, 2L, now);
+        trendingEngine.onFeedViewed(new FeedViewedEvent(3L));
+        trendingEngine.record(EngagementType.FAVORITE, null, now);
+
+        // when
+        List<TrendingVibeResponse> trending = trendingEngine.trendingNow(10);
+
+        // then — 1: 3+3, 2: 5, 3: 1
+        assertThat(trending).extracting(TrendingVibeResponse::resultId).containsExactly(1L, 2L, 3L);
+        assertThat(trending).extracting(TrendingVibeResponse::rank).containsExactly(1, 2, 3);
+        assertThat(trending.get(0).score()).isBetween(5.99, 6.0);
+    }
+
+    @Test
+    @DisplayName("상위 snapshot-size개를 오늘 날짜 순위로 기록")
+    @SuppressWarnings("unchecked")
+    void flush_writesTopSnapshot() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        trendingEngine.record(EngagementType.VIEW, 1L, now);
+        trendingEngine.record(EngagementType.ARCHIVE, 2L, now);
+        trendingEngine.record(EngagementType.REACTION, 3L, now);
+
+        // when
+        trendingEngine.flush();
+
+        // then
+        ArgumentCaptor<List<DecayedTopK.Scored>> snapshot = ArgumentCaptor.forClass(List.class);
+        then(snapshotWriter).should().replace(eq(LocalDate.now(ZoneId.of("Asia/Seoul"))), snapshot.capture());
+        assertThat(snapshot.getValue()).extracting(DecayedTopK.Scored::key).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("참여가 없으면 기록하지 않음")
+    void flush_skipsWhenEmpty() {
+        // when
+        trendingEngine.flush();
+
+        // then
+        then(snapshotWriter).should(never()).replace(any(), any());
+    }
+}
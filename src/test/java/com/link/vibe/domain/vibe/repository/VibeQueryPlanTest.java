@@ -0,0 +1,193 @@
+package com.link.vibe.domain.vibe.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 실제 PostgreSQL에 적용하고, Vibe 조회 경로의 실행 계획이 마이그레이션에서 만든 인덱스를 타는지 확인한다.
+ * 쿼리는 VibeHistoryRepository/VibeSessionRepository JPQL이 생성하는 SQL과 같은 형태로 작성하고,
+ * 기분 키워드 포함 조회는 V5의 GIN 인덱스가 처리하도록 만든 조건 형태를 확인한다.
+ * Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class VibeQueryPlanTest {
+
+    private static final String SESSION_WITH_DETAILS = """
+            SELECT vs.*, vp.*, vr.*
+            FROM vibe_sessions vs
+            LEFT JOIN vibe_prompts vp ON vp.session_id = vs.session_id
+            """;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (email) SELECT 'user' || g || '@vibe.test' FROM generate_series(1, 2000) g");
+            statement.execute("INSERT INTO time_options (time_key, time_value, period) VALUES ('afternoon', '14:00', 'PM')");
+            statement.execute("INSERT INTO weather_options (weather_key) VALUES ('sunny')");
+            statement.execute("INSERT INTO place_options (place_key) VALUES ('cafe')");
+            statement.execute("INSERT INTO companion_options (companion_key) VALUES ('alone')");
+            statement.execute("""
+                    INSERT INTO vibe_sessions (user_id, status, created_at, completed_at)
+                    SELECT (g % 2000) + 1, CASE WHEN g % 50 = 0 THEN 'IN_PROGRESS' ELSE 'COMPLETED' END,
+                           now() - make_interval(mins => g), now()
+                    FROM generate_series(1, 100000) g
+                    """);
+            statement.execute("""
+                    INSERT INTO vibe_prompts (session_id, mood_keyword_ids, time_id, weather_id, place_id, companion_id, created_at)
+                    SELECT session_id,
+                           CASE WHEN session_id % 1000 = 0 THEN ARRAY[(session_id % 15) + 1, 99]
+                                ELSE ARRAY[(session_id % 15) + 1] END,
+                           1, 1, 1, 1, created_at
+                    FROM vibe_sessions
+                    """);
+            statement.execute("""
+                    INSERT INTO vibe_results (session_id, phrase, created_at)
+                    SELECT session_id, 'phrase', created_at FROM vibe_sessions WHERE status = 'COMPLETED'
+                    """);
+            statement.execute("""
+                    INSERT INTO vibe_history (session_id, user_id, phrase, ai_analysis, mood_values,
+                                              time_key, weather_key, place_key, companion_key, created_at)
+                    SELECT session_id, user_id, 'phrase', 'analysis', '["calm"]'::jsonb,
+                           'afternoon', 'sunny', 'cafe', 'alone', created_at
+                    FROM vibe_sessions WHERE status = 'COMPLETED'
+                    """);
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @Test
+    @DisplayName("히스토리 첫 페이지 — vibe_history 인덱스를 역방향으로 읽고 조인·정렬 없음")
+    void historyFirstPage_usesHistoryIndex() throws SQLException {
+        List<String> plan = explain("""
+                SELECT * FROM vibe_history
+                WHERE user_id = 42
+                ORDER BY created_at DESC, session_id DESC
+                LIMIT 21
+                """);
+
+        assertThat(plan).anyMatch(line -> line.contains("Index Scan Backward using idx_vibe_history_user_created"));
+        assertThat(plan).noneMatch(line -> line.contains("Join") || line.contains("Nested Loop"));
+        assertThat(plan).noneMatch(line -> line.trim().startsWith("Sort") || line.contains("->  Sort"));
+    }
+
+    @Test
+    @DisplayName("히스토리 커서 페이지 — 커서 조건이 Index Cond로 들어가 OFFSET 없이 바로 찾아감")
+    void historyPageAfter_seeksWithIndexCondition() throws SQLException {
+        List<String> plan = explain("""
+                SELECT * FROM vibe_history
+                WHERE user_id = 42
+                  AND (created_at, session_id) < (now() - interval '30 days', 50000)
+                ORDER BY created_at DESC, session_id DESC
+                LIMIT 21
+                """);
+
+        assertThat(plan).anyMatch(line -> line.contains("Index Scan Backward using idx_vibe_history_user_created"));
+        assertThat(plan).anyMatch(line -> line.contains("Index Cond") && line.contains("created_at"));
+    }
+
+    @Test
+    @DisplayName("상세 — vibe_history PK 단건 조회")
+    void historyDetail_usesPrimaryKey() throws SQLException {
+        List<String> plan = explain("SELECT * FROM vibe_history WHERE session_id = 12345");
+
+        assertThat(plan).anyMatch(line -> line.contains("vibe_history_pkey"));
+    }
+
+    @Test
+    @DisplayName("상세 (백필 전 세션) — PK와 session_id 유니크 인덱스로만 조회")
+    void sessionDetail_usesPrimaryAndUniqueKeys() throws SQLException {
+        List<String> plan = explain(SESSION_WITH_DETAILS + """
+                LEFT JOIN vibe_results vr ON vr.session_id = vs.session_id
+                WHERE vs.session_id = 12345
+                """);
+
+        assertThat(plan).anyMatch(line -> line.contains("vibe_sessions_pkey"));
+        assertThat(plan).anyMatch(line -> line.contains("vibe_prompts_session_id_key"));
+        assertThat(plan).anyMatch(line -> line.contains("vibe_results_session_id_key"));
+        assertThat(plan).noneMatch(line -> line.contains("Seq Scan on vibe_prompts") || line.contains("Seq Scan on vibe_results"));
+    }
+
+    @Test
+    @DisplayName("방치 세션 정리 — IN_PROGRESS 부분 인덱스 사용")
+    void staleSessionSweep_usesPartialIndex() throws SQLException {
+        List<String> plan = explain("""
+                SELECT session_id FROM vibe_sessions
+                WHERE status = 'IN_PROGRESS' AND created_at < now() - interval '5 minutes'
+                """);
+
+        assertThat(plan).anyMatch(line -> line.contains("idx_vibe_sessions_in_progress_created"));
+    }
+
+    @Test
+    @DisplayName("기분 키워드 포함 조회 — mood_keyword_ids GIN 인덱스로 찾고 vibe_prompts 전체를 읽지 않음")
+    void moodContainment_usesGinIndex() throws SQLException {
+        List<String> plan = explain("""
+                SELECT COUNT(*) FROM vibe_prompts vp
+                WHERE vp.mood_keyword_ids @> CAST(ARRAY[99] AS BIGINT[])
+                  AND vp.created_at >= now() - interval '90 days'
+                """);
+
+        assertThat(plan).anyMatch(line -> line.contains("Bitmap Index Scan on idx_vibe_prompts_mood_keyword_ids"));
+        assertThat(plan).noneMatch(line -> line.contains("Seq Scan on vibe_prompts"));
+    }
+
+    @Test
+    @DisplayName("세션/프롬프트/결과/추천 아이템 식별자 — 50씩 증가하는 시퀀스가 컬럼 기본값 (JDBC 배치 가능)")
+    void vibeIds_usePooledSequences() throws SQLException {
+        List<String> sequences = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     SELECT sequencename FROM pg_sequences
+                     WHERE sequencename IN ('vibe_sessions_seq', 'vibe_prompts_seq', 'vibe_results_seq', 'vibe_items_seq')
+                       AND increment_by = 50
+                     """)) {
+            while (rs.next()) {
+                sequences.add(rs.getString(1));
+            }
+        }
+
+        assertThat(sequences).containsExactlyInAnyOrder(
+                "vibe_sessions_seq", "vibe_prompts_seq", "vibe_results_seq", "vibe_items_seq");
+    }
+
+    private static List<String> explain(String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                lines.add(rs.getString(1));
+            }
+        }
+        return lines;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
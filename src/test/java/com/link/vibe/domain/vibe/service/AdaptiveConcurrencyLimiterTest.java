@@ -0,0 +1,90 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(4, 2, 10, Duration.ofSeconds(5), 0.5,
+                0.9, 64, Duration.ofMillis(1), 128, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 즉시 503으로 거절")
+    void acquire_overLimit_shedsWith503() {
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+
+        assertThatThrownBy(() -> limiter.acquire())
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(limiter.tryAcquire()).isEmpty();
+        assertThat(meterRegistry.get("openai.limiter.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도 가까이 사용 중 성공하면 한도를 1씩 늘림")
+    void success_underLoad_increasesLimit() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.acquire());
+        }
+
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+
+        assertThat(limiter.limit()).isGreaterThan(4);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패하면 한도를 backoff-ratio만큼 줄이되 min-limit 아래로는 내리지 않음")
+    void failure_decreasesLimitToMinimum() {
+        limiter.acquire().failure();
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        limiter.acquire().failure();
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("permit을 두 번 반납해도 한 번만 반영")
+    void release_isIdempotent() {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
+        limiter.acquire();
+
+        permit.failure();
+        permit.failure();
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샘플이 min-samples만큼 쌓이기 전에는 헤지 지연이 없음")
+    void hedgeDelay_requiresEnoughSamples() {
+        for (int i = 0; i < 63; i++) {
+            limiter.acquire().success();
+        }
+        assertThat(limiter.hedgeDelay()).isEmpty();
+
+        limiter.acquire().success();
+        assertThat(limiter.hedgeDelay()).isPresent();
+    }
+}
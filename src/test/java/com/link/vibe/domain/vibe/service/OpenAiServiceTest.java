@@ -0,0 +1,97 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.vibe.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OpenAiServiceTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+    private OpenAiService openAiService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofSeconds(30), 0.9,
+                0.95, 64, Duration.ofMillis(100), 128, meterRegistry);
+        openAiService = new OpenAiService(restTemplate, new ObjectMapper(), limiter,
+                new SimpleAsyncTaskExecutor("openai-call-test-"), true, meterRegistry);
+        ReflectionTestUtils.setField(openAiService, "apiKey", "test-key");
+        ReflectionTestUtils.setField(openAiService, "model", "gpt-4o-mini");
+        ReflectionTestUtils.setField(openAiService, "maxTokens", 500);
+        ReflectionTestUtils.setField(openAiService, "temperature", 0.8);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 폴백 대신 503으로 거절")
+    void generateVibe_overLimit_isShed() {
+        // given
+        limiter.acquire();
+        limiter.acquire();
+
+        // when & then
+        assertThatThrownBy(() -> openAiService.generateVibe(List.of("calm"), "morning", "sunny", "cafe", "alone", "ko"))
+                .isInstanceOf(BusinessException.class);
+        then(restTemplate).should(never()).postForEntity(anyString(), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("원 요청이 헤지 지연을 넘기면 헤지 요청의 응답을 사용")
+    void generateVibe_slowPrimary_isHedged() {
+        // given — 지연 분포를 채워 헤지 지연(최소 100ms)을 활성화
+        for (int i = 0; i < 64; i++) {
+            limiter.acquire().success();
+        }
+        AtomicInteger calls = new AtomicInteger();
+        given(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(String.class))).willAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(2_000);
+                return ResponseEntity.ok(completion("느린 문구"));
+            }
+            return ResponseEntity.ok(completion("헤지 문구"));
+        });
+
+        // when
+        OpenAiService.VibeResult result = openAiService.generateVibe(List.of("calm"), "morning", "sunny", "cafe", "alone", "ko");
+
+        // then
+        assertThat(result.phrase()).isEqualTo("헤지 문구");
+        assertThat(result.fallback()).isFalse();
+        assertThat(meterRegistry.get("openai.hedge.requests").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("openai.hedge.wins").counter().count()).isEqualTo(1);
+    }
+
+    private static String completion(String phrase) {
+        String content = "{\\\"phrase\\\": \\\"" + phrase + "\\\", \\\"analysis\\\": \\\"분석\\\"}";
+        return "{\"choices\": [{\"message\": {\"content\": \"" + content + "\"}}]}";
+    }
+}
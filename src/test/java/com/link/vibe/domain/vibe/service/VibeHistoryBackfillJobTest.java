@@ -0,0 +1,118 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.option.entity.MoodKeyword;
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import com.link.vibe.domain.vibe.entity.VibePrompt;
+import com.link.vibe.domain.vibe.entity.VibeResult;
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
+import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class VibeHistoryBackfillJobTest {
+
+    @Mock
+    private VibeSessionRepository vibeSessionRepository;
+    @Mock
+    private VibeHistoryRepository vibeHistoryRepository;
+    @Mock
+    private OptionCatalog optionCatalog;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VibeHistoryBackfillJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new VibeHistoryBackfillJob(vibeSessionRepository, vibeHistoryRepository, optionCatalog,
+                transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("이미 기록된 세션은 건너뛰고, 기분 키워드는 카탈로그 값으로 해석해 기록")
+    @SuppressWarnings("unchecked")
+    void backfillBatch_insertsOnlyMissing() {
+        // given
+        given(vibeSessionRepository.findCompletedWithDetailsAfter(0L, Limit.of(2)))
+                .willReturn(List.of(completedSession(1L, List.of(3L)), completedSession(2L, List.of(3L, 9L))));
+        given(vibeHistoryRepository.findExistingIds(List.of(1L, 2L))).willReturn(Set.of(1L));
+        given(optionCatalog.snapshot()).willReturn(catalogWithMood(3L, "dreamy"));
+
+        // when
+        VibeHistoryBackfillJob.Batch batch = job.backfillBatch(0L);
+
+        // then
+        assertThat(batch).isEqualTo(new VibeHistoryBackfillJob.Batch(2, 1, 2L));
+        ArgumentCaptor<List<VibeHistory>> saved = ArgumentCaptor.forClass(List.class);
+        then(vibeHistoryRepository).should().saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(history -> {
+            assertThat(history.getSessionId()).isEqualTo(2L);
+            assertThat(history.getPhrase()).isEqualTo("문구 2");
+            // 카탈로그에서 사라진 키워드(9)는 건너뜀
+            assertThat(history.getMoodValues()).containsExactly("dreamy");
+        });
+    }
+
+    @Test
+    @DisplayName("마지막 session_id 다음부터 이어서 읽고, 빈 배치에서 종료")
+    void backfill_walksBySessionId() {
+        // given
+        given(vibeSessionRepository.findCompletedWithDetailsAfter(0L, Limit.of(2)))
+                .willReturn(List.of(completedSession(1L, List.of()), completedSession(2L, List.of())));
+        given(vibeSessionRepository.findCompletedWithDetailsAfter(2L, Limit.of(2)))
+                .willReturn(List.of(completedSession(5L, List.of())));
+        given(vibeSessionRepository.findCompletedWithDetailsAfter(5L, Limit.of(2))).willReturn(List.of());
+        given(vibeHistoryRepository.findExistingIds(anyList())).willReturn(Set.of());
+        given(optionCatalog.snapshot()).willReturn(catalogWithMood(3L, "dreamy"));
+
+        // when
+        job.backfill();
+
+        // then
+        then(vibeHistoryRepository).should(times(2)).saveAll(anyList());
+        then(vibeSessionRepository).should().findCompletedWithDetailsAfter(5L, Limit.of(2));
+    }
+
+    private OptionCatalog.Snapshot catalogWithMood(Long id, String value) {
+        MoodKeyword mood = BeanUtils.instantiateClass(MoodKeyword.class);
+        ReflectionTestUtils.setField(mood, "keywordId", id);
+        ReflectionTestUtils.setField(mood, "keywordValue", value);
+        return new OptionCatalog.Snapshot(1L, Map.of(id, mood), Map.of(), Map.of(), Map.of(), Map.of(), "ko", Map.of());
+    }
+
+    private VibeSession completedSession(Long sessionId, List<Long> moodKeywordIds) {
+        VibeSession session = VibeSession.builder().userId(1L).build();
+        ReflectionTestUtils.setField(session, "sessionId", sessionId);
+        ReflectionTestUtils.setField(session, "createdAt", LocalDateTime.now());
+        session.complete();
+
+        VibePrompt prompt = VibePrompt.builder().vibeSession(session).moodKeywordIds(moodKeywordIds).build();
+        VibeResult result = VibeResult.builder().vibeSession(session).phrase("문구 " + sessionId).build();
+        ReflectionTestUtils.setField(session, "vibePrompt", prompt);
+        ReflectionTestUtils.setField(session, "vibeResult", result);
+        return session;
+    }
+}
@@ -0,0 +1,101 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.domain.trend.service.MoodUsageCounter;
+import com.link.vibe.domain.vibe.dto.VibeHistoryPageResponse;
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import com.link.vibe.domain.vibe.entity.VibePrompt;
+import com.link.vibe.domain.vibe.entity.VibeResult;
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
+import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 히스토리 조회가 페이지 크기와 관계없이 SQL 한 번으로 끝나는지 H2에서 실제 실행된 문장 수로 확인한다.
+ * 목 호출 횟수와 달리 지연 로딩·컬렉션 조회로 생기는 추가 SELECT까지 잡힌다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class VibeHistoryQueryCountTest {
+
+    private static final long USER_ID = 1L;
+    private static final int ROWS = 250;
+
+    @Autowired
+    private VibeHistoryRepository vibeHistoryRepository;
+    @Autowired
+    private VibeSessionRepository vibeSessionRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private VibeService vibeService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        vibeService = new VibeService(vibeSessionRepository, vibeHistoryRepository,
+                mock(VibeSessionWriter.class), mock(OptionCatalog.class), mock(OpenAiService.class),
+                mock(VibeResultCache.class), mock(VibeSingleFlight.class), mock(VibeStreamRegistry.class),
+                mock(ApplicationEventPublisher.class), mock(MoodUsageCounter.class), mock(AsyncTaskExecutor.class));
+
+        vibeHistoryRepository.saveAll(IntStream.rangeClosed(1, ROWS).mapToObj(this::history).toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    @DisplayName("Vibe 이력 조회 - 첫 페이지와 커서 페이지 모두 페이지 크기와 관계없이 SQL 1회")
+    void getHistory_preparesOneStatementPerPage(int size) {
+        // when
+        VibeHistoryPageResponse first = vibeService.getHistory(USER_ID, null, size);
+        long firstPageStatements = statistics.getPrepareStatementCount();
+        VibeHistoryPageResponse next = vibeService.getHistory(USER_ID, first.nextCursor(), size);
+
+        // then
+        assertThat(first.items()).hasSize(size)
+                .allSatisfy(h -> assertThat(h.moods()).containsExactly("dreamy", "languid"));
+        assertThat(next.items()).hasSize(size);
+        assertThat(firstPageStatements).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    private VibeHistory history(int i) {
+        VibeSession session = VibeSession.builder().userId(USER_ID).build();
+        ReflectionTestUtils.setField(session, "sessionId", (long) i);
+        ReflectionTestUtils.setField(session, "createdAt", LocalDateTime.now().minusMinutes(i));
+        VibePrompt prompt = VibePrompt.builder().vibeSession(session).moodKeywordIds(List.of(1L, 3L)).build();
+        VibeResult result = VibeResult.builder()
+                .vibeSession(session)
+                .phrase("비 오는 오후, 따뜻한 코코아 한 잔의 여유 " + i)
+                .processingTimeMs(1200)
+                .build();
+        return VibeHistory.of(session, prompt, result, List.of("dreamy", "languid"));
+    }
+}
@@ -0,0 +1,201 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.option.entity.*;
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.domain.trend.entity.MoodTrend;
+import com.link.vibe.domain.trend.repository.MoodTrendRepository;
+import com.link.vibe.domain.vibe.repository.VibePromptRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class VibePrewarmJobTest {
+
+    // 시스템 기본 시간대(UTC)와 날짜가 자주 갈리는 시간대 — 집계일을 시스템 날짜로 구하면 스텁이 맞지 않는다
+    private static final String ZONE = "Pacific/Kiritimati";
+    private static final VibeCacheKey CALM = new VibeCacheKey(List.of(1L, 3L), 1L, 1L, 1L, 1L, "ko");
+    private static final VibeCacheKey HOT = new VibeCacheKey(List.of(2L), 1L, 1L, 1L, 1L, "ko");
+
+    @Mock
+    private VibePromptRepository vibePromptRepository;
+    @Mock
+    private MoodTrendRepository moodTrendRepository;
+    @Mock
+    private OptionCatalog optionCatalog;
+    @Mock
+    private OpenAiService openAiService;
+
+    private VibeResultCache vibeResultCache;
+    private VibePrewarmJob job;
+
+    @BeforeEach
+    void setUp() {
+        vibeResultCache = new VibeResultCache(100, Duration.ofHours(1), 2, new SimpleMeterRegistry());
+        job = new VibePrewarmJob(vibePromptRepository, moodTrendRepository, optionCatalog, openAiService,
+                vibeResultCache, Duration.ofDays(7), 10, 2, Duration.ofMinutes(10), ZONE);
+        given(optionCatalog.snapshot()).willReturn(catalog());
+    }
+
+    @Test
+    @DisplayName("기분 순서만 다른 조합은 합산하고, 트렌드 성장률로 순위를 보정")
+    void rankCombinations_mergesPermutationsAndAppliesTrendBoost() {
+        // given — CALM: 3+2=5회, HOT: 4회지만 키워드 2번 성장률 50% → 6점
+        given(vibePromptRepository.findPopularCombinations(any(), anyInt())).willReturn(List.of(
+                usage("1,3", 3L),
+                usage("2", 4L),
+                usage("3,1", 2L)
+        ));
+        LocalDate yesterday = LocalDate.now(ZoneId.of(ZONE)).minusDays(1);
+        given(moodTrendRepository.findLatestTrendDateBefore(LocalDate.now(ZoneId.of(ZONE)))).willReturn(Optional.of(yesterday));
+        given(moodTrendRepository.findByTrendDate(yesterday)).willReturn(List.of(trend(2L, "50.00")));
+
+        // when
+        List<VibeCacheKey> ranked = job.rankCombinations();
+
+        // then
+        assertThat(ranked).containsExactly(HOT, CALM);
+    }
+
+    @Test
+    @DisplayName("비활성 옵션이 포함된 조합은 제외")
+    void rankCombinations_skipsInactiveOptions() {
+        // given
+        given(vibePromptRepository.findPopularCombinations(any(), anyInt())).willReturn(List.of(
+                usage("1", 10L, 2L),
+                usage("2", 1L, 1L)
+        ));
+        given(moodTrendRepository.findLatestTrendDateBefore(any())).willReturn(Optional.empty());
+
+        // when
+        List<VibeCacheKey> ranked = job.rankCombinations();
+
+        // then
+        assertThat(ranked).containsExactly(HOT);
+    }
+
+    @Test
+    @DisplayName("변형 풀이 가득 찰 때까지 생성하고, 이미 찬 조합은 호출하지 않음")
+    void prewarm_fillsPoolsUntilFull() {
+        // given
+        given(vibePromptRepository.findPopularCombinations(any(), anyInt())).willReturn(List.of(
+                usage("1,3", 5L),
+                usage("2", 3L)
+        ));
+        given(moodTrendRepository.findLatestTrendDateBefore(any())).willReturn(Optional.empty());
+        vibeResultCache.put(HOT, new OpenAiService.VibeResult("문구A", "분석A"));
+        vibeResultCache.put(HOT, new OpenAiService.VibeResult("문구B", "분석B"));
+        given(openAiService.generateVibe(eq(List.of("languid", "dreamy")), anyString(), anyString(), anyString(),
+                anyString(), eq("ko")))
+                .willReturn(new OpenAiService.VibeResult("문구1", "분석1"),
+                        new OpenAiService.VibeResult("문구1", "분석1"),
+                        new OpenAiService.VibeResult("문구2", "분석2"));
+
+        // when
+        job.prewarm();
+
+        // then
+        assertThat(vibeResultCache.isFull(CALM)).isTrue();
+        then(openAiService).should(times(3))
+                .generateVibe(anyList(), anyString(), anyString(), anyString(), anyString(), eq("ko"));
+    }
+
+    @Test
+    @DisplayName("폴백 응답이 나오면 해당 조합 생성을 중단")
+    void prewarm_stopsOnFallback() {
+        // given
+        given(vibePromptRepository.findPopularCombinations(any(), anyInt())).willReturn(List.of(usage("1,3", 5L)));
+        given(moodTrendRepository.findLatestTrendDateBefore(any())).willReturn(Optional.empty());
+        given(openAiService.generateVibe(anyList(), anyString(), anyString(), anyString(), anyString(), eq("ko")))
+                .willReturn(new OpenAiService.VibeResult("폴백", "분석", true));
+
+        // when
+        job.prewarm();
+
+        // then
+        assertThat(vibeResultCache.missingVariants(CALM)).isEqualTo(2);
+        then(openAiService).should(times(1))
+                .generateVibe(anyList(), anyString(), anyString(), anyString(), anyString(), eq("ko"));
+    }
+
+    private OptionCatalog.Snapshot catalog() {
+        return new OptionCatalog.Snapshot(
+                1L,
+                Map.of(1L, createMoodKeyword(1L, "languid"),
+                        2L, createMoodKeyword(2L, "cozy"),
+                        3L, createMoodKeyword(3L, "dreamy")),
+                Map.of(1L, createTimeOption(1L, "afternoon", true),
+                        2L, createTimeOption(2L, "dawn", false)),
+                Map.of(1L, createOption(WeatherOption.class, "weatherId", "weatherKey", 1L, "chilly")),
+                Map.of(1L, createOption(PlaceOption.class, "placeId", "placeKey", 1L, "cafe")),
+                Map.of(1L, createOption(CompanionOption.class, "companionId", "companionKey", 1L, "alone")),
+                "ko",
+                Map.of()
+        );
+    }
+
+    private static VibePromptRepository.CombinationUsage usage(String moodKeywordIds, long count) {
+        return usage(moodKeywordIds, count, 1L);
+    }
+
+    private static VibePromptRepository.CombinationUsage usage(String moodKeywordIds, long count, long timeId) {
+        return new VibePromptRepository.CombinationUsage() {
+            public String getMoodKeywordIds() { return moodKeywordIds; }
+            public Long getTimeId() { return timeId; }
+            public Long getWeatherId() { return 1L; }
+            public Long getPlaceId() { return 1L; }
+            public Long getCompanionId() { return 1L; }
+            public Long getUsageCount() { return count; }
+        };
+    }
+
+    private MoodTrend trend(Long keywordId, String growthRate) {
+        MoodTrend trend = BeanUtils.instantiateClass(MoodTrend.class);
+        ReflectionTestUtils.setField(trend, "keywordId", keywordId);
+        ReflectionTestUtils.setField(trend, "growthRate", new BigDecimal(growthRate));
+        return trend;
+    }
+
+    private MoodKeyword createMoodKeyword(Long id, String value) {
+        MoodKeyword entity = BeanUtils.instantiateClass(MoodKeyword.class);
+        ReflectionTestUtils.setField(entity, "keywordId", id);
+        ReflectionTestUtils.setField(entity, "keywordValue", value);
+        return entity;
+    }
+
+    private TimeOption createTimeOption(Long id, String key, boolean active) {
+        TimeOption entity = BeanUtils.instantiateClass(TimeOption.class);
+        ReflectionTestUtils.setField(entity, "timeId", id);
+        ReflectionTestUtils.setField(entity, "timeKey", key);
+        ReflectionTestUtils.setField(entity, "isActive", active);
+        return entity;
+    }
+
+    private <T> T createOption(Class<T> clazz, String idField, String keyField, Long id, String key) {
+        T entity = BeanUtils.instantiateClass(clazz);
+        ReflectionTestUtils.setField(entity, idField, id);
+        ReflectionTestUtils.setField(entity, keyField, key);
+        ReflectionTestUtils.setField(entity, "isActive", true);
+        return entity;
+    }
+}
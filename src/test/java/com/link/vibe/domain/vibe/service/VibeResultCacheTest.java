@@ -0,0 +1,57 @@
+package com.link.vibe.domain.vibe.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VibeResultCacheTest {
+
+    private static final VibeCacheKey KEY = new VibeCacheKey(List.of(3L, 1L), 3L, 1L, 1L, 1L, "ko");
+
+    private SimpleMeterRegistry meterRegistry;
+    private VibeResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VibeResultCache(100, Duration.ofHours(1), 2, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("변형 풀이 가득 차기 전까지는 미스로 처리")
+    void get_partialPool_isMiss() {
+        cache.put(KEY, new OpenAiService.VibeResult("문구1", "분석1"));
+
+        assertThat(cache.get(KEY)).isEmpty();
+        assertThat(meterRegistry.get("vibe.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변형 풀이 가득 차면 풀 안의 변형으로 응답")
+    void get_fullPool_isHit() {
+        cache.put(KEY, new OpenAiService.VibeResult("문구1", "분석1"));
+        cache.put(KEY, new OpenAiService.VibeResult("문구2", "분석2"));
+
+        assertThat(cache.get(new VibeCacheKey(List.of(1L, 3L), 3L, 1L, 1L, 1L, "ko")))
+                .hasValueSatisfying(result -> assertThat(result.phrase()).isIn("문구1", "문구2"));
+        assertThat(meterRegistry.get("vibe.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("vibe.cache.variants").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중복 문구와 폴백 응답은 변형으로 저장하지 않음")
+    void put_ignoresDuplicatesAndFallbacks() {
+        cache.put(KEY, new OpenAiService.VibeResult("문구1", "분석1"));
+        cache.put(KEY, new OpenAiService.VibeResult("문구1", "다른 분석"));
+        cache.put(KEY, new OpenAiService.VibeResult("기본 문구", "기본 분석", true));
+
+        assertThat(cache.isFull(KEY)).isFalse();
+        assertThat(meterRegistry.get("vibe.cache.variants.added").counter().count()).isEqualTo(1);
+    }
+}
@@ -1,18 +1,21 @@
 package com.link.vibe.domain.vibe.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.vibe.domain.item.service.VibeCompletedEvent;
 import com.link.vibe.domain.option.entity.*;
-import com.link.vibe.domain.option.repository.*;
+import com.link.vibe.domain.option.service.OptionCatalog;
+import com.link.vibe.domain.trend.service.MoodUsageCounter;
 import com.link.vibe.domain.vibe.dto.VibeCreateRequest;
+import com.link.vibe.domain.vibe.dto.VibeHistoryPageResponse;
 import com.link.vibe.domain.vibe.dto.VibeHistoryResponse;
 import com.link.vibe.domain.vibe.dto.VibeResultResponse;
+import com.link.vibe.domain.vibe.dto.VibeSessionStatusResponse;
 import com.link.vibe.domain.vibe.entity.VibePrompt;
 import com.link.vibe.domain.vibe.entity.VibeResult;
 import com.link.vibe.domain.vibe.entity.VibeSession;
-import com.link.vibe.domain.vibe.repository.VibePromptRepository;
-import com.link.vibe.domain.vibe.repository.VibeResultRepository;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
 import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
 import com.link.vibe.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,43 +23,63 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class VibeServiceTest {
 
+    private static final OptionCatalog.Labels EMPTY_LABELS =
+            new OptionCatalog.Labels(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
     @InjectMocks
     private VibeService vibeService;
 
     @Mock
     private VibeSessionRepository vibeSessionRepository;
     @Mock
-    private VibePromptRepository vibePromptRepository;
+    private VibeHistoryRepository vibeHistoryRepository;
+    @Mock
+    private VibeSessionWriter vibeSessionWriter;
     @Mock
-    private VibeResultRepository vibeResultRepository;
+    private OptionCatalog optionCatalog;
     @Mock
-    private MoodKeywordRepository moodKeywordRepository;
+    private OpenAiService openAiService;
     @Mock
-    private TimeOptionRepository timeOptionRepository;
+    private VibeResultCache vibeResultCache;
     @Mock
-    private WeatherOptionRepository weatherOptionRepository;
+    private VibeStreamRegistry vibeStreamRegistry;
     @Mock
-    private PlaceOptionRepository placeOptionRepository;
+    private ApplicationEventPublisher eventPublisher;
     @Mock
-    private CompanionOptionRepository companionOptionRepository;
+    private MoodUsageCounter moodUsageCounter;
     @Mock
-    private OpenAiService openAiService;
+    private AsyncTaskExecutor vibeGenerationExecutor;
     @Spy
-    private ObjectMapper objectMapper = new ObjectMapper();
+    private VibeSingleFlight vibeSingleFlight = new VibeSingleFlight(100, Duration.ofSeconds(5),
+            Duration.ofSeconds(10), Duration.ofSeconds(30), true, new SimpleMeterRegistry());
 
     @Test
     @DisplayName("Vibe 생성 성공")
@@ -69,31 +92,22 @@ class VibeServiceTest {
         PlaceOption place = createPlaceOption(1L, "cafe");
         CompanionOption companion = createCompanionOption(1L, "alone");
 
-        given(moodKeywordRepository.findAllById(List.of(1L, 3L))).willReturn(List.of(mood1, mood2));
-        given(timeOptionRepository.findById(3L)).willReturn(Optional.of(time));
-        given(weatherOptionRepository.findById(1L)).willReturn(Optional.of(weather));
-        given(placeOptionRepository.findById(1L)).willReturn(Optional.of(place));
-        given(companionOptionRepository.findById(1L)).willReturn(Optional.of(companion));
-        given(openAiService.generateVibe(anyList(), anyString(), anyString(), anyString(), anyString()))
+        given(optionCatalog.snapshot()).willReturn(catalogOf(
+                List.of(mood1, mood2), List.of(time), List.of(weather), List.of(place), List.of(companion)));
+        given(openAiService.generateVibe(anyList(), anyString(), anyString(), anyString(), anyString(), anyString()))
                 .willReturn(new OpenAiService.VibeResult(
                         "노곤한 오후, 카페 창가에 혼자 앉아 커피 향에 기대는 나른한 몽글몽글함",
                         "나른함과 몽글몽글함이라는 부드러운 감각이 어우러진 분위기입니다."
                 ));
-        given(openAiService.buildUserPrompt(anyList(), anyString(), anyString(), anyString(), anyString()))
+        given(openAiService.buildSelectionPrompt(anyList(), anyString(), anyString(), anyString(), anyString()))
                 .willReturn("기분: languid, dreamy\n시간: afternoon\n날씨: chilly\n공간: cafe\n동반자: alone\n");
-        given(vibeSessionRepository.save(any(VibeSession.class))).willAnswer(invocation -> {
-            VibeSession session = invocation.getArgument(0);
-            setField(session, "sessionId", 1L);
-            setField(session, "createdAt", LocalDateTime.now());
-            return session;
-        });
-        given(vibePromptRepository.save(any(VibePrompt.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(vibeResultRepository.save(any(VibeResult.class))).willAnswer(invocation -> invocation.getArgument(0));
+        VibeSession session = createSession(1L);
+        given(vibeSessionWriter.open(1L)).willReturn(session);
 
         VibeCreateRequest request = new VibeCreateRequest(List.of(1L, 3L), 3L, 1L, 1L, 1L);
 
         // when
-        VibeResultResponse response = vibeService.createVibe(request);
+        VibeResultResponse response = vibeService.createVibe(request, null);
 
         // then
         assertThat(response.sessionId()).isEqualTo(1L);
@@ -103,18 +117,216 @@ class VibeServiceTest {
         assertThat(response.selectedOptions().weather()).isEqualTo("chilly");
         assertThat(response.selectedOptions().place()).isEqualTo("cafe");
         assertThat(response.selectedOptions().companion()).isEqualTo("alone");
+        then(vibeSessionWriter).should().complete(eq(session), any(VibePrompt.class), any(VibeResult.class),
+                eq(List.of("languid", "dreamy")));
+        then(eventPublisher).should().publishEvent(
+                new VibeCompletedEvent(null, List.of(1L, 3L), time, weather, place, companion, "ko"));
+        then(moodUsageCounter).should().record(List.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("결과 저장 실패 시 세션을 취소 처리")
+    void createVibe_completeFails_cancelsSession() {
+        // given
+        MoodKeyword mood = createMoodKeyword(1L, "languid", "감정");
+        TimeOption time = createTimeOption(3L, "afternoon");
+        WeatherOption weather = createWeatherOption(1L, "chilly");
+        PlaceOption place = createPlaceOption(1L, "cafe");
+        CompanionOption companion = createCompanionOption(1L, "alone");
+
+        given(optionCatalog.snapshot()).willReturn(catalogOf(
+                List.of(mood), List.of(time), List.of(weather), List.of(place), List.of(companion)));
+        given(vibeSessionWriter.open(1L)).willReturn(createSession(3L));
+        given(openAiService.generateVibe(anyList(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .willReturn(new OpenAiService.VibeResult("문구", "분석"));
+        willThrow(new IllegalStateException("DB 오류")).given(vibeSessionWriter)
+                .complete(any(VibeSession.class), any(VibePrompt.class), any(VibeResult.class), anyList());
+
+        VibeCreateRequest request = new VibeCreateRequest(List.of(1L), 3L, 1L, 1L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> vibeService.createVibe(request, null))
+                .isInstanceOf(IllegalStateException.class);
+        then(vibeSessionWriter).should().cancel(3L);
+    }
+
+    @Test
+    @DisplayName("캐시된 조합으로 Vibe 생성 시 OpenAI를 호출하지 않고 처리 시간 0으로 기록")
+    void createVibe_cacheHit_skipsOpenAi() {
+        // given
+        MoodKeyword mood1 = createMoodKeyword(1L, "languid", "감정");
+        MoodKeyword mood2 = createMoodKeyword(3L, "dreamy", "분위기");
+        TimeOption time = createTimeOption(3L, "afternoon");
+        WeatherOption weather = createWeatherOption(1L, "chilly");
+        PlaceOption place = createPlaceOption(1L, "cafe");
+        CompanionOption companion = createCompanionOption(1L, "alone");
+
+        given(optionCatalog.snapshot()).willReturn(catalogOf(
+                List.of(mood1, mood2), List.of(time), List.of(weather), List.of(place), List.of(companion)));
+        given(vibeResultCache.get(new VibeCacheKey(List.of(1L, 3L), 3L, 1L, 1L, 1L, "ko")))
+                .willReturn(Optional.of(new OpenAiService.VibeResult("캐시된 문구", "캐시된 분석")));
+        given(vibeSessionWriter.open(1L)).willReturn(createSession(2L));
+
+        // 선택 순서가 달라도 같은 조합으로 취급
+        VibeCreateRequest request = new VibeCreateRequest(List.of(3L, 1L), 3L, 1L, 1L, 1L);
+
+        // when
+        VibeResultResponse response = vibeService.createVibe(request, null);
+
+        // then
+        assertThat(response.phrase()).isEqualTo("캐시된 문구");
+        assertThat(response.processingTimeMs()).isZero();
+        then(openAiService).should(never()).generateVibe(anyList(), anyString(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Accept-Language에 맞는 번역으로 프롬프트를 만들고 캐시 키를 언어별로 나눔")
+    void createVibe_localizedPrompt() {
+        // given
+        MoodKeyword mood = createMoodKeyword(1L, "languid", "감정");
+        TimeOption time = createTimeOption(3L, "afternoon");
+        WeatherOption weather = createWeatherOption(1L, "chilly");
+        PlaceOption place = createPlaceOption(1L, "cafe");
+        CompanionOption companion = createCompanionOption(1L, "alone");
+        OptionCatalog.Snapshot catalog = catalogOf(
+                List.of(mood), List.of(time), List.of(weather), List.of(place), List.of(companion));
+        OptionCatalog.Labels english = new OptionCatalog.Labels(
+                Map.of(1L, "Languid"), Map.of(), Map.of(1L, "Chilly"), Map.of(), Map.of());
+
+        given(optionCatalog.snapshot()).willReturn(new OptionCatalog.Snapshot(catalog.version(), catalog.moods(),
+                catalog.times(), catalog.weathers(), catalog.places(), catalog.companions(),
+                "ko", Map.of("ko", EMPTY_LABELS, "en", english)));
+        given(vibeSessionWriter.open(1L)).willReturn(createSession(4L));
+        given(openAiService.generateVibe(anyList(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .willReturn(new OpenAiService.VibeResult("A languid afternoon", "Soft and slow."));
+        given(openAiService.buildSelectionPrompt(List.of("languid"), "afternoon", "chilly", "cafe", "alone"))
+                .willReturn("기분: languid\n시간: afternoon\n날씨: chilly\n공간: cafe\n동반자: alone\n");
+
+        VibeCreateRequest request = new VibeCreateRequest(List.of(1L), 3L, 1L, 1L, 1L);
+
+        // when
+        VibeResultResponse response = vibeService.createVibe(request, "en-US,en;q=0.9,ko;q=0.8");
+
+        // then — 번역이 없는 공간/동반자는 키로 대체, 응답과 저장 프롬프트에는 키를 유지
+        then(vibeResultCache).should().get(new VibeCacheKey(List.of(1L), 3L, 1L, 1L, 1L, "en"));
+        then(openAiService).should().generateVibe(
+                List.of("Languid"), "afternoon", "Chilly", "cafe", "alone", "en");
+        assertThat(response.selectedOptions().moods()).containsExactly("languid");
+        assertThat(response.selectedOptions().weather()).isEqualTo("chilly");
+        then(vibeSessionWriter).should().complete(any(), argThat((VibePrompt prompt) ->
+                prompt.getFinalPrompt().equals("기분: languid\n시간: afternoon\n날씨: chilly\n공간: cafe\n동반자: alone\n")),
+                any(), eq(List.of("languid")));
+    }
+
+    @Test
+    @DisplayName("비동기 Vibe 생성 - 스트림 delta 전달 후 완료 이벤트 발행")
+    void startVibe_streamsDeltasAndCompletes() {
+        // given
+        given(optionCatalog.snapshot()).willReturn(singleOptionCatalog());
+        VibeSession session = createSession(5L);
+        given(vibeSessionWriter.open(1L)).willReturn(session);
+        given(vibeSessionWriter.isOpen(session)).willReturn(true);
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(vibeGenerationExecutor).execute(any(Runnable.class));
+        given(openAiService.streamVibe(anyList(), anyString(), anyString(), anyString(), anyString(), anyString(), any()))
+                .willAnswer(invocation -> {
+                    Consumer<String> onDelta = invocation.getArgument(6);
+                    onDelta.accept("{\"phrase\": \"문구\"");
+                    onDelta.accept(", \"analysis\": \"분석\"}");
+                    return new OpenAiService.VibeResult("문구", "분석");
+                });
+
+        VibeCreateRequest request = new VibeCreateRequest(List.of(1L), 3L, 1L, 1L, 1L);
+
+        // when
+        VibeSessionStatusResponse status = vibeService.startVibe(request, null);
+
+        // then
+        assertThat(status.sessionId()).isEqualTo(5L);
+        assertThat(status.status()).isEqualTo("IN_PROGRESS");
+        then(vibeStreamRegistry).should().open(5L);
+        then(vibeStreamRegistry).should(times(2)).delta(eq(5L), anyString());
+        then(vibeStreamRegistry).should().complete(eq(5L), any(VibeResultResponse.class));
+    }
+
+    @Test
+    @DisplayName("비동기 Vibe 생성 - 생성 중 Error가 나도 세션을 취소하고 스트림을 실패로 닫은 뒤 Error를 다시 던짐")
+    void startVibe_error_cancelsSessionAndFailsStream() {
+        // given
+        VibeSession session = createSession(8L);
+        given(optionCatalog.snapshot()).willReturn(singleOptionCatalog());
+        given(vibeSessionWriter.open(1L)).willReturn(session);
+        given(vibeSessionWriter.isOpen(session)).willReturn(true);
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(vibeGenerationExecutor).execute(any(Runnable.class));
+        given(openAiService.streamVibe(anyList(), anyString(), anyString(), anyString(), anyString(), anyString(), any()))
+                .willThrow(new LinkageError("클래스 로딩 실패"));
+
+        VibeCreateRequest request = new VibeCreateRequest(List.of(1L), 3L, 1L, 1L, 1L);
+
+        // when & then — 테스트의 executor는 호출 스레드에서 실행하므로 Error가 startVibe 밖으로 나온다
+        assertThatThrownBy(() -> vibeService.startVibe(request, null)).isInstanceOf(LinkageError.class);
+        then(vibeSessionWriter).should().cancel(8L);
+        then(vibeStreamRegistry).should().fail(eq(8L), anyString());
+    }
+
+    @Test
+    @DisplayName("비동기 Vibe 생성 - 대기열에서 세션이 종료·방치되면 OpenAI를 호출하지 않고 실패 처리")
+    void startVibe_staleWhenStarted_skipsGeneration() {
+        // given
+        VibeSession session = createSession(7L);
+        given(optionCatalog.snapshot()).willReturn(singleOptionCatalog());
+        given(vibeSessionWriter.open(1L)).willReturn(session);
+        given(vibeSessionWriter.isOpen(session)).willReturn(false);
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(vibeGenerationExecutor).execute(any(Runnable.class));
+
+        VibeCreateRequest request = new VibeCreateRequest(List.of(1L), 3L, 1L, 1L, 1L);
+
+        // when
+        vibeService.startVibe(request, null);
+
+        // then
+        then(openAiService).shouldHaveNoInteractions();
+        then(vibeSessionWriter).should(never()).complete(any(), any(), any(), any());
+        then(vibeSessionWriter).should().cancel(7L);
+        then(vibeStreamRegistry).should().fail(eq(7L), anyString());
+    }
+
+    @Test
+    @DisplayName("비동기 Vibe 생성 - 실행 대기열 초과 시 세션 취소 후 503")
+    void startVibe_rejected_cancelsSession() {
+        // given
+        given(optionCatalog.snapshot()).willReturn(singleOptionCatalog());
+        given(vibeSessionWriter.open(1L)).willReturn(createSession(6L));
+        willThrow(new TaskRejectedException("queue full"))
+                .given(vibeGenerationExecutor).execute(any(Runnable.class));
+
+        VibeCreateRequest request = new VibeCreateRequest(List.of(1L), 3L, 1L, 1L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> vibeService.startVibe(request, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("요청이 많아");
+        then(vibeSessionWriter).should().cancel(6L);
     }
 
     @Test
     @DisplayName("존재하지 않는 옵션 ID로 Vibe 생성 시 예외")
     void createVibe_invalidOptionId_throwsException() {
         // given
-        given(moodKeywordRepository.findAllById(List.of(999L))).willReturn(List.of());
+        given(optionCatalog.snapshot()).willReturn(catalogOf(List.of(), List.of(), List.of(), List.of(), List.of()));
 
         VibeCreateRequest request = new VibeCreateRequest(List.of(999L), 3L, 1L, 1L, 1L);
 
         // when & then
-        assertThatThrownBy(() -> vibeService.createVibe(request))
+        assertThatThrownBy(() -> vibeService.createVibe(request, null))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("유효하지 않은 기분 키워드");
     }
@@ -124,13 +336,12 @@ class VibeServiceTest {
     void createVibe_invalidTimeId_throwsException() {
         // given
         MoodKeyword mood = createMoodKeyword(1L, "languid", "감정");
-        given(moodKeywordRepository.findAllById(List.of(1L))).willReturn(List.of(mood));
-        given(timeOptionRepository.findById(999L)).willReturn(Optional.empty());
+        given(optionCatalog.snapshot()).willReturn(catalogOf(List.of(mood), List.of(), List.of(), List.of(), List.of()));
 
         VibeCreateRequest request = new VibeCreateRequest(List.of(1L), 999L, 1L, 1L, 1L);
 
         // when & then
-        assertThatThrownBy(() -> vibeService.createVibe(request))
+        assertThatThrownBy(() -> vibeService.createVibe(request, null))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("유효하지 않은 시간 옵션");
     }
@@ -139,47 +350,77 @@ class VibeServiceTest {
     @DisplayName("사용자별 히스토리 조회")
     void getHistory_success() {
         // given
-        MoodKeyword mood = createMoodKeyword(1L, "languid", "감정");
-        TimeOption time = createTimeOption(3L, "afternoon");
-        WeatherOption weather = createWeatherOption(1L, "chilly");
-        PlaceOption place = createPlaceOption(1L, "cafe");
-        CompanionOption companion = createCompanionOption(1L, "alone");
-
-        VibeSession session = createInstance(VibeSession.class);
-        setField(session, "sessionId", 1L);
-        setField(session, "userId", 1L);
-        setField(session, "status", "COMPLETED");
-        setField(session, "createdAt", LocalDateTime.now());
-
-        VibePrompt prompt = createInstance(VibePrompt.class);
-        setField(prompt, "vibeSession", session);
-        setField(prompt, "moodKeywordIds", "[1]");
-        setField(prompt, "timeOption", time);
-        setField(prompt, "weatherOption", weather);
-        setField(prompt, "placeOption", place);
-        setField(prompt, "companionOption", companion);
-
-        VibeResult result = createInstance(VibeResult.class);
-        setField(result, "vibeSession", session);
-        setField(result, "phrase", "분위기 문구");
-        setField(result, "aiAnalysis", "분석");
-        setField(result, "processingTimeMs", 1000);
-
-        setField(session, "vibePrompt", prompt);
-        setField(session, "vibeResult", result);
-
-        given(vibeSessionRepository.findByUserIdWithDetails(1L)).willReturn(List.of(session));
-        given(moodKeywordRepository.findAllById(List.of(1L))).willReturn(List.of(mood));
+        given(vibeHistoryRepository.findFirstPage(1L, Limit.of(21))).willReturn(List.of(new VibeHistoryResponse(
+                1L, "분위기 문구", List.of("languid"), "afternoon", "chilly", "cafe", "alone", LocalDateTime.now())));
 
         // when
-        List<VibeHistoryResponse> history = vibeService.getHistory(1L);
+        VibeHistoryPageResponse page = vibeService.getHistory(1L, null, 20);
 
         // then
+        List<VibeHistoryResponse> history = page.items();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
         assertThat(history).hasSize(1);
         assertThat(history.get(0).sessionId()).isEqualTo(1L);
         assertThat(history.get(0).phrase()).isEqualTo("분위기 문구");
         assertThat(history.get(0).moods()).containsExactly("languid");
         assertThat(history.get(0).time()).isEqualTo("afternoon");
+        assertThat(history.get(0).companion()).isEqualTo("alone");
+    }
+
+    @Test
+    @DisplayName("Vibe 이력 조회 - 한 건 더 있으면 마지막 항목 기준 커서로 다음 페이지를 조회")
+    void getHistory_nextPageSeeksFromCursor() {
+        // given
+        List<VibeHistoryResponse> rows = IntStream.of(5, 4, 3)
+                .mapToObj(i -> historyRow((long) i, List.of()))
+                .toList();
+        given(vibeHistoryRepository.findFirstPage(1L, Limit.of(3))).willReturn(rows);
+
+        // when
+        VibeHistoryPageResponse first = vibeService.getHistory(1L, null, 2);
+
+        // then
+        assertThat(first.items()).extracting(VibeHistoryResponse::sessionId).containsExactly(5L, 4L);
+        assertThat(first.hasNext()).isTrue();
+
+        VibeHistoryResponse last = rows.get(1);
+        given(vibeHistoryRepository.findPageAfter(1L, last.createdAt(), 4L, Limit.of(3)))
+                .willReturn(List.of(rows.get(2)));
+
+        VibeHistoryPageResponse second = vibeService.getHistory(1L, first.nextCursor(), 2);
+
+        assertThat(second.items()).extracting(VibeHistoryResponse::sessionId).containsExactly(3L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Vibe 이력 조회 - 잘못된 커서나 페이지 크기는 400")
+    void getHistory_invalidCursorOrSize() {
+        assertThatThrownBy(() -> vibeService.getHistory(1L, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("커서");
+        assertThatThrownBy(() -> vibeService.getHistory(1L, null, 101))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("페이지 크기");
+        then(vibeHistoryRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Vibe 상세 조회 - vibe_history에 있으면 원본 테이블을 조인하지 않음")
+    void getVibeDetail_servedFromHistory() {
+        // given
+        given(vibeHistoryRepository.findDetail(7L)).willReturn(Optional.of(new VibeResultResponse(
+                7L, "분위기 문구 7", "분석", List.of("languid"), "afternoon", "chilly", "cafe", "alone", 0, LocalDateTime.now())));
+
+        // when
+        VibeResultResponse response = vibeService.getVibeDetail(7L);
+
+        // then
+        assertThat(response.sessionId()).isEqualTo(7L);
+        assertThat(response.phrase()).isEqualTo("분위기 문구 7");
+        assertThat(response.selectedOptions().moods()).containsExactly("languid");
+        then(vibeSessionRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -196,6 +437,31 @@ class VibeServiceTest {
 
     // --- helper methods ---
 
+    private OptionCatalog.Snapshot singleOptionCatalog() {
+        return catalogOf(
+                List.of(createMoodKeyword(1L, "languid", "감정")),
+                List.of(createTimeOption(3L, "afternoon")),
+                List.of(createWeatherOption(1L, "chilly")),
+                List.of(createPlaceOption(1L, "cafe")),
+                List.of(createCompanionOption(1L, "alone"))
+        );
+    }
+
+    private OptionCatalog.Snapshot catalogOf(List<MoodKeyword> moods, List<TimeOption> times,
+                                             List<WeatherOption> weathers, List<PlaceOption> places,
+                                             List<CompanionOption> companions) {
+        return new OptionCatalog.Snapshot(
+                1L,
+                moods.stream().collect(Collectors.toMap(MoodKeyword::getKeywordId, m -> m)),
+                times.stream().collect(Collectors.toMap(TimeOption::getTimeId, t -> t)),
+                weathers.stream().collect(Collectors.toMap(WeatherOption::getWeatherId, w -> w)),
+                places.stream().collect(Collectors.toMap(PlaceOption::getPlaceId, p -> p)),
+                companions.stream().collect(Collectors.toMap(CompanionOption::getCompanionId, c -> c)),
+                "ko",
+                Map.of("ko", EMPTY_LABELS)
+        );
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T createInstance(Class<T> clazz) {
         try {
@@ -207,6 +473,18 @@ class VibeServiceTest {
         }
     }
 
+    private VibeSession createSession(Long sessionId) {
+        VibeSession session = VibeSession.builder().userId(1L).build();
+        setField(session, "sessionId", sessionId);
+        setField(session, "createdAt", LocalDateTime.now());
+        return session;
+    }
+
+    private VibeHistoryResponse historyRow(Long sessionId, List<String> moodValues) {
+        return new VibeHistoryResponse(sessionId, "분위기 문구 " + sessionId, moodValues,
+                null, null, null, null, LocalDateTime.now());
+    }
+
     private MoodKeyword createMoodKeyword(Long id, String value, String category) {
         MoodKeyword entity = createInstance(MoodKeyword.class);
         setField(entity, "keywordId", id);
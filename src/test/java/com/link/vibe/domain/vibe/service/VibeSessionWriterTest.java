@@ -0,0 +1,129 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.domain.vibe.entity.VibeHistory;
+import com.link.vibe.domain.vibe.entity.VibePrompt;
+import com.link.vibe.domain.vibe.entity.VibeResult;
+import com.link.vibe.domain.vibe.entity.VibeSession;
+import com.link.vibe.domain.vibe.repository.VibeHistoryRepository;
+import com.link.vibe.domain.vibe.repository.VibePromptRepository;
+import com.link.vibe.domain.vibe.repository.VibeResultRepository;
+import com.link.vibe.domain.vibe.repository.VibeSessionRepository;
+import com.link.vibe.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class VibeSessionWriterTest {
+
+    @Mock
+    private VibeSessionRepository vibeSessionRepository;
+    @Mock
+    private VibePromptRepository vibePromptRepository;
+    @Mock
+    private VibeResultRepository vibeResultRepository;
+    @Mock
+    private VibeHistoryRepository vibeHistoryRepository;
+
+    private VibeSessionWriter vibeSessionWriter;
+
+    @BeforeEach
+    void setUp() {
+        vibeSessionWriter = new VibeSessionWriter(vibeSessionRepository, vibePromptRepository,
+                vibeResultRepository, vibeHistoryRepository, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("진행 중인 세션이면 조회 없이 완료 처리하고 프롬프트/결과/히스토리를 저장")
+    void complete_inProgress_savesWithoutLoadingSession() {
+        // given
+        VibeSession session = createSession(1L);
+        given(vibeSessionRepository.completeIfInProgress(eq(1L), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        vibeSessionWriter.complete(session, prompt(session), result(session), List.of("languid"));
+
+        // then
+        then(vibeSessionRepository).should(never()).findById(any());
+        then(vibePromptRepository).should().save(any(VibePrompt.class));
+        then(vibeResultRepository).should().save(any(VibeResult.class));
+        then(vibeHistoryRepository).should().save(any(VibeHistory.class));
+    }
+
+    @Test
+    @DisplayName("이미 종료된 세션이면 409, 아무것도 저장하지 않음")
+    void complete_alreadyEnded_conflict() {
+        // given
+        VibeSession session = createSession(2L);
+        given(vibeSessionRepository.completeIfInProgress(eq(2L), any(LocalDateTime.class))).willReturn(0);
+        given(vibeSessionRepository.existsById(2L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> vibeSessionWriter.complete(session, prompt(session), result(session), List.of()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.CONFLICT);
+        then(vibePromptRepository).should(never()).save(any());
+        then(vibeHistoryRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 404")
+    void complete_missing_notFound() {
+        // given
+        VibeSession session = createSession(3L);
+        given(vibeSessionRepository.completeIfInProgress(eq(3L), any(LocalDateTime.class))).willReturn(0);
+        given(vibeSessionRepository.existsById(3L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> vibeSessionWriter.complete(session, prompt(session), result(session), List.of()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("status", HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("방치 기준을 넘긴 세션은 DB 조회 없이 닫힌 것으로 본다")
+    void isOpen_pastAbandonWindow_false() {
+        // given
+        VibeSession fresh = createSession(4L);
+        VibeSession stale = createSession(5L);
+        ReflectionTestUtils.setField(stale, "createdAt", LocalDateTime.now().minusMinutes(6));
+        given(vibeSessionRepository.existsBySessionIdAndStatus(4L, "IN_PROGRESS")).willReturn(true);
+
+        // when & then
+        assertThat(vibeSessionWriter.isOpen(fresh)).isTrue();
+        assertThat(vibeSessionWriter.isOpen(stale)).isFalse();
+        then(vibeSessionRepository).should(never()).existsBySessionIdAndStatus(eq(5L), any());
+    }
+
+    private VibePrompt prompt(VibeSession session) {
+        return VibePrompt.builder().vibeSession(session).moodKeywordIds(List.of(1L)).build();
+    }
+
+    private VibeResult result(VibeSession session) {
+        return VibeResult.builder().vibeSession(session).phrase("문구").aiAnalysis("분석").build();
+    }
+
+    private VibeSession createSession(Long sessionId) {
+        VibeSession session = VibeSession.builder().userId(1L).build();
+        ReflectionTestUtils.setField(session, "sessionId", sessionId);
+        ReflectionTestUtils.setField(session, "createdAt", LocalDateTime.now());
+        return session;
+    }
+}
@@ -0,0 +1,227 @@
+package com.link.vibe.domain.vibe.service;
+
+import com.link.vibe.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VibeSingleFlightTest {
+
+    private static final VibeCacheKey KEY = new VibeCacheKey(List.of(1L, 3L), 3L, 1L, 1L, 1L, "ko");
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("같은 조합의 동시 요청 N건은 upstream 1회 호출 결과를 함께 받음")
+    void execute_concurrentSameKey_callsUpstreamOnce() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VibeSingleFlight singleFlight = flight(100, READ_TIMEOUT, meterRegistry);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int requests = 20;
+
+        List<Future<OpenAiService.VibeResult>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(KEY, () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return new OpenAiService.VibeResult("문구", "분석");
+                })));
+            }
+            // 모든 요청이 leader의 호출에 붙을 때까지 대기 후 upstream 응답
+            while (meterRegistry.get("vibe.single-flight.calls").tag("role", "follower").counter().count() < requests - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<OpenAiService.VibeResult> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).phrase()).isEqualTo("문구");
+            }
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("대기자 상한을 넘은 요청은 별도로 upstream 호출")
+    void execute_overMaxWaiters_callsUpstreamSeparately() throws Exception {
+        VibeSingleFlight singleFlight = flight(0, READ_TIMEOUT, new SimpleMeterRegistry());
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<OpenAiService.VibeResult> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+                upstreamCalls.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return new OpenAiService.VibeResult("문구1", "분석");
+            }));
+            leaderStarted.await();
+
+            OpenAiService.VibeResult overflow = singleFlight.execute(KEY, () -> {
+                upstreamCalls.incrementAndGet();
+                return new OpenAiService.VibeResult("문구2", "분석");
+            });
+            release.countDown();
+
+            assertThat(overflow.phrase()).isEqualTo("문구2");
+            assertThat(leader.get(5, TimeUnit.SECONDS).phrase()).isEqualTo("문구1");
+        }
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("upstream 예외는 호출자에게 그대로 전달되고 다음 요청은 새로 호출")
+    void execute_upstreamFails_propagatesAndClears() {
+        VibeSingleFlight singleFlight = flight(100, READ_TIMEOUT, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> singleFlight.execute(KEY, () -> {
+            throw new IllegalStateException("upstream 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute(KEY, () -> new OpenAiService.VibeResult("문구", "분석")).phrase())
+                .isEqualTo("문구");
+    }
+
+    @Test
+    @DisplayName("leader에서 Error가 나도 follower는 같은 Error를 받고 멈추지 않음")
+    void execute_leaderThrowsError_releasesFollowers() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VibeSingleFlight singleFlight = flight(100, READ_TIMEOUT, meterRegistry);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<OpenAiService.VibeResult> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw new StackOverflowError("upstream 실패");
+            }));
+            leaderStarted.await();
+            Future<OpenAiService.VibeResult> follower = executor.submit(() -> singleFlight.execute(KEY,
+                    () -> new OpenAiService.VibeResult("문구", "분석")));
+            while (meterRegistry.get("vibe.single-flight.calls").tag("role", "follower").counter().count() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        }
+    }
+
+    @Test
+    @DisplayName("leader 호출의 마감 시각까지 끝나지 않으면 follower는 504로 끝남")
+    void execute_leaderTooSlow_followerTimesOut() throws Exception {
+        VibeSingleFlight singleFlight = flight(100, Duration.ofMillis(50), new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<OpenAiService.VibeResult> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+                leaderStarted.countDown();
+                await(release);
+                return new OpenAiService.VibeResult("문구", "분석");
+            }));
+            leaderStarted.await();
+
+            assertThatThrownBy(() -> singleFlight.execute(KEY, () -> new OpenAiService.VibeResult("문구2", "분석")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("지연");
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS).phrase()).isEqualTo("문구");
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 follower는 붙기 전 delta를 재생받고 이후 delta도 leader와 같은 순서로 받음")
+    void stream_followerReplaysAndReceivesDeltas() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VibeSingleFlight singleFlight = flight(100, READ_TIMEOUT, meterRegistry);
+        CountDownLatch firstDeltaSent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> leaderDeltas = new CopyOnWriteArrayList<>();
+        List<String> followerDeltas = new CopyOnWriteArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<OpenAiService.VibeResult> leader = executor.submit(() -> singleFlight.stream(KEY, leaderDeltas::add,
+                    onDelta -> {
+                        onDelta.accept("a");
+                        firstDeltaSent.countDown();
+                        await(release);
+                        onDelta.accept("b");
+                        return new OpenAiService.VibeResult("문구", "분석");
+                    }));
+            firstDeltaSent.await();
+            Future<OpenAiService.VibeResult> follower = executor.submit(() -> singleFlight.stream(KEY,
+                    followerDeltas::add, onDelta -> new OpenAiService.VibeResult("문구2", "분석")));
+            while (meterRegistry.get("vibe.single-flight.calls").tag("role", "follower").counter().count() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS).phrase()).isEqualTo("문구");
+            assertThat(follower.get(5, TimeUnit.SECONDS).phrase()).isEqualTo("문구");
+        }
+
+        assertThat(leaderDeltas).containsExactly("a", "b");
+        assertThat(followerDeltas).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("같은 조합이라도 스트리밍 요청은 진행 중인 일반 호출에 붙지 않음")
+    void stream_doesNotJoinBlockingFlight() throws Exception {
+        VibeSingleFlight singleFlight = flight(100, READ_TIMEOUT, new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> deltas = new CopyOnWriteArrayList<>();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<OpenAiService.VibeResult> blocking = executor.submit(() -> singleFlight.execute(KEY, () -> {
+                leaderStarted.countDown();
+                await(release);
+                return new OpenAiService.VibeResult("문구1", "분석");
+            }));
+            leaderStarted.await();
+
+            OpenAiService.VibeResult streamed = singleFlight.stream(KEY, deltas::add, onDelta -> {
+                onDelta.accept("델타");
+                return new OpenAiService.VibeResult("문구2", "분석");
+            });
+            release.countDown();
+
+            assertThat(streamed.phrase()).isEqualTo("문구2");
+            assertThat(deltas).containsExactly("델타");
+            assertThat(blocking.get(5, TimeUnit.SECONDS).phrase()).isEqualTo("문구1");
+        }
+    }
+
+    // 헤지를 끄고 응답 읽기 타임아웃만 두면 follower 마감은 leader 시작 + readTimeout
+    private static VibeSingleFlight flight(int maxWaiters, Duration readTimeout, SimpleMeterRegistry meterRegistry) {
+        return new VibeSingleFlight(maxWaiters, Duration.ZERO, Duration.ZERO, readTimeout, false, meterRegistry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
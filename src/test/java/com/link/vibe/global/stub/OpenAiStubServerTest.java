@@ -0,0 +1,97 @@
+package com.link.vibe.global.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.link.vibe.domain.vibe.service.AdaptiveConcurrencyLimiter;
+import com.link.vibe.domain.vibe.service.OpenAiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiStubServerTest {
+
+    private OpenAiStubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    @DisplayName("json_object 응답을 OpenAiService가 phrase/analysis로 파싱")
+    void generateVibe_parsesStubResponse() {
+        stub = OpenAiStubServer.start(0, OpenAiStubServer.Settings.of(LatencyProfile.fixed(Duration.ofMillis(10))));
+
+        OpenAiService.VibeResult result = openAiService().generateVibe(
+                List.of("calm"), "morning", "sunny", "cafe", "alone", "ko");
+
+        assertThat(result.fallback()).isFalse();
+        assertThat(result.phrase()).contains("1번째");
+        assertThat(stub.requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stream=true 요청은 delta 조각으로 나눠 전송")
+    void streamVibe_sendsDeltas() {
+        stub = OpenAiStubServer.start(0, OpenAiStubServer.Settings.of(LatencyProfile.fixed(Duration.ZERO)));
+        List<String> deltas = new ArrayList<>();
+
+        OpenAiService.VibeResult result = openAiService().streamVibe(
+                List.of("calm"), "morning", "sunny", "cafe", "alone", "ko", deltas::add);
+
+        assertThat(result.fallback()).isFalse();
+        assertThat(deltas).hasSizeGreaterThan(1);
+        assertThat(String.join("", deltas)).contains(result.phrase());
+    }
+
+    @Test
+    @DisplayName("오류 응답은 OpenAiService 폴백으로 처리")
+    void errorRate_producesFallback() {
+        stub = OpenAiStubServer.start(0, OpenAiStubServer.Settings.of(LatencyProfile.fixed(Duration.ZERO))
+                .withErrors(1.0, 500));
+
+        OpenAiService.VibeResult result = openAiService().generateVibe(
+                List.of("calm"), "morning", "sunny", "cafe", "alone", "ko");
+
+        assertThat(result.fallback()).isTrue();
+        assertThat(stub.errors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연 분포 표본은 max를 넘지 않음")
+    void latencyProfile_isCappedAtMax() {
+        LatencyProfile profile = LatencyProfile.of("lognormal", Duration.ofMillis(100), 2.0, Duration.ofMillis(300));
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(profile.sample(random)).isBetween(Duration.ZERO, Duration.ofMillis(300));
+        }
+    }
+
+    private OpenAiService openAiService() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100, Duration.ofSeconds(8), 0.9,
+                0.95, 50, Duration.ofSeconds(2), 1000, meterRegistry);
+        OpenAiService service = new OpenAiService(new RestTemplate(new JdkClientHttpRequestFactory()),
+                new ObjectMapper(), limiter, new SimpleAsyncTaskExecutor(), false, meterRegistry);
+        ReflectionTestUtils.setField(service, "apiUrl", stub.url());
+        ReflectionTestUtils.setField(service, "apiKey", "stub-key");
+        ReflectionTestUtils.setField(service, "model", "gpt-4o-mini");
+        ReflectionTestUtils.setField(service, "maxTokens", 500);
+        ReflectionTestUtils.setField(service, "temperature", 0.8);
+        return service;
+    }
+}